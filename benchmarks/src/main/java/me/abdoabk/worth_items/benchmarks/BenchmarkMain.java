@@ -0,0 +1,37 @@
+package me.abdoabk.worth_items.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.jar.
+ *
+ * Same as org.openjdk.jmh.Main, but defaults to the GC profiler and JSON
+ * results in jmh-result.json, so every run reports bytes/op and leaves a
+ * file two versions can be compared with. Any JMH option given on the
+ * command line (-rf, -rff, -prof, a benchmark regex, …) still applies.
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {}
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(cli);
+
+        if (cli.getProfilers().isEmpty()) builder.addProfiler(GCProfiler.class);
+        if (!cli.getResultFormat().hasValue()) builder.resultFormat(ResultFormatType.JSON);
+        if (!cli.getResult().hasValue()) builder.result("jmh-result.json");
+        if (cli.getIncludes().isEmpty()) builder.include(BenchmarkMain.class.getPackageName() + ".*");
+
+        Options options = builder.build();
+        new Runner(options).run();
+    }
+}
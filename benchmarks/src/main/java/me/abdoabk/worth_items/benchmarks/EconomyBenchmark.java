@@ -0,0 +1,91 @@
+package me.abdoabk.worth_items.benchmarks;
+
+import me.abdoabk.worth_items.api.AsyncEconomy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AsyncEconomy against {@link StandInEconomy} — what a sale costs the caller.
+ *
+ *   blockingDeposit       — the provider called directly, as /worth sell used to
+ *                           on the main thread: the caller pays the full latency
+ *   asyncDepositHandoff   — submitWrite only: what the main thread pays now (at high
+ *                           latency the 100 000 in-flight limit fills and the
+ *                           rest are rejected — also fast, and also measured)
+ *   asyncDepositRoundTrip — submitWrite + join: the handoff's overhead on top of the latency
+ *   circuitOpenRejection  — a hung provider after the breaker opened: calls fail fast
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EconomyBenchmark {
+
+    @Param({"0", "2000"})
+    public long latencyMicros;
+
+    private final UUID player = UUID.randomUUID();
+    private StandInEconomy economy;
+    private AsyncEconomy async;
+    private AsyncEconomy hung;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        economy = new StandInEconomy(latencyMicros);
+        async   = new AsyncEconomy(Runnable::run, 5_000, 100_000, 5, 60_000);
+
+        StandInEconomy stuck = new StandInEconomy(0);
+        stuck.hang = true;
+        hung = new AsyncEconomy(Runnable::run, 1, 16, 1, 60_000);
+        hung.submitWrite(() -> stuck.deposit(player, 1)).exceptionally(e -> false);
+        while (hung.getState() == AsyncEconomy.State.CLOSED) Thread.onSpinWait();   // times out, opens
+    }
+
+    @TearDown(Level.Iteration)
+    public void drain() {
+        while (async.getInFlight() > 0) Thread.onSpinWait();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        async.close();
+        hung.close();
+    }
+
+    @Benchmark
+    public boolean blockingDeposit() {
+        return economy.deposit(player, 1);
+    }
+
+    @Benchmark
+    public CompletableFuture<Boolean> asyncDepositHandoff() {
+        return async.submitWrite(() -> economy.deposit(player, 1));
+    }
+
+    @Benchmark
+    public boolean asyncDepositRoundTrip() {
+        return async.submitWrite(() -> economy.deposit(player, 1)).join();
+    }
+
+    @Benchmark
+    public CompletableFuture<Boolean> circuitOpenRejection() {
+        return hung.submitWrite(() -> true);
+    }
+}
@@ -0,0 +1,103 @@
+package me.abdoabk.worth_items.benchmarks;
+
+import me.abdoabk.worth_items.listener.InventoryListener;
+import me.abdoabk.worth_items.listener.LoadShedder;
+import me.abdoabk.worth_items.placeholder.PlayerWorthCache;
+import me.abdoabk.worth_items.pricing.BulkValuator;
+import me.abdoabk.worth_items.pricing.PriceSnapshot;
+import org.bukkit.inventory.ItemStack;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Whole-inventory work on a 36-slot player inventory.
+ *
+ *   tagInventoryTagged    — InventoryListener#tagAll over an inventory that
+ *                           is already tagged (the steady state)
+ *   tagInventoryUntagged  — the same pass over fresh untagged copies
+ *   valueBulk             — BulkValuator against one snapshot (expect 0 B/op)
+ *   valuePerItemGetPrice  — the per-item getPrice loop external plugins used
+ *   valueContainerValuator — ContainerValuator.getValue (memoized containers)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InventoryBenchmark {
+
+    private MockServer mock;
+    private InventoryListener listener;
+    private PlayerMock player;
+    private ItemStack[] untagged;
+    private ItemStack[] contents;
+    private PriceSnapshot prices;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mock     = new MockServer();
+        player   = mock.playerWithInventory();
+        untagged = mock.untaggedInventory();
+        prices   = mock.priceService.snapshot();
+        listener = new InventoryListener(mock.plugin, mock.priceService, mock.configUtil, mock.metrics,
+                new PlayerWorthCache(mock.plugin, mock.priceService, mock.configUtil.getPlaceholderMaxAgeMillis()),
+                new LoadShedder(mock.plugin));
+
+        listener.tagAll(player.getInventory().getContents());
+        contents = player.getInventory().getContents();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mock.close();
+    }
+
+    @Benchmark
+    public ItemStack[] tagInventoryTagged() {
+        ItemStack[] items = player.getInventory().getContents();
+        listener.tagAll(items);
+        return items;
+    }
+
+    @Benchmark
+    public ItemStack[] tagInventoryUntagged() {
+        ItemStack[] items = new ItemStack[untagged.length];
+        for (int i = 0; i < items.length; i++) items[i] = untagged[i].clone();
+        listener.tagAll(items);
+        return items;
+    }
+
+    @Benchmark
+    public long valueBulk() {
+        return BulkValuator.value(contents, prices);
+    }
+
+    @Benchmark
+    public long valuePerItemGetPrice() {
+        long total = 0;
+        for (ItemStack item : contents) {
+            if (item == null || item.getType().isAir()) continue;
+            total += (long) mock.priceService.getPrice(item.getType()) * item.getAmount();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long valueContainerValuator() {
+        return mock.containerValuator.getValue(contents);
+    }
+}
@@ -0,0 +1,161 @@
+package me.abdoabk.worth_items.benchmarks;
+
+import org.bukkit.Material;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.inventory.ItemStack;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * LoadSimulation — offline capacity-planning harness for the listeners.
+ *
+ * Adds N players with full inventories to a {@link SimulatedServer} and then,
+ * tick by tick, fires pickup, craft, container-click, held-slot and block-drop
+ * events at the configured per-player rates before advancing the scheduler.
+ *
+ * Per tick it records the time spent in WorthItems (event dispatch plus the
+ * scheduled tasks it queued), how many scheduled tasks were pending and the
+ * bytes allocated on the server thread; the summary adds the per-hot-path
+ * latency histograms from WorthMetrics.
+ *
+ * Usage (after building benchmarks.jar, see benchmarks/pom.xml):
+ *   java -cp benchmarks/target/benchmarks.jar \
+ *        me.abdoabk.worth_items.benchmarks.LoadSimulation \
+ *        --players=100 --ticks=2400 --pickup=3 --config=plugins/WorthItems/config.yml
+ *
+ * Options (rates are events per player per second):
+ *   --players=50   --ticks=1200   --warmup=200   --seed=1
+ *   --pickup=2.0   --craft=0.2    --click=1.0    --held=1.5   --drop=0.5
+ *   --config=FILE  config.yml to evaluate, layered over the shipped defaults
+ *   --csv=FILE     per-tick samples for plotting
+ */
+public final class LoadSimulation {
+
+    private static final int TICKS_PER_SECOND = 20;
+
+    private final Map<String, String> options;
+    private final Random random;
+    /** Fractional events carried over per kind, so low rates still fire on average. */
+    private final double[] debt = new double[5];
+
+    private SimulatedServer server;
+    private List<PlayerMock> players;
+    private Material[] itemPool;
+    private Material[] blockPool;
+    private int cursor;
+
+    private LoadSimulation(Map<String, String> options) {
+        this.options = options;
+        this.random  = new Random(longOption(options, "seed", 1));
+    }
+
+    public static void main(String[] args) throws IOException {
+        new LoadSimulation(parseOptions(args)).run();
+    }
+
+    // ── Run ──────────────────────────────────────────────────────────────────
+
+    private void run() throws IOException {
+        String configPath = options.get("config");
+        YamlConfiguration overrides = configPath == null
+                ? null : YamlConfiguration.loadConfiguration(new File(configPath));
+
+        server = new SimulatedServer(overrides);
+        try {
+            int count = (int) longOption(options, "players", 50);
+            players = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) players.add(server.addPlayer());
+            itemPool  = server.mock.items;
+            blockPool = Arrays.stream(server.mock.items).filter(Material::isBlock).toArray(Material[]::new);
+
+            int warmup = (int) longOption(options, "warmup", 200);
+            int ticks  = (int) longOption(options, "ticks", 1200);
+            double[] rates = {
+                    doubleOption("pickup", 2.0), doubleOption("craft", 0.2), doubleOption("click", 1.0),
+                    doubleOption("held", 1.5),   doubleOption("drop", 0.5)
+            };
+
+            for (int t = 0; t < warmup; t++) tick(rates, null);
+            server.mock.metrics.reset();
+            TickStats stats = new TickStats();
+            for (int t = 0; t < ticks; t++) tick(rates, stats);
+
+            System.out.printf("WorthItems load simulation — %d players, %d ticks%n", players.size(), stats.size());
+            System.out.printf("  rates/player/s: pickup %.2f, craft %.2f, click %.2f, held %.2f, drop %.2f%n%n",
+                    rates[0], rates[1], rates[2], rates[3], rates[4]);
+            stats.report(System.out, server.mock.metrics);
+
+            String csv = options.get("csv");
+            if (csv != null) stats.writeCsv(new File(csv));
+        } finally {
+            server.close();
+        }
+    }
+
+    private void tick(double[] rates, TickStats stats) {
+        for (int kind = 0; kind < rates.length; kind++) {
+            debt[kind] += rates[kind] * players.size() / TICKS_PER_SECOND;
+            while (debt[kind] >= 1) {
+                debt[kind]--;
+                queue(kind, nextPlayer());
+            }
+        }
+        server.tick(stats);
+    }
+
+    private void queue(int kind, PlayerMock player) {
+        switch (kind) {
+            case 0  -> server.pickup(player, stackOf(randomItem()));
+            case 1  -> server.craft(player, stackOf(randomItem()));
+            case 2  -> server.containerClick(player, random.nextInt(27), stackOf(randomItem()));
+            case 3  -> server.held(player, (player.getInventory().getHeldItemSlot() + 1 + random.nextInt(8)) % 9, null);
+            default -> server.blockDrop(player, blockPool[random.nextInt(blockPool.length)], 1, 1);
+        }
+    }
+
+    private PlayerMock nextPlayer() {
+        PlayerMock player = players.get(cursor);
+        cursor = (cursor + 1) % players.size();
+        return player;
+    }
+
+    private Material randomItem() {
+        return itemPool[random.nextInt(itemPool.length)];
+    }
+
+    private ItemStack stackOf(Material material) {
+        return new ItemStack(material, 1 + random.nextInt(material.getMaxStackSize()));
+    }
+
+    // ── Options ──────────────────────────────────────────────────────────────
+
+    /** Parses --key=value (or a bare --flag) arguments. */
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) throw new IllegalArgumentException("Unknown argument: " + arg);
+            int eq = arg.indexOf('=');
+            if (eq < 0) options.put(arg.substring(2), "true");
+            else options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return options;
+    }
+
+    static long longOption(Map<String, String> options, String name, long fallback) {
+        String value = options.get(name);
+        return value == null ? fallback : Long.parseLong(value);
+    }
+
+    private double doubleOption(String name, double fallback) {
+        String value = options.get(name);
+        return value == null ? fallback : Double.parseDouble(value);
+    }
+}
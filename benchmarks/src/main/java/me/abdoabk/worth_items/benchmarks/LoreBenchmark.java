@@ -0,0 +1,83 @@
+package me.abdoabk.worth_items.benchmarks;
+
+import me.abdoabk.worth_items.util.ItemUtil;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ItemUtil.hasWorth and applyPriceLore on tagged and untagged stacks.
+ *
+ * applyPriceLore mutates its stack, so the untagged case works on a fresh
+ * clone each call; {@link #cloneBaseline} measures the clone alone so it
+ * can be subtracted.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoreBenchmark {
+
+    private MockServer mock;
+    private ItemStack untagged;
+    private ItemStack tagged;
+    private int price;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mock     = new MockServer();
+        price    = mock.priceService.getPrice(Material.IRON_INGOT);
+        untagged = new ItemStack(Material.IRON_INGOT, 32);
+        tagged   = untagged.clone();
+        ItemUtil.applyPriceLore(tagged, price, MockServer.CURRENCY);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mock.close();
+    }
+
+    @Benchmark
+    public boolean hasWorthUntagged() {
+        return ItemUtil.hasWorth(untagged);
+    }
+
+    @Benchmark
+    public boolean hasWorthTagged() {
+        return ItemUtil.hasWorth(tagged);
+    }
+
+    @Benchmark
+    public ItemStack cloneBaseline() {
+        return untagged.clone();
+    }
+
+    @Benchmark
+    public ItemStack applyLoreUntagged() {
+        ItemStack item = untagged.clone();
+        ItemUtil.applyPriceLore(item, price, MockServer.CURRENCY);
+        return item;
+    }
+
+    /** Already tagged — applyPriceLore should bail out after hasWorth. */
+    @Benchmark
+    public ItemStack applyLoreTagged() {
+        ItemUtil.applyPriceLore(tagged, price, MockServer.CURRENCY);
+        return tagged;
+    }
+}
@@ -0,0 +1,118 @@
+package me.abdoabk.worth_items.benchmarks;
+
+import me.abdoabk.worth_items.metrics.WorthMetrics;
+import me.abdoabk.worth_items.pricing.ContainerValuator;
+import me.abdoabk.worth_items.pricing.PriceService;
+import me.abdoabk.worth_items.pricing.PriceStorage;
+import me.abdoabk.worth_items.pricing.TierResolver;
+import me.abdoabk.worth_items.util.ConfigUtil;
+import me.abdoabk.worth_items.util.ItemUtil;
+import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MockServer — the plugin's pricing stack wired up on a MockBukkit server.
+ *
+ * Mirrors the relevant part of Worth_items#onEnable: a mock plugin whose
+ * config defaults are the shipped config.yml, PriceStorage, PriceService with
+ * its default source chain, ContainerValuator and ItemUtil. Metrics stay
+ * disabled, as in production. One instance per benchmark trial or simulation
+ * run; {@link #close()} unmocks the server.
+ */
+final class MockServer implements AutoCloseable {
+
+    static final String CURRENCY = "$";
+
+    final ServerMock server;
+    final JavaPlugin plugin;
+    final PriceService priceService;
+    final ContainerValuator containerValuator;
+    final ConfigUtil configUtil;
+    final WorthMetrics metrics = new WorthMetrics();
+    final TierResolver tierResolver = new TierResolver();
+
+    /** Every non-legacy item material, in ordinal order. */
+    final Material[] items;
+
+    /** Benchmark setup: shipped defaults plus a couple of special-items overrides. */
+    MockServer() {
+        this(null);
+    }
+
+    /**
+     * @param overrides config values layered over the shipped config.yml,
+     *                  e.g. a production config under evaluation (may be null)
+     */
+    MockServer(ConfigurationSection overrides) {
+        server = MockBukkit.mock();
+        plugin = MockBukkit.createMockPlugin();
+
+        FileConfiguration config = plugin.getConfig();
+        config.setDefaults(shippedConfig());
+        if (overrides == null) {
+            config.set("special-items.DIAMOND", 250);
+            config.set("special-items.NETHER_STAR", 1500);
+        } else {
+            for (String key : overrides.getKeys(true)) {
+                if (!overrides.isConfigurationSection(key)) config.set(key, overrides.get(key));
+            }
+        }
+
+        configUtil = new ConfigUtil(plugin);
+        ItemUtil.init(plugin, metrics);
+        priceService      = new PriceService(plugin, new PriceStorage(plugin), tierResolver, metrics);
+        containerValuator = new ContainerValuator(priceService, metrics);
+        priceService.compile();
+
+        List<Material> list = new ArrayList<>();
+        for (Material material : Material.values()) {
+            if (!material.isLegacy() && material.isItem() && !material.isAir()) list.add(material);
+        }
+        items = list.toArray(new Material[0]);
+    }
+
+    /**
+     * A player with a full inventory: 36 mixed stacks of untagged items
+     * (no lore yet), spread across the material table.
+     */
+    PlayerMock playerWithInventory() {
+        PlayerMock player = server.addPlayer();
+        player.getInventory().setContents(untaggedInventory());
+        return player;
+    }
+
+    ItemStack[] untaggedInventory() {
+        ItemStack[] contents = new ItemStack[36];
+        for (int i = 0; i < contents.length; i++) {
+            Material material = items[(i * 37) % items.length];
+            contents[i] = new ItemStack(material, Math.min(material.getMaxStackSize(), 1 + i));
+        }
+        contents[0] = new ItemStack(Material.DIAMOND, 64);
+        return contents;
+    }
+
+    /** The plugin's own config.yml, bundled in benchmarks.jar via the plugin dependency. */
+    private static YamlConfiguration shippedConfig() {
+        InputStream in = MockServer.class.getClassLoader().getResourceAsStream("config.yml");
+        if (in == null) return new YamlConfiguration();
+        return YamlConfiguration.loadConfiguration(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void close() {
+        MockBukkit.unmock();
+    }
+}
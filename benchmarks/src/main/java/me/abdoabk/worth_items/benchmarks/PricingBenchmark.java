@@ -0,0 +1,79 @@
+package me.abdoabk.worth_items.benchmarks;
+
+import me.abdoabk.worth_items.pricing.Tier;
+import org.bukkit.Material;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PriceService.getPrice and TierResolver.resolve.
+ *
+ *   getPriceHit       — compiled table read, cycling through every item
+ *   getPriceOverride  — a special-items material (DIAMOND)
+ *   getPriceMiss      — first lookup after reload(): recompiles the source chain
+ *   tierResolveAll    — TierResolver.resolve over every item material
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingBenchmark {
+
+    private MockServer mock;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mock = new MockServer();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mock.close();
+    }
+
+    @Benchmark
+    public int getPriceHit() {
+        Material[] items = mock.items;
+        int i = cursor + 1;
+        if (i == items.length) i = 0;
+        cursor = i;
+        return mock.priceService.getPrice(items[i]);
+    }
+
+    @Benchmark
+    public int getPriceOverride() {
+        return mock.priceService.getPrice(Material.DIAMOND);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int getPriceMiss() {
+        mock.priceService.reload();
+        return mock.priceService.getPrice(Material.STONE);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void tierResolveAll(Blackhole bh) {
+        for (Material material : mock.items) {
+            Tier tier = mock.tierResolver.resolve(material);
+            bh.consume(tier);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package me.abdoabk.worth_items.benchmarks;
+
+import me.abdoabk.worth_items.listener.BlockDropListener;
+import me.abdoabk.worth_items.listener.InventoryListener;
+import me.abdoabk.worth_items.listener.LoadShedder;
+import me.abdoabk.worth_items.placeholder.PlayerWorthCache;
+import me.abdoabk.worth_items.tracker.InventoryWorthTracker;
+import org.bukkit.GameMode;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Item;
+import org.bukkit.event.Event;
+import org.bukkit.event.block.BlockDropItemEvent;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.CraftItemEvent;
+import org.bukkit.event.inventory.InventoryAction;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCreativeEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.event.inventory.InventoryType.SlotType;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.inventory.CraftingInventory;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.inventory.Recipe;
+import org.bukkit.inventory.ShapelessRecipe;
+import org.bukkit.plugin.PluginManager;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SimulatedServer — the plugin's listeners on a MockBukkit server, driven tick by tick.
+ *
+ * Registers InventoryListener, BlockDropListener, PlayerWorthCache and
+ * InventoryWorthTracker the same way Worth_items#registerListeners does.
+ * Callers queue events for the coming tick ({@link #pickup}, {@link #craft}, …);
+ * {@link #tick} then dispatches them and advances the scheduler one tick, which
+ * runs the deferred sync tasks the listeners queued.
+ *
+ * Building events and their entities/inventories happens when they are queued
+ * and is not measured; {@link #tick} times only dispatch plus the scheduler
+ * (and the inventory insert that follows each pickup). WorthItems is the only
+ * plugin, so that is WorthItems' tick cost.
+ *
+ * Shared by {@link LoadSimulation} (synthetic load) and {@link TraceReplay}
+ * (recorded load).
+ */
+final class SimulatedServer implements AutoCloseable {
+
+    final MockServer mock;
+    final World world;
+
+    private final InventoryWorthTracker worthTracker;
+    private final LoadShedder shedder;
+    private final PluginManager plugins;
+    private final Recipe recipe;
+
+    private final List<Runnable> events  = new ArrayList<>();
+    private final List<Runnable> cleanup = new ArrayList<>();
+    private int blockCursor;
+    private int evictCursor;
+
+    /** @param overrides config layered over the shipped config.yml (may be null) */
+    SimulatedServer(ConfigurationSection overrides) {
+        mock  = new MockServer(overrides);
+        world = mock.server.addSimpleWorld("simulation");
+        mock.metrics.setEnabled(true);
+
+        PlayerWorthCache worthCache = new PlayerWorthCache(mock.plugin, mock.priceService,
+                mock.configUtil.getPlaceholderMaxAgeMillis());
+        worthTracker = new InventoryWorthTracker(mock.plugin, mock.priceService,
+                mock.configUtil.getTrackerReconcileTicks());
+
+        // Shedding follows the evaluated config, so its effect on tick time can be measured too.
+        shedder = new LoadShedder(mock.plugin);
+        shedder.configure(mock.configUtil.isLoadSheddingEnabled(), mock.configUtil.getLoadBudgetNanos(),
+                mock.configUtil.getLoadRecoverPercent(), mock.configUtil.getLoadEscalateTicks(),
+                mock.configUtil.getLoadRecoverTicks());
+
+        plugins = mock.server.getPluginManager();
+        InventoryListener inventoryListener = new InventoryListener(mock.plugin, mock.priceService,
+                mock.configUtil, mock.metrics, worthCache, shedder);
+        plugins.registerEvents(inventoryListener, mock.plugin);
+        plugins.registerEvents(worthCache, mock.plugin);
+        plugins.registerEvents(worthTracker, mock.plugin);
+        plugins.registerEvents(new BlockDropListener(mock.priceService, mock.configUtil, mock.metrics,
+                shedder), mock.plugin);
+        worthTracker.start();
+        shedder.start(inventoryListener::tagDeferred);
+
+        recipe = new ShapelessRecipe(new NamespacedKey(mock.plugin, "simulated"),
+                new ItemStack(Material.STICK)).addIngredient(Material.OAK_PLANKS);
+    }
+
+    /** Joins a player carrying a full inventory of untagged items. */
+    PlayerMock addPlayer() {
+        PlayerMock player = mock.playerWithInventory();
+        worthTracker.markDirty(player);     // contents were set after the join was counted
+        return player;
+    }
+
+    // ── Events for the coming tick ───────────────────────────────────────────
+
+    /** The player picks up {@code stack}; it lands in the inventory afterwards. */
+    void pickup(PlayerMock player, ItemStack stack) {
+        Item drop = world.dropItem(player.getLocation(), stack);
+        EntityPickupItemEvent event = new EntityPickupItemEvent(player, drop, 0);
+        events.add(() -> {
+            plugins.callEvent(event);
+            makeRoom(player.getInventory());
+            player.getInventory().addItem(drop.getItemStack());
+        });
+        cleanup.add(drop::remove);
+    }
+
+    /** The player takes {@code result} (may be null) out of a workbench. */
+    void craft(PlayerMock player, ItemStack result) {
+        Inventory bench = mock.server.createInventory(player, InventoryType.WORKBENCH);
+        ((CraftingInventory) bench).setResult(result);
+        InventoryView view = player.openInventory(bench);
+        fire(new CraftItemEvent(recipe, view, SlotType.RESULT, 0, ClickType.LEFT, InventoryAction.PICKUP_ALL));
+        cleanup.add(player::closeInventory);
+    }
+
+    /** The player shift-clicks {@code item} out of {@code slot} of a chest. */
+    void containerClick(PlayerMock player, int slot, ItemStack item) {
+        int rawSlot = Math.max(0, Math.min(53, slot));
+        Inventory chest = mock.server.createInventory(null, rawSlot < 27 ? 27 : 54);
+        chest.setItem(rawSlot, item);
+        InventoryView view = player.openInventory(chest);
+        fire(new InventoryClickEvent(view, SlotType.CONTAINER, rawSlot,
+                ClickType.SHIFT_LEFT, InventoryAction.MOVE_TO_OTHER_INVENTORY));
+        cleanup.add(player::closeInventory);
+    }
+
+    /** A creative-mode player places {@code item} (may be null) into an inventory slot. */
+    void creativeClick(PlayerMock player, int slot, ItemStack item) {
+        player.setGameMode(GameMode.CREATIVE);
+        InventoryView view = player.getOpenInventory();
+        int rawSlot = view.getTopInventory().getSize() + Math.max(0, Math.min(35, slot));
+        fire(new InventoryCreativeEvent(view, SlotType.CONTAINER, rawSlot,
+                item != null ? item : new ItemStack(Material.AIR)));
+        cleanup.add(() -> player.setGameMode(GameMode.SURVIVAL));
+    }
+
+    /**
+     * The player switches to hotbar {@code slot}. If {@code item} is given it is
+     * put in that slot first (null keeps whatever the simulated inventory holds).
+     */
+    void held(PlayerMock player, int slot, ItemStack item) {
+        PlayerInventory inventory = player.getInventory();
+        int next = Math.max(0, Math.min(8, slot));
+        if (item != null) inventory.setItem(next, item);
+        PlayerItemHeldEvent event = new PlayerItemHeldEvent(player, inventory.getHeldItemSlot(), next);
+        events.add(() -> {
+            plugins.callEvent(event);
+            inventory.setHeldItemSlot(next);
+        });
+    }
+
+    /** The player breaks a block of {@code material}, which drops {@code stacks} stacks of itself. */
+    void blockDrop(PlayerMock player, Material material, int stacks, int amount) {
+        List<ItemStack> drops = new ArrayList<>(stacks);
+        for (int i = 0; i < stacks; i++) drops.add(new ItemStack(material, Math.max(1, amount)));
+        blockDrop(player, material, drops);
+    }
+
+    /** The player breaks a block of {@code material}, which drops exactly {@code drops}. */
+    void blockDrop(PlayerMock player, Material material, List<ItemStack> drops) {
+        int cursor = blockCursor++;
+        Block block = world.getBlockAt(cursor & 255, 64, (cursor >> 8) & 255);
+        if (material.isBlock()) block.setType(material);
+
+        List<Item> items = new ArrayList<>(drops.size());
+        for (ItemStack stack : drops) {
+            Item drop = world.dropItem(block.getLocation(), stack);
+            items.add(drop);
+            cleanup.add(drop::remove);
+        }
+        fire(new BlockDropItemEvent(block, block.getState(), player, items));
+    }
+
+    private void fire(Event event) {
+        events.add(() -> plugins.callEvent(event));
+    }
+
+    /** Keeps inventories in a steady state instead of filling up and ignoring pickups. */
+    private void makeRoom(PlayerInventory inventory) {
+        if (inventory.firstEmpty() >= 0) return;
+        inventory.setItem(evictCursor, null);
+        evictCursor = (evictCursor + 1) % 36;
+    }
+
+    // ── Tick ─────────────────────────────────────────────────────────────────
+
+    /** Dispatches the queued events, runs one scheduler tick and records it (if stats is non-null). */
+    void tick(TickStats stats) {
+        int pendingTasks = mock.server.getScheduler().getPendingTasks().size();
+        int eventCount = events.size();
+        long allocated = allocatedBytes();
+        long start = System.nanoTime();
+
+        for (Runnable event : events) event.run();
+        mock.server.getScheduler().performOneTick();
+
+        long nanos = System.nanoTime() - start;
+        long bytes = allocatedBytes() - allocated;
+        events.clear();
+        cleanup.forEach(Runnable::run);
+        cleanup.clear();
+
+        if (stats != null) stats.record(nanos, eventCount, pendingTasks, bytes);
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getCurrentThreadAllocatedBytes();
+    }
+
+    @Override
+    public void close() {
+        worthTracker.shutdown();
+        shedder.shutdown();
+        mock.close();
+    }
+}
@@ -0,0 +1,62 @@
+package me.abdoabk.worth_items.benchmarks;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * StandInEconomy — an in-memory economy provider with artificial latency, to
+ * drive {@link me.abdoabk.worth_items.api.AsyncEconomy} without a database.
+ *
+ * Every call parks the calling thread for {@code latencyNanos} first — like a
+ * provider waiting on a SQL round trip — then updates a balance map. Set
+ * {@link #hang} to make calls park for a minute instead (a stuck connection),
+ * or {@link #fail} to make them throw (a dropped one).
+ */
+final class StandInEconomy {
+
+    private final Map<UUID, Double> balances = new ConcurrentHashMap<>();
+    private final long latencyNanos;
+
+    volatile boolean hang;
+    volatile boolean fail;
+
+    StandInEconomy(long latencyMicros) {
+        this.latencyNanos = TimeUnit.MICROSECONDS.toNanos(latencyMicros);
+    }
+
+    double getBalance(UUID player) {
+        delay();
+        return balances.getOrDefault(player, 0.0);
+    }
+
+    boolean deposit(UUID player, double amount) {
+        delay();
+        balances.merge(player, amount, Double::sum);
+        return true;
+    }
+
+    boolean withdraw(UUID player, double amount) {
+        delay();
+        boolean[] paid = new boolean[1];
+        balances.compute(player, (id, balance) -> {
+            double current = balance == null ? 0 : balance;
+            if (current < amount) return balance;
+            paid[0] = true;
+            return current - amount;
+        });
+        return paid[0];
+    }
+
+    private void delay() {
+        long nanos = hang ? TimeUnit.MINUTES.toNanos(1) : latencyNanos;
+        long until = System.nanoTime() + nanos;
+        while (nanos > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(nanos);
+            nanos = until - System.nanoTime();
+        }
+        if (fail) throw new IllegalStateException("stand-in economy: connection lost");
+    }
+}
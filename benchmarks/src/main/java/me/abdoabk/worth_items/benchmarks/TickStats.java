@@ -0,0 +1,123 @@
+package me.abdoabk.worth_items.benchmarks;
+
+import me.abdoabk.worth_items.metrics.HotPath;
+import me.abdoabk.worth_items.metrics.LatencyHistogram;
+import me.abdoabk.worth_items.metrics.WorthMetrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.util.Arrays;
+
+/**
+ * Per-tick samples from {@link SimulatedServer#tick}: time, events dispatched,
+ * scheduled tasks pending and bytes allocated on the server thread.
+ *
+ * Stored in growable primitive arrays so recording doesn't skew the allocation
+ * it measures (beyond the occasional doubling).
+ */
+final class TickStats {
+
+    private long[] nanos  = new long[1024];
+    private long[] events = new long[1024];
+    private long[] tasks  = new long[1024];
+    private long[] bytes  = new long[1024];
+    private int size;
+
+    void record(long nanos, int events, int tasks, long bytes) {
+        if (size == this.nanos.length) {
+            int capacity = size * 2;
+            this.nanos  = Arrays.copyOf(this.nanos, capacity);
+            this.events = Arrays.copyOf(this.events, capacity);
+            this.tasks  = Arrays.copyOf(this.tasks, capacity);
+            this.bytes  = Arrays.copyOf(this.bytes, capacity);
+        }
+        this.nanos[size]  = nanos;
+        this.events[size] = events;
+        this.tasks[size]  = tasks;
+        this.bytes[size]  = bytes;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long totalEvents() {
+        long total = 0;
+        for (int i = 0; i < size; i++) total += events[i];
+        return total;
+    }
+
+    // ── Report ───────────────────────────────────────────────────────────────
+
+    void report(PrintStream out, WorthMetrics metrics) {
+        if (size == 0) {
+            out.println("  no ticks measured");
+            return;
+        }
+
+        long[] time = sorted(nanos);
+        out.printf("  tick time   avg %s  p50 %s  p95 %s  p99 %s  max %s  (budget 50 ms)%n",
+                millis(average(nanos)), millis(percentile(time, 50)), millis(percentile(time, 95)),
+                millis(percentile(time, 99)), millis(time[size - 1]));
+
+        long[] perTick = sorted(events);
+        out.printf("  events/tick avg %.1f  p95 %d  max %d%n",
+                average(events), percentile(perTick, 95), perTick[size - 1]);
+
+        long[] pending = sorted(tasks);
+        out.printf("  tasks/tick  avg %.1f  p95 %d  max %d%n",
+                average(tasks), percentile(pending, 95), pending[size - 1]);
+
+        long[] allocated = sorted(bytes);
+        out.printf("  alloc/tick  avg %s  p95 %s  max %s%n",
+                kilobytes(average(bytes)), kilobytes(percentile(allocated, 95)), kilobytes(allocated[size - 1]));
+
+        out.println();
+        out.printf("  %-22s %10s %10s %10s %10s%n", "hot path", "count", "p50 µs", "p99 µs", "max µs");
+        for (HotPath path : HotPath.values()) {
+            LatencyHistogram histogram = metrics.histogram(path);
+            if (histogram.getCount() == 0) continue;
+            out.printf("  %-22s %10d %10.1f %10.1f %10.1f%n", path.label(), histogram.getCount(),
+                    histogram.getPercentile(50) / 1000.0, histogram.getPercentile(99) / 1000.0,
+                    histogram.getMax() / 1000.0);
+        }
+    }
+
+    /** Writes tick,nanos,events,tasks,bytes rows for plotting or diffing two runs. */
+    void writeCsv(File file) throws IOException {
+        try (PrintWriter out = new PrintWriter(file, "UTF-8")) {
+            out.println("tick,nanos,events,tasks,bytes");
+            for (int i = 0; i < size; i++) {
+                out.println(i + "," + nanos[i] + "," + events[i] + "," + tasks[i] + "," + bytes[i]);
+            }
+        }
+    }
+
+    private double average(long[] samples) {
+        long sum = 0;
+        for (int i = 0; i < size; i++) sum += samples[i];
+        return (double) sum / size;
+    }
+
+    private long[] sorted(long[] samples) {
+        long[] copy = Arrays.copyOf(samples, size);
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(sorted.length * percentile / 100.0) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static String millis(double nanos) {
+        return String.format("%.3f ms", nanos / 1_000_000.0);
+    }
+
+    private static String kilobytes(double bytes) {
+        return String.format("%.1f KB", bytes / 1024.0);
+    }
+}
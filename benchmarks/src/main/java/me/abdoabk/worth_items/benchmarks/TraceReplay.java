@@ -0,0 +1,151 @@
+package me.abdoabk.worth_items.benchmarks;
+
+import me.abdoabk.worth_items.trace.TraceEventType;
+import me.abdoabk.worth_items.trace.TraceReader;
+import me.abdoabk.worth_items.trace.TraceRecord;
+import org.bukkit.Material;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.inventory.ItemStack;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TraceReplay — feeds a trace recorded with /worth trace through the listeners
+ * and PriceService on a {@link SimulatedServer}, tick for tick.
+ *
+ * Every recorded event is rebuilt with its recorded player, slot, material and
+ * amount on the tick it happened, and every tick of the recording is run —
+ * idle ones included — so scheduled work lands where it did live. Players get
+ * the same deterministic starting inventory, so two runs of the same trace do
+ * exactly the same work: replay it against two builds to compare them on real
+ * peak-hour traffic. Output matches {@link LoadSimulation}.
+ *
+ * Usage (after building benchmarks.jar, see benchmarks/pom.xml):
+ *   java -cp benchmarks/target/benchmarks.jar \
+ *        me.abdoabk.worth_items.benchmarks.TraceReplay \
+ *        --trace=plugins/WorthItems/traces/trace-20260101-200000.wtr
+ *
+ * Options:
+ *   --trace=FILE   the .wtr file (required)
+ *   --warmup=200   leading ticks replayed but not measured
+ *   --config=FILE  config.yml to evaluate, layered over the shipped defaults
+ *   --csv=FILE     per-tick samples for plotting or diffing two runs
+ */
+public final class TraceReplay {
+
+    private final SimulatedServer server;
+    private final List<PlayerMock> players = new ArrayList<>();
+    private long skipped;
+
+    // The BlockDropItemEvent being rebuilt: one BLOCK_DROP record per stack.
+    private PlayerMock dropPlayer;
+    private long dropTick;
+    private final List<ItemStack> drops = new ArrayList<>();
+
+    private TraceReplay(SimulatedServer server) {
+        this.server = server;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = LoadSimulation.parseOptions(args);
+        String trace = options.get("trace");
+        if (trace == null) throw new IllegalArgumentException("--trace=FILE is required");
+        String configPath = options.get("config");
+        YamlConfiguration overrides = configPath == null
+                ? null : YamlConfiguration.loadConfiguration(new File(configPath));
+        long warmup = LoadSimulation.longOption(options, "warmup", 200);
+
+        try (TraceReader reader = new TraceReader(Path.of(trace));
+             SimulatedServer server = new SimulatedServer(overrides)) {
+            TraceReplay replay = new TraceReplay(server);
+            TickStats stats = replay.run(reader, warmup);
+
+            System.out.printf("WorthItems trace replay — %s%n", trace);
+            System.out.printf("  recorded %s on %s, %d players, %d ticks%s%n",
+                    new SimpleDateFormat("yyyy-MM-dd HH:mm").format(new Date(reader.getStartedAt())),
+                    reader.getServerVersion(), reader.getPlayers().size(), reader.getTick(),
+                    reader.isComplete() ? "" : " (incomplete — recording was cut short)");
+            if (reader.getDropped() > 0) {
+                System.out.printf("  %d events were dropped while recording%n", reader.getDropped());
+            }
+            if (replay.skipped > 0) {
+                System.out.printf("  %d events skipped (materials unknown to this version: %s)%n",
+                        replay.skipped, reader.getUnknownMaterials().values());
+            }
+            System.out.printf("  measured %d ticks, %d events (first %d ticks were warm-up)%n%n",
+                    stats.size(), stats.totalEvents(), warmup);
+            stats.report(System.out, server.mock.metrics);
+
+            String csv = options.get("csv");
+            if (csv != null) stats.writeCsv(new File(csv));
+        }
+    }
+
+    private TickStats run(TraceReader reader, long warmup) throws IOException {
+        TickStats stats = new TickStats();
+        TraceRecord next = reader.next();
+        // Past the last event, getTick() is the recording's full length: the
+        // idle tail still runs, with whatever work was scheduled into it.
+        for (long tick = 0; next != null || tick < reader.getTick(); tick++) {
+            while (next != null && next.tick() <= tick) {
+                queue(next);
+                next = reader.next();
+            }
+            flushDrop();
+            if (tick == warmup) server.mock.metrics.reset();
+            server.tick(tick < warmup ? null : stats);
+        }
+        return stats;
+    }
+
+    private void queue(TraceRecord record) {
+        PlayerMock player = playerOf(record.player());
+        boolean sameDrop = record.type() == TraceEventType.BLOCK_DROP && record.slot() > 0
+                && player == dropPlayer && record.tick() == dropTick;
+        if (!sameDrop) flushDrop();
+
+        Material material = record.material();
+        if (material == null) {
+            skipped++;
+            return;
+        }
+        ItemStack stack = material.isAir() ? null : new ItemStack(material, Math.max(1, record.amount()));
+
+        switch (record.type()) {
+            case PICKUP          -> { if (stack != null) server.pickup(player, stack); }
+            case CRAFT           -> server.craft(player, stack);
+            case CONTAINER_CLICK -> { if (stack != null) server.containerClick(player, record.slot(), stack); }
+            case CREATIVE_CLICK  -> server.creativeClick(player, record.slot(), stack);
+            case HELD            -> server.held(player, record.slot(),
+                                            stack != null ? stack : new ItemStack(Material.AIR));
+            case BLOCK_DROP      -> {
+                dropPlayer = player;
+                dropTick   = record.tick();
+                if (stack != null) drops.add(stack);
+            }
+        }
+    }
+
+    /** Fires the pending block drop, if any, as one event holding all its stacks. */
+    private void flushDrop() {
+        if (dropPlayer == null) return;
+        Material block = drops.isEmpty() ? Material.AIR : drops.get(0).getType();
+        server.blockDrop(dropPlayer, block, new ArrayList<>(drops));
+        dropPlayer = null;
+        drops.clear();
+    }
+
+    /** Trace players join in order of first appearance, like they did live. */
+    private PlayerMock playerOf(int index) {
+        while (players.size() <= index) players.add(server.addPlayer());
+        return players.get(index);
+    }
+}
@@ -1,19 +1,47 @@
 package me.abdoabk.worth_items;
 
+import me.abdoabk.worth_items.api.AsyncEconomy;
+import me.abdoabk.worth_items.api.BalanceCache;
 import me.abdoabk.worth_items.api.EssentialsBridge;
+import me.abdoabk.worth_items.api.EssentialsWorthSource;
+import me.abdoabk.worth_items.api.PendingReturns;
+import me.abdoabk.worth_items.api.SellLimiter;
 import me.abdoabk.worth_items.api.VaultBridge;
 import me.abdoabk.worth_items.api.WorthPluginAPI;
 import me.abdoabk.worth_items.commands.WorthCommand;
+import me.abdoabk.worth_items.journal.SellJournal;
 import me.abdoabk.worth_items.listener.BlockDropListener;
 import me.abdoabk.worth_items.listener.InventoryListener;
+import me.abdoabk.worth_items.listener.LoadShedder;
+import me.abdoabk.worth_items.metrics.StartupTimeline;
+import me.abdoabk.worth_items.metrics.WorthMetrics;
+import me.abdoabk.worth_items.metrics.jmx.WorthMBeans;
+import me.abdoabk.worth_items.placeholder.PlayerWorthCache;
+import me.abdoabk.worth_items.placeholder.WorthExpansion;
+import me.abdoabk.worth_items.placeholder.WorthPlaceholders;
+import me.abdoabk.worth_items.pricing.ContainerValuator;
 import me.abdoabk.worth_items.pricing.PriceService;
+import me.abdoabk.worth_items.pricing.PriceSnapshot;
 import me.abdoabk.worth_items.pricing.PriceStorage;
 import me.abdoabk.worth_items.pricing.TierResolver;
+import me.abdoabk.worth_items.pricing.storage.PriceBackend;
+import me.abdoabk.worth_items.pricing.storage.PriceBackends;
+import me.abdoabk.worth_items.sync.DirectoryTransport;
+import me.abdoabk.worth_items.sync.PluginMessageTransport;
+import me.abdoabk.worth_items.sync.PriceSyncService;
+import me.abdoabk.worth_items.sync.PriceSyncTransport;
+import me.abdoabk.worth_items.trace.TraceRecorder;
+import me.abdoabk.worth_items.tracker.InventoryWorthTracker;
 import me.abdoabk.worth_items.util.ConfigUtil;
+import me.abdoabk.worth_items.util.ConfigWatcher;
 import me.abdoabk.worth_items.util.ItemUtil;
-import org.bukkit.Material;
+import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.io.IOException;
+import java.util.function.LongConsumer;
+import java.util.logging.Level;
+
 public final class Worth_items extends JavaPlugin {
 
     private PriceStorage priceStorage;
@@ -22,92 +50,321 @@ public final class Worth_items extends JavaPlugin {
     private EssentialsBridge essentialsBridge;
     private WorthPluginAPI worthAPI;
     private ConfigUtil configUtil;
+    private WorthMetrics metrics;
+    private ContainerValuator containerValuator;
+    private WorthCommand worthCommand;
+    private SellJournal sellJournal;
+    private BalanceCache balanceCache;
+    private PlayerWorthCache worthCache;
+    private InventoryWorthTracker worthTracker;
+    private TraceRecorder traceRecorder;
+    private LoadShedder loadShedder;
+    private WorthMBeans mbeans;
+    private PriceSyncService priceSync;
+    private SellLimiter sellLimiter;
+    private PendingReturns pendingReturns;
+    private ConfigWatcher configWatcher;
+
+    // A config.yml parsed off the main thread by the hot-reload watcher; null
+    // means JavaPlugin's own, as loaded by reloadConfig().
+    private volatile FileConfiguration watchedConfig;
 
     @Override
     public void onEnable() {
-        ItemUtil.init(this);
-        saveDefaultConfig();
+        metrics = new WorthMetrics();
+        StartupTimeline startup = metrics.startup();
+        startup.begin();
 
+        ItemUtil.init(this, metrics);
+        saveDefaultConfig();
         configUtil = new ConfigUtil(this);
+        metrics.setEnabled(configUtil.isMetricsEnabled());
+        startup.mark("config");
 
-        priceStorage = new PriceStorage(this);
-        priceService = new PriceService(this, priceStorage, new TierResolver());
+        // Serve last run's compiled table right away; the real compile is warm-up work.
+        priceStorage = new PriceStorage(this, createPriceBackend());
+        priceService = new PriceService(this, priceStorage, new TierResolver(), metrics);
+        priceService.restore(priceStorage.loadSnapshot());
 
-        essentialsBridge = new EssentialsBridge(this);
+        containerValuator = new ContainerValuator(priceService, metrics);
+        worthCache = new PlayerWorthCache(this, priceService, configUtil.getPlaceholderMaxAgeMillis());
+        worthTracker = new InventoryWorthTracker(this, priceService, configUtil.getTrackerReconcileTicks());
+        traceRecorder = new TraceRecorder(this);
+        loadShedder = new LoadShedder(this);
+        configureLoadShedder();
+        startup.mark("pricing");
 
-        // FIX: VaultBridge hooks on next tick — Essentials sync must wait 2 ticks
-        // to ensure Vault's economy provider is registered first.
-        vaultBridge = new VaultBridge(this, priceService);
+        balanceCache = new BalanceCache(metrics, configUtil.isBalanceCacheEnabled(),
+                configUtil.getBalanceCacheTtlMillis());
+        essentialsBridge = new EssentialsBridge(this, newAsyncEconomy(), balanceCache);
+        priceService.registerSource(new EssentialsWorthSource(essentialsBridge));
+        startPriceSync();
 
-        worthAPI = new WorthPluginAPI(priceService, vaultBridge, essentialsBridge);
+        sellJournal = new SellJournal(getDataFolder().toPath().resolve("journal"),
+                configUtil.getJournalSegmentBytes(), configUtil.getJournalMaxSegments(), getLogger());
+        if (configUtil.isJournalEnabled()) {
+            try {
+                sellJournal.start();
+            } catch (IOException e) {
+                getLogger().log(Level.WARNING, "Could not start the sell journal", e);
+            }
+        }
 
-        // Precompute prices synchronously — does NOT need Vault.
-        precomputeAllPrices();
+        // FIX: VaultBridge hooks on next tick — Essentials sync must wait 2 ticks
+        // to ensure Vault's economy provider is registered first.
+        sellLimiter = new SellLimiter(this);
+        sellLimiter.configure(getConfig().getConfigurationSection("sell-limits"));
+        pendingReturns = new PendingReturns(this);
+        vaultBridge = new VaultBridge(this, priceService, metrics, newAsyncEconomy(), sellJournal,
+                balanceCache, sellLimiter, pendingReturns);
 
-        // FIX: Sync to Essentials on tick 2 (after VaultBridge hooks on tick 1).
-        getServer().getScheduler().runTaskLater(this, () -> {
-            if (essentialsBridge.isAvailable()) {
-                essentialsBridge.syncToEssentials(priceService);
-            }
-        }, 2L);
+        worthAPI = new WorthPluginAPI(priceService, vaultBridge, essentialsBridge,
+                containerValuator, configUtil, worthTracker);
+        startup.mark("economy");
 
         registerListeners();
+        startup.mark("listeners");
         registerCommands();
+        registerPlaceholders();
+        startup.mark("commands");
+
+        if (configUtil.isJmxEnabled()) {
+            mbeans = new WorthMBeans(this, metrics, priceService, containerValuator, vaultBridge, essentialsBridge);
+            mbeans.register();
+            mbeans.startDump(configUtil.getJmxDumpTicks());
+        }
+
+        configureConfigWatcher();
+
+        // Scheduled tasks only start once the server has finished starting up.
+        getServer().getScheduler().runTask(this, this::warmUp);
 
+        startup.finishEnable();
+        getLogger().info("Enabled in " + StartupTimeline.millis(startup.getEnableNanos())
+                + " (" + startup.summary(false) + ")"
+                + (priceService.isWarm() ? "" : "; price compile deferred to warm-up"));
         getLogger().info("Worth Items Plugin Enabled - Made by 3bdoabk");
     }
 
     @Override
     public void onDisable() {
-        if (priceStorage != null) priceStorage.saveToDisk();
+        if (configWatcher != null) configWatcher.close();
+        if (mbeans != null) mbeans.unregister();
+        if (priceSync != null) priceSync.shutdown();
+        if (worthCommand != null) worthCommand.shutdown();
+        if (worthTracker != null) worthTracker.shutdown();
+        if (loadShedder != null) loadShedder.shutdown();
+        if (sellLimiter != null) sellLimiter.shutdown();
+        if (traceRecorder != null) traceRecorder.close();    // finishes the trace file
+        if (vaultBridge != null) {
+            vaultBridge.async().close();                     // lets in-flight deposits finish
+            vaultBridge.settlePending();                     // journals or returns their sales
+        }
+        if (essentialsBridge != null) essentialsBridge.async().close();
+        if (sellJournal != null) sellJournal.close();   // flushes queued sales
+        if (priceStorage != null) priceStorage.close();      // writes unsaved prices
         getLogger().info("Worth Items Plugin Disabled - Made by 3bdoabk");
     }
 
     private void registerListeners() {
-        getServer().getPluginManager().registerEvents(
-                new InventoryListener(this, priceService, configUtil), this);
+        InventoryListener inventoryListener =
+                new InventoryListener(this, priceService, configUtil, metrics, worthCache, loadShedder);
+        getServer().getPluginManager().registerEvents(inventoryListener, this);
+        loadShedder.start(inventoryListener::tagDeferred);
+        getServer().getPluginManager().registerEvents(worthCache, this);
+        getServer().getPluginManager().registerEvents(worthTracker, this);
+        worthTracker.start();
+        getServer().getPluginManager().registerEvents(traceRecorder, this);   // idle until /worth trace start
+        getServer().getPluginManager().registerEvents(sellLimiter, this);     // drops buckets on quit
+        sellLimiter.start();
+        getServer().getPluginManager().registerEvents(pendingReturns, this);  // hands back failed sales
 
         // FIX: BlockDropListener was declared but never registered — fixed here.
         getServer().getPluginManager().registerEvents(
-                new BlockDropListener(priceService, configUtil), this);
+                new BlockDropListener(priceService, configUtil, metrics, loadShedder), this);
     }
 
     private void registerCommands() {
-        WorthCommand worthCommand =
-                new WorthCommand(this, priceService, vaultBridge, essentialsBridge, configUtil);
+        worthCommand =
+                new WorthCommand(this, priceService, vaultBridge, essentialsBridge, configUtil,
+                        metrics, containerValuator, sellJournal, worthTracker, traceRecorder, loadShedder,
+                        priceStorage);
 
         getCommand("worth").setExecutor(worthCommand);
         getCommand("worth").setTabCompleter(worthCommand);
     }
 
+    /** Soft-depend: only touch PlaceholderAPI classes when the plugin is installed. */
+    private void registerPlaceholders() {
+        if (getServer().getPluginManager().getPlugin("PlaceholderAPI") == null) return;
+        new WorthExpansion(this, new WorthPlaceholders(worthCache, worthTracker, priceService, configUtil)).register();
+        getLogger().info("PlaceholderAPI: registered %worth_...% placeholders.");
+    }
+
     /**
      * Reload all plugin state from disk.
      * Called by ReloadCommand so all components refresh together.
      */
     public void fullReload() {
+        long start = System.nanoTime();
         reloadConfig();                  // reload config.yml from disk
-        priceService.reload();          // clear price cache (will re-derive from fresh config)
-        precomputeAllPrices();          // fill cache again immediately
+        if (configWatcher != null) configWatcher.markCurrent();
+        refresh(start);
         getLogger().info("Worth Items — full reload complete.");
     }
 
+    /**
+     * Hot reload: swaps in a config.yml the watcher has already parsed and
+     * validated off the main thread, then refreshes everything in this same
+     * tick — so the new config and the prices compiled from it go live together.
+     */
+    private void applyWatchedConfig(FileConfiguration parsed) {
+        long start = System.nanoTime();
+        watchedConfig = parsed;
+        refresh(start);
+        getLogger().info("Worth Items — config.yml changed on disk, reloaded in "
+                + StartupTimeline.millis(System.nanoTime() - start) + ".");
+    }
+
+    @Override
+    public FileConfiguration getConfig() {
+        FileConfiguration watched = watchedConfig;
+        return watched != null ? watched : super.getConfig();
+    }
+
+    @Override
+    public void reloadConfig() {
+        super.reloadConfig();
+        watchedConfig = null;
+    }
+
+    /** Re-applies the live config to every component and recompiles prices. Main thread. */
+    private void refresh(long start) {
+        metrics.setEnabled(configUtil.isMetricsEnabled());
+        balanceCache.configure(configUtil.isBalanceCacheEnabled(), configUtil.getBalanceCacheTtlMillis());
+        configureLoadShedder();
+        sellLimiter.configure(getConfig().getConfigurationSection("sell-limits"));
+        priceService.reload();          // clear price cache (will re-derive from fresh config)
+        precomputeAllPrices(null);      // recompile the source chain immediately
+        worthCommand.reload(getConfig().getConfigurationSection("tab-complete"));
+        if (essentialsBridge.isAvailable()) {   // push only what changed, sliced across ticks
+            essentialsBridge.syncToEssentials(priceService, configUtil.getEssentialsSyncPerTick());
+        }
+        if (mbeans != null) mbeans.startDump(configUtil.getJmxDumpTicks());
+        configureConfigWatcher();
+        metrics.recordReload(System.nanoTime() - start);
+    }
+
+    /** Starts or stops the hot-reload watcher to match hot-reload.enabled. */
+    private void configureConfigWatcher() {
+        boolean enabled = configUtil.isHotReloadEnabled();
+        if (configWatcher != null && !enabled) {
+            configWatcher.close();
+            configWatcher = null;
+        } else if (configWatcher == null && enabled) {
+            configWatcher = new ConfigWatcher(this, configUtil.getHotReloadDebounceMillis(), this::applyWatchedConfig);
+            configWatcher.start();
+        }
+    }
+
+    /** Registers the follower's sync source before warm-up, so the first compile includes it. */
+    private void startPriceSync() {
+        PriceSyncService.Role role = PriceSyncService.parseRole(configUtil.getSyncRole());
+        if (role == PriceSyncService.Role.OFF) return;
+
+        String nodeId = configUtil.getSyncNodeId();
+        PriceSyncTransport transport = switch (configUtil.getSyncTransport().toLowerCase()) {
+            case "plugin-messaging" -> new PluginMessageTransport(this);
+            case "directory"        -> new DirectoryTransport(this, configUtil.getSyncDirectory(),
+                                               configUtil.getSyncPollTicks(), configUtil.getSyncKeepFiles(), nodeId);
+            default -> null;
+        };
+        if (transport == null) {
+            getLogger().warning("Unknown price-sync.transport '" + configUtil.getSyncTransport()
+                    + "' — price sync disabled. Valid: plugin-messaging, directory");
+            return;
+        }
+        priceSync = new PriceSyncService(this, priceService, transport, role, nodeId,
+                configUtil.getSyncFullIntervalTicks());
+        priceSync.start();
+    }
+
+    private PriceBackend createPriceBackend() {
+        String id = configUtil.getStorageBackend();
+        PriceBackend backend = PriceBackends.create(id, this, configUtil.getStorageBatchSize());
+        if (backend != null) return backend;
+        getLogger().warning("Unknown storage.backend '" + id + "' — using yaml. Valid: " + PriceBackends.IDS);
+        return PriceBackends.create("yaml", this, configUtil.getStorageBatchSize());
+    }
+
+    private void configureLoadShedder() {
+        loadShedder.configure(configUtil.isLoadSheddingEnabled(), configUtil.getLoadBudgetNanos(),
+                configUtil.getLoadRecoverPercent(), configUtil.getLoadEscalateTicks(),
+                configUtil.getLoadRecoverTicks());
+    }
+
     public WorthPluginAPI getAPI() {
         return worthAPI;
     }
 
+    /** One async economy executor per provider, so each has its own circuit breaker. */
+    private AsyncEconomy newAsyncEconomy() {
+        return new AsyncEconomy(
+                task -> { if (isEnabled()) getServer().getScheduler().runTask(this, task); },
+                configUtil.getEconomyTimeoutMillis(),
+                configUtil.getEconomyMaxInFlight(),
+                configUtil.getEconomyFailureThreshold(),
+                configUtil.getEconomyOpenMillis());
+    }
+
     /**
-     * Precompute prices for all non-blacklisted items and persist to prices.yml.
+     * Deferred startup work, run on the first tick after the server is up:
+     * compile the price-source chain a slice per tick (the restored table is
+     * served meanwhile), persist it off-thread, then push prices to Essentials
+     * a slice per tick.
      */
-    private void precomputeAllPrices() {
-        int count = 0;
-        for (Material material : Material.values()) {
-            if (!material.isItem() || material.isAir()) continue;
-            if (configUtil.isBlacklisted(material.name())) continue;
+    private void warmUp() {
+        StartupTimeline startup = metrics.startup();
+        long start = System.nanoTime();
+        int perTick = configUtil.getWarmUpCompilePerTick();
+        priceService.compileSliced(perTick).whenComplete((prices, error) -> {
+            if (error != null) {
+                getLogger().log(Level.WARNING, "Warm-up: sliced price compile failed; compiling at once", error);
+                prices = priceService.compile();
+            }
+            long compiled = System.nanoTime() - start;
+            startup.record("compile", compiled);
+            getLogger().info("Warm-up: price table compiled in " + StartupTimeline.millis(compiled)
+                    + " (" + perTick + " materials per tick)");
+            persistPrices(prices, nanos -> startup.record("persist", nanos));
+            syncEssentialsAfterWarmUp(startup);
+        });
+    }
 
-            int price = priceService.getPrice(material);
-            if (price > 0) count++;
+    private void syncEssentialsAfterWarmUp(StartupTimeline startup) {
+        // FIX: Sync to Essentials on a later tick (after VaultBridge hooks on tick 1).
+        getServer().getScheduler().runTask(this, () -> {
+            if (!essentialsBridge.isAvailable()) return;
+            long syncStart = System.nanoTime();
+            essentialsBridge.syncToEssentials(priceService, configUtil.getEssentialsSyncPerTick(),
+                    () -> startup.record("essentials-sync", System.nanoTime() - syncStart));
+        });
+    }
+
+    /**
+     * Compile the price-source chain into the price table and persist it
+     * (price storage + price-table.bin) off the main thread.
+     */
+    private void precomputeAllPrices(LongConsumer onPersisted) {
+        persistPrices(priceService.compile(), onPersisted);
+    }
+
+    private void persistPrices(PriceSnapshot prices, LongConsumer onPersisted) {
+        int count = 0;
+        for (int i = 0; i < prices.size(); i++) {
+            if (prices.getPrice(i) > 0) count++;
         }
-        priceStorage.saveToDisk();
-        getLogger().info("Precomputed " + count + " item prices → prices.yml");
+        priceStorage.persistAsync(prices, onPersisted);
+        getLogger().info("Precomputed " + count + " item prices → " + priceStorage.getBackend().describe());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,224 @@
+package me.abdoabk.worth_items.api;
+
+import me.abdoabk.worth_items.metrics.LatencyHistogram;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AsyncEconomy — runs blocking economy provider calls on virtual threads.
+ *
+ * Every call gets:
+ *   - a timeout: for reads ({@link #submit}) the future fails with TimeoutException
+ *     and the stuck call is interrupted; for writes ({@link #submitWrite}) the
+ *     timeout only counts against the breaker — see there,
+ *   - a bounded in-flight limit (permits are only returned when the provider call
+ *     actually finishes, so a hung provider cannot pile up unbounded threads),
+ *   - a circuit breaker: after N consecutive failures/timeouts, calls fail fast
+ *     with RejectedExecutionException until a cool-down passes, then a single
+ *     probe call decides whether to close the circuit again.
+ *
+ * Business results (e.g. a deposit returning false) are not failures — only
+ * exceptions and timeouts trip the breaker.
+ *
+ * Has no Bukkit dependency except the injected main-thread executor, so it can
+ * be exercised against an in-memory stand-in economy with artificial latency
+ * (benchmarks: StandInEconomy, EconomyBenchmark).
+ */
+public final class AsyncEconomy implements AutoCloseable {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final long CLOSE_WAIT_SECONDS = 5;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Executor mainThread;
+    private final Semaphore inFlight;
+    private final int  maxInFlight;
+    private final long timeoutMillis;
+    private final int  failureThreshold;
+    private final long openMillis;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong    openedAt = new AtomicLong();      // 0 = closed
+    private final AtomicBoolean probing  = new AtomicBoolean();
+
+    private final LongAdder calls     = new LongAdder();
+    private final LongAdder failures  = new LongAdder();
+    private final LongAdder timeouts  = new LongAdder();
+    private final LongAdder rejected  = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * @param mainThread       executor that runs tasks on the server thread
+     * @param timeoutMillis    per-call timeout
+     * @param maxInFlight      maximum concurrent provider calls
+     * @param failureThreshold consecutive failures that open the circuit
+     * @param openMillis       how long the circuit stays open before a probe
+     */
+    public AsyncEconomy(Executor mainThread, long timeoutMillis, int maxInFlight,
+                        int failureThreshold, long openMillis) {
+        this.mainThread       = mainThread;
+        this.timeoutMillis    = timeoutMillis;
+        this.maxInFlight      = Math.max(1, maxInFlight);
+        this.inFlight         = new Semaphore(this.maxInFlight);
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMillis       = openMillis;
+    }
+
+    // ── Submission ───────────────────────────────────────────────────────────
+
+    /**
+     * Runs a blocking provider read on a virtual thread.
+     * The returned future completes on that thread — use {@link #onMainThread}
+     * before touching Bukkit state.
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> call) {
+        return submit(call, true);
+    }
+
+    /**
+     * Runs a blocking provider write (deposit, withdraw, set) on a virtual thread.
+     *
+     * NOTE: a write that times out may still land — interrupting it doesn't
+     * roll back a row the provider already committed. So writes are never
+     * cancelled and never reported as timed out: the future completes with
+     * the provider's actual outcome, however late, and a failed future always
+     * means the call did not run (rejected) or threw. Callers can therefore
+     * undo on failure without risking a double payment. The timeout still
+     * counts against the circuit breaker, and the in-flight limit still
+     * bounds how many slow writes can pile up.
+     */
+    public <T> CompletableFuture<T> submitWrite(Callable<T> call) {
+        return submit(call, false);
+    }
+
+    private <T> CompletableFuture<T> submit(Callable<T> call, boolean cancelOnTimeout) {
+        boolean probe = false;
+        if (openedAt.get() != 0) {
+            if (!cooledDown() || !probing.compareAndSet(false, true)) {
+                rejected.increment();
+                return CompletableFuture.failedFuture(
+                        new RejectedExecutionException("Economy provider unavailable (circuit open)"));
+            }
+            probe = true;
+        }
+        if (!inFlight.tryAcquire()) {
+            if (probe) probing.set(false);
+            rejected.increment();
+            return CompletableFuture.failedFuture(
+                    new RejectedExecutionException("Too many economy calls in flight"));
+        }
+
+        calls.increment();
+        long submitted = System.nanoTime();
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                try {
+                    future.complete(call.call());
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {      // closed
+            inFlight.release();
+            if (probe) probing.set(false);
+            rejected.increment();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        boolean isProbe = probe;
+        // Writes time out a copy, so the caller's future still gets the real outcome.
+        CompletableFuture<T> watched = cancelOnTimeout ? future : future.copy();
+        watched.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS).whenComplete((value, error) -> {
+            latency.record(System.nanoTime() - submitted);
+            if (error == null) {
+                onSuccess();
+            } else {
+                if (error instanceof TimeoutException) {
+                    timeouts.increment();
+                    if (cancelOnTimeout) task.cancel(true);
+                }
+                onFailure();
+            }
+            if (isProbe) probing.set(false);
+        });
+        return future;
+    }
+
+    /** Returns a future that completes with the same outcome, but on the main thread. */
+    public <T> CompletableFuture<T> onMainThread(CompletableFuture<T> future) {
+        return future.whenCompleteAsync((value, error) -> { }, mainThread);
+    }
+
+    // ── Circuit breaker ──────────────────────────────────────────────────────
+
+    public State getState() {
+        long opened = openedAt.get();
+        if (opened == 0) return State.CLOSED;
+        return cooledDown() ? State.HALF_OPEN : State.OPEN;
+    }
+
+    private boolean cooledDown() {
+        return System.currentTimeMillis() - openedAt.get() >= openMillis;
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        openedAt.set(0);
+    }
+
+    private void onFailure() {
+        failures.increment();
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt.set(System.currentTimeMillis());
+        }
+    }
+
+    // ── Stats ────────────────────────────────────────────────────────────────
+
+    public long getCalls()    { return calls.sum(); }
+
+    public long getFailures() { return failures.sum(); }
+
+    public long getTimeouts() { return timeouts.sum(); }
+
+    public long getRejected() { return rejected.sum(); }
+
+    public int getInFlight()  { return maxInFlight - inFlight.availablePermits(); }
+
+    /** Submit-to-completion time of admitted calls, timeouts included (rejected calls aren't timed). */
+    public LatencyHistogram getLatency() { return latency; }
+
+    /**
+     * Stops taking calls and waits up to {@link #CLOSE_WAIT_SECONDS} for the
+     * ones in flight — a deposit interrupted halfway is one nobody can settle.
+     * Only calls still hung after that are interrupted.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(CLOSE_WAIT_SECONDS, TimeUnit.SECONDS)) executor.shutdownNow();
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
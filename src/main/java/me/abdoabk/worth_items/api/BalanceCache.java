@@ -0,0 +1,84 @@
+package me.abdoabk.worth_items.api;
+
+import me.abdoabk.worth_items.metrics.WorthMetrics;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+
+/**
+ * BalanceCache — short-TTL cache of economy balances keyed by player UUID.
+ *
+ * Shared by {@link VaultBridge} and {@link EssentialsBridge}: reads that can
+ * tolerate being up to {@code ttl} old are served from here, and every
+ * deposit/withdraw/set that goes through either bridge invalidates the
+ * player's entry. Balance changes made by other plugins directly against the
+ * provider are picked up once the TTL runs out — that's the staleness bound.
+ *
+ * Each entry carries the time its load *started* (or the time it was
+ * invalidated). A load only replaces an entry stamped earlier than itself,
+ * so a slow read that began before a deposit can never overwrite the
+ * invalidation with the pre-deposit balance.
+ *
+ * Thread-safe: the bridges' async methods read and invalidate from virtual threads.
+ */
+public final class BalanceCache {
+
+    /** Above this many entries, expired ones are swept on the next miss. */
+    private static final int SWEEP_THRESHOLD = 4096;
+
+    /** stamp = System.nanoTime() when the load began or the entry was invalidated. */
+    private record Entry(double balance, long stamp, boolean valid) {}
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final WorthMetrics metrics;
+    private volatile boolean enabled;
+    private volatile long ttlNanos;
+
+    public BalanceCache(WorthMetrics metrics, boolean enabled, long ttlMillis) {
+        this.metrics = metrics;
+        configure(enabled, ttlMillis);
+    }
+
+    /** Applies new settings (e.g. after /worth reload) and drops everything cached. */
+    public void configure(boolean enabled, long ttlMillis) {
+        this.enabled  = enabled && ttlMillis > 0;
+        this.ttlNanos = Math.max(0, ttlMillis) * 1_000_000L;
+        entries.clear();
+    }
+
+    public boolean isEnabled() { return enabled; }
+
+    /**
+     * Returns the cached balance if it is younger than the TTL; otherwise
+     * calls {@code loader} (the provider) and caches what it returns.
+     */
+    public double get(UUID player, DoubleSupplier loader) {
+        if (!enabled) return loader.getAsDouble();
+
+        long now = System.nanoTime();
+        Entry cached = entries.get(player);
+        if (cached != null && cached.valid() && now - cached.stamp() < ttlNanos) {
+            metrics.recordBalanceLookup(true);
+            return cached.balance();
+        }
+
+        metrics.recordBalanceLookup(false);
+        if (entries.size() > SWEEP_THRESHOLD) {
+            entries.values().removeIf(entry -> now - entry.stamp() >= ttlNanos);
+        }
+        double balance = loader.getAsDouble();
+        Entry loaded = new Entry(balance, now, true);
+        entries.merge(player, loaded, (old, fresh) -> old.stamp() > fresh.stamp() ? old : fresh);
+        return balance;
+    }
+
+    /** Forgets a player's balance — call after anything that changes it. */
+    public void invalidate(UUID player) {
+        if (!enabled) return;
+        entries.put(player, new Entry(0, System.nanoTime(), false));
+    }
+
+    public int size() { return entries.size(); }
+}
@@ -6,15 +6,24 @@ import com.earth2me.essentials.Worth;
 import com.earth2me.essentials.api.Economy;
 import com.earth2me.essentials.api.NoLoanPermittedException;
 import com.earth2me.essentials.api.UserDoesNotExistException;
+import me.abdoabk.worth_items.metrics.ProviderStats;
 import me.abdoabk.worth_items.pricing.PriceService;
+import me.abdoabk.worth_items.pricing.PriceSnapshot;
 import net.ess3.api.MaxMoneyException;
-import org.bukkit.Bukkit;
 import org.bukkit.Material;
+import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
 
+import java.io.File;
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -22,9 +31,13 @@ import java.util.logging.Logger;
  *
  * Provides balance get/set/deposit/withdraw and metadata helpers
  * (nickname, AFK, vanish, mute) plus runtime price sync.
+ * Balance writes invalidate the shared {@link BalanceCache}.
  *
- * FIX: syncToEssentials log message corrected — Worth.setPrice() updates
- *      runtime prices only, not the worth.yml file on disk.
+ * NOTE: Worth.setPrice() saves worth.yml, so prices we push outlive a
+ * restart. Every pushed price is recorded in essentials-pushed.yml, and
+ * {@link #getEssentialsWorth} hides an Essentials worth that still equals
+ * what we pushed — otherwise the essentials source would read our own
+ * generated prices back and outrank the tier source for good.
  */
 public class EssentialsBridge {
 
@@ -32,10 +45,34 @@ public class EssentialsBridge {
     private final boolean available;
     private final Logger log;
     private final JavaPlugin plugin;
+    private final AsyncEconomy async;
+    private final BalanceCache balances;
+    private final ProviderStats stats = new ProviderStats();
 
-    public EssentialsBridge(JavaPlugin plugin) {
-        this.plugin = plugin;
-        this.log    = plugin.getLogger();
+    // Essentials' own worth, re-read at every compile — main thread only.
+    private double[] worthTable;
+
+    // Delta sync state — main thread only. Price last pushed per ordinal, -1 if
+    // none; loaded from and saved to the ledger, so it also spans restarts.
+    private int[] lastSynced;
+    private BukkitTask syncTask;
+
+    private final File ledgerFile;
+    private final Object ledgerLock = new Object();
+    private long ledgerVersion;          // main thread only
+    private long ledgerWritten;          // guarded by ledgerLock
+
+    // Last completed sync — written on the main thread, read by the JMX beans.
+    private volatile long lastSyncNanos = -1;
+    private volatile int  lastSyncPushed;
+    private volatile long syncCount;
+
+    public EssentialsBridge(JavaPlugin plugin, AsyncEconomy async, BalanceCache balances) {
+        this.plugin   = plugin;
+        this.log      = plugin.getLogger();
+        this.async    = async;
+        this.balances = balances;
+        this.ledgerFile = new File(plugin.getDataFolder(), "essentials-pushed.yml");
 
         org.bukkit.plugin.Plugin ess =
                 plugin.getServer().getPluginManager().getPlugin("Essentials");
@@ -57,60 +94,115 @@ public class EssentialsBridge {
 
     public BigDecimal getBalance(Player player) {
         if (!available || player == null) return BigDecimal.ZERO;
+        long start = stats.begin();
+        boolean failed = true;
         try {
-            return Economy.getMoneyExact(player.getUniqueId());
+            BigDecimal balance = Economy.getMoneyExact(player.getUniqueId());
+            failed = false;
+            return balance;
         } catch (UserDoesNotExistException e) {
             log.warning("EssentialsBridge: getBalance — user not found: " + player.getName());
             return BigDecimal.ZERO;
+        } finally {
+            stats.end(start, failed);
         }
     }
 
     public boolean has(Player player, double amount) {
         if (!available || player == null) return false;
+        long start = stats.begin();
+        boolean failed = true;
         try {
-            return Economy.hasEnough(player.getUniqueId(), BigDecimal.valueOf(amount));
+            boolean enough = Economy.hasEnough(player.getUniqueId(), BigDecimal.valueOf(amount));
+            failed = false;
+            return enough;
         } catch (UserDoesNotExistException e) {
             log.warning("EssentialsBridge: has — user not found: " + player.getName());
             return false;
+        } finally {
+            stats.end(start, failed);
         }
     }
 
     public boolean setBalance(Player player, double amount) {
         if (!available || player == null) return false;
+        long start = stats.begin();
+        boolean failed = true;
         try {
             Economy.setMoney(player.getUniqueId(), BigDecimal.valueOf(amount));
+            failed = false;
             return true;
         } catch (MaxMoneyException | UserDoesNotExistException | NoLoanPermittedException e) {
             log.warning("EssentialsBridge: setBalance failed for " + player.getName()
                     + " — " + e.getMessage());
             return false;
+        } finally {
+            stats.end(start, failed);
+            balances.invalidate(player.getUniqueId());
         }
     }
 
     public boolean deposit(Player player, double amount) {
         if (!available || player == null) return false;
+        long start = stats.begin();
+        boolean failed = true;
         try {
             Economy.add(player.getUniqueId(), BigDecimal.valueOf(amount));
+            failed = false;
             return true;
         } catch (MaxMoneyException | UserDoesNotExistException | NoLoanPermittedException e) {
             log.warning("EssentialsBridge: deposit failed for " + player.getName()
                     + " — " + e.getMessage());
             return false;
+        } finally {
+            stats.end(start, failed);
+            balances.invalidate(player.getUniqueId());
         }
     }
 
     public boolean withdraw(Player player, double amount) {
         if (!available || player == null) return false;
+        long start = stats.begin();
+        boolean failed = true;
         try {
             Economy.subtract(player.getUniqueId(), BigDecimal.valueOf(amount));
+            failed = false;
             return true;
         } catch (MaxMoneyException | UserDoesNotExistException | NoLoanPermittedException e) {
             log.warning("EssentialsBridge: withdraw failed for " + player.getName()
                     + " — " + e.getMessage());
             return false;
+        } finally {
+            stats.end(start, failed);
+            balances.invalidate(player.getUniqueId());
         }
     }
 
+    // ── Async balance operations ─────────────────────────────────────────────
+    // Same calls as above on virtual threads with timeout / in-flight limit /
+    // circuit breaker. Futures complete off the main thread.
+
+    public AsyncEconomy async() { return async; }
+
+    /** Every balance call made to Essentials, sync or async. */
+    public ProviderStats getProviderStats() { return stats; }
+
+    public CompletableFuture<BigDecimal> getBalanceAsync(Player player) {
+        return async.submit(() -> getBalance(player));
+    }
+
+    public CompletableFuture<Boolean> hasAsync(Player player, double amount) {
+        return async.submit(() -> has(player, amount));
+    }
+
+    public CompletableFuture<Boolean> depositAsync(Player player, double amount) {
+        return async.submitWrite(() -> deposit(player, amount));
+    }
+
+    public CompletableFuture<Boolean> withdrawAsync(Player player, double amount) {
+        return async.submitWrite(() -> withdraw(player, amount));
+    }
+
     // ── Player metadata ──────────────────────────────────────────────────────
 
     public String getNickname(Player player) {
@@ -137,56 +229,191 @@ public class EssentialsBridge {
 
     // ── Worth integration ────────────────────────────────────────────────────
 
+    /**
+     * Essentials' own worth for a material, or -1 if it has none.
+     *
+     * Served from a table read by {@link #refreshWorth()}, so lookups don't
+     * allocate an ItemStack each time. Worths that still equal what we pushed
+     * (per the ledger) are ours, not the admin's, and read as -1.
+     */
     public double getEssentialsWorth(Material material) {
         if (!available || material == null) return -1;
-        try {
-            Worth worth = essentials.getWorth();
-            BigDecimal val = worth.getPrice(essentials, new ItemStack(material, 1));
-            return val == null ? -1 : val.doubleValue();
-        } catch (Exception e) {
-            log.warning("EssentialsBridge: getEssentialsWorth failed for "
-                    + material.name() + " — " + e.getMessage());
-            return -1;
+        return worthTable()[material.ordinal()];
+    }
+
+    /**
+     * Re-reads Essentials' worth, so worth.yml edits are picked up on the next
+     * compile (startup, /worth reload, hot reload). Called by
+     * {@link EssentialsWorthSource#prepare()}. Main thread only.
+     */
+    public void refreshWorth() {
+        if (available) worthTable = readWorthTable();
+    }
+
+    private double[] worthTable() {
+        if (worthTable == null) worthTable = readWorthTable();
+        return worthTable;
+    }
+
+    /** Reads every item's Essentials worth, indexed by Material ordinal, minus prices we pushed. */
+    private double[] readWorthTable() {
+        Material[] materials = Material.values();
+        double[] table = new double[materials.length];
+        Arrays.fill(table, -1);
+
+        int[] pushed = lastSynced();
+        Worth worth = essentials.getWorth();
+        int failed = 0;
+        for (Material material : materials) {
+            if (material.isLegacy() || !material.isItem() || material.isAir()) continue;
+            try {
+                BigDecimal val = worth.getPrice(essentials, new ItemStack(material, 1));
+                if (val == null) continue;
+                int ordinal = material.ordinal();
+                if (pushed[ordinal] >= 0 && val.doubleValue() == pushed[ordinal]) continue;   // ours
+                table[ordinal] = val.doubleValue();
+            } catch (Exception e) {
+                failed++;
+            }
         }
+        if (failed > 0) {
+            log.warning("EssentialsBridge: could not read Essentials worth for " + failed + " materials.");
+        }
+        return table;
     }
 
     /**
-     * Pushes all plugin prices into EssentialsX at runtime (in-memory only).
+     * Pushes changed plugin prices into EssentialsX. Worth.setPrice() also
+     * saves them to worth.yml, so every pushed price is recorded in the ledger
+     * (essentials-pushed.yml) and recognised as ours after a restart.
+     * Prices equal to Essentials' own worth are left alone and not recorded.
      *
-     * FIX: Log message previously said "→ Essentials worth.yml" which is wrong.
-     * Worth.setPrice() sets runtime prices; it does NOT write to worth.yml on disk.
-     * The correct description is "→ Essentials runtime worth cache".
+     * Only materials whose price differs from the last value pushed are sent,
+     * and at most {@code perTick} setPrice calls run per tick, so a reload that
+     * changes nothing costs one array compare and a big change is spread out.
+     * Calling this while a sync is still running restarts it from the new prices.
+     * MUST be called on the main thread.
      */
-    public void syncToEssentials(PriceService priceService) {
+    public void syncToEssentials(PriceService priceService, int perTick) {
+        syncToEssentials(priceService, perTick, null);
+    }
+
+    /** As above; {@code onComplete} runs on the main thread once every material has been checked. */
+    public void syncToEssentials(PriceService priceService, int perTick, Runnable onComplete) {
         if (!available) return;
+        if (syncTask != null) syncTask.cancel();
+
+        PriceSnapshot prices = priceService.snapshot();
+        double[] own = worthTable();     // as of the compile, before this run pushes anything
+        lastSynced();                    // load the ledger
+
+        Material[] materials = Material.values();
+        Worth worth = essentials.getWorth();
+        int budget = Math.max(1, perTick);
+        long started = System.nanoTime();
 
-        Bukkit.getScheduler().runTask(plugin, () -> {
-            Worth worth = essentials.getWorth();
+        syncTask = new BukkitRunnable() {
+            int next = 0;
             int synced = 0;
+            int released = 0;
+            int ticks = 0;
 
-            for (Material material : Material.values()) {
-                if (!material.isItem() || material.isAir()) continue;
+            @Override
+            public void run() {
+                ticks++;
+                int pushed = 0;
+                while (next < materials.length && pushed < budget) {
+                    Material material = materials[next];
+                    int ordinal = next++;
 
-                try {
-                    double price = priceService.getPrice(material);
-                    if (price <= 0) continue;
-
-                    worth.setPrice(essentials, new ItemStack(material, 1), price);
-                    synced++;
-                } catch (Exception e) {
-                    log.warning("EssentialsBridge: sync failed for "
-                            + material.name() + " — " + e.getMessage());
+                    int price = prices.getPrice(ordinal);
+                    if (price == lastSynced[ordinal]) continue;
+                    if (price <= 0 && lastSynced[ordinal] <= 0) continue;   // never pushed, still worthless
+                    if (own[ordinal] == price) {
+                        // Essentials' own price. If we had pushed something else
+                        // there, the admin has since set this: stop claiming it.
+                        if (lastSynced[ordinal] >= 0) {
+                            lastSynced[ordinal] = -1;
+                            released++;
+                        }
+                        continue;
+                    }
+
+                    try {
+                        worth.setPrice(essentials, new ItemStack(material, 1), price);
+                        lastSynced[ordinal] = price;
+                        synced++;
+                        pushed++;
+                    } catch (Exception e) {
+                        log.warning("EssentialsBridge: sync failed for "
+                                + material.name() + " — " + e.getMessage());
+                    }
                 }
-            }
 
-            // FIX: Correct log message — runtime cache, not worth.yml file.
-            log.info("EssentialsBridge: synced " + synced
-                    + " prices → Essentials runtime worth cache (in-memory only).");
-        });
+                if (next >= materials.length) {
+                    cancel();
+                    syncTask = null;
+                    lastSyncNanos  = System.nanoTime() - started;
+                    lastSyncPushed = synced;
+                    syncCount++;
+                    if (synced > 0 || released > 0) saveLedger(lastSynced.clone());
+                    log.info("EssentialsBridge: synced " + synced + " changed prices over " + ticks
+                            + " tick(s) in " + (System.nanoTime() - started) / 1_000_000 + " ms"
+                            + " → Essentials worth (saved to worth.yml by Essentials).");
+                    if (onComplete != null) onComplete.run();
+                }
+            }
+        }.runTaskTimer(plugin, 0L, 1L);
     }
 
+    public long getSyncCount() { return syncCount; }
+
+    /** Duration of the last completed sync, or -1 if none has completed. */
+    public long getLastSyncNanos() { return lastSyncNanos; }
+
+    /** Prices pushed by the last completed sync. */
+    public int getLastSyncPushed() { return lastSyncPushed; }
+
     // ── Internal ─────────────────────────────────────────────────────────────
 
+    /** Prices pushed so far, by ordinal (-1: never) — loaded from the ledger on first use. Main thread. */
+    private int[] lastSynced() {
+        if (lastSynced != null) return lastSynced;
+        int[] pushed = new int[Material.values().length];
+        Arrays.fill(pushed, -1);
+        if (ledgerFile.isFile()) {
+            YamlConfiguration ledger = YamlConfiguration.loadConfiguration(ledgerFile);
+            for (String key : ledger.getKeys(false)) {
+                Material material = Material.getMaterial(key);
+                if (material != null) pushed[material.ordinal()] = ledger.getInt(key, -1);
+            }
+        }
+        lastSynced = pushed;
+        return pushed;
+    }
+
+    /** Writes the ledger off the main thread; a write older than one already on disk is skipped. */
+    private void saveLedger(int[] pushed) {
+        long version = ++ledgerVersion;
+        Material[] materials = Material.values();
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+            YamlConfiguration ledger = new YamlConfiguration();
+            ledger.options().header("Prices WorthItems pushed into Essentials' worth.yml. Do not edit.");
+            for (int i = 0; i < pushed.length; i++) {
+                if (pushed[i] >= 0) ledger.set(materials[i].name(), pushed[i]);
+            }
+            synchronized (ledgerLock) {
+                if (version < ledgerWritten) return;
+                try {
+                    ledger.save(ledgerFile);
+                    ledgerWritten = version;
+                } catch (IOException e) {
+                    log.log(Level.WARNING, "EssentialsBridge: could not save " + ledgerFile.getName(), e);
+                }
+            }
+        });
+    }
+
     private User getUser(Player player) {
         if (!available || player == null) return null;
         return essentials.getUser(player);
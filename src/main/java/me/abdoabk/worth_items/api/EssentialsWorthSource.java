@@ -0,0 +1,44 @@
+package me.abdoabk.worth_items.api;
+
+import me.abdoabk.worth_items.pricing.PriceSource;
+import org.bukkit.Material;
+
+/**
+ * Prices from EssentialsX worth.yml.
+ *
+ * Essentials' worth is re-read at the start of every compile, so worth.yml
+ * edits apply on /worth reload. Essentials saves the prices WorthItems pushes
+ * into worth.yml; {@link EssentialsBridge#getEssentialsWorth} skips worths
+ * still equal to what the ledger says we pushed, so our own prices can't come
+ * back as Essentials' and outrank the tier source. Fractional worths are
+ * rounded to the nearest whole unit.
+ */
+public class EssentialsWorthSource implements PriceSource {
+
+    public static final String ID = "essentials";
+
+    private final EssentialsBridge bridge;
+
+    public EssentialsWorthSource(EssentialsBridge bridge) {
+        this.bridge = bridge;
+    }
+
+    @Override
+    public String getId() { return ID; }
+
+    @Override
+    public int getDefaultPriority() { return 300; }
+
+    @Override
+    public void prepare() {
+        bridge.refreshWorth();
+    }
+
+    @Override
+    public int resolve(Material material, Lookup lookup) {
+        if (!bridge.isAvailable()) return NO_PRICE;
+        double worth = bridge.getEssentialsWorth(material);
+        if (worth < 0) return NO_PRICE;
+        return (int) Math.min(Integer.MAX_VALUE, Math.round(worth));
+    }
+}
@@ -0,0 +1,103 @@
+package me.abdoabk.worth_items.api;
+
+import org.bukkit.OfflinePlayer;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+
+/**
+ * PendingReturns — items owed to players who left before a failed sale was undone.
+ *
+ * When an async deposit fails after the seller has quit, their stacks can't go
+ * back into an inventory that is already saved. They are kept in
+ * pending-returns.yml instead and handed over on the player's next join
+ * (inventory first, leftovers dropped at their feet).
+ *
+ * Saved synchronously on every change: it only happens for a sale that failed
+ * while its seller was offline, and must survive a shutdown that follows.
+ *
+ * NOTE: Main thread only.
+ */
+public final class PendingReturns implements Listener {
+
+    private final JavaPlugin plugin;
+    private final File file;
+    private YamlConfiguration data;
+
+    public PendingReturns(JavaPlugin plugin) {
+        this.plugin = plugin;
+        this.file   = new File(plugin.getDataFolder(), "pending-returns.yml");
+    }
+
+    /** Keeps {@code item} for {@code player} until they next join. */
+    public void add(OfflinePlayer player, ItemStack item) {
+        YamlConfiguration data = data();
+        String key = player.getUniqueId().toString();
+        List<ItemStack> items = items(data, key);
+        items.add(item.clone());
+        data.set(key, items);
+        save();
+        plugin.getLogger().info("Kept " + item.getAmount() + "x " + item.getType().name() + " for "
+                + player.getName() + " from a failed sale; returned on their next join.");
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        Player player = event.getPlayer();
+        String key = player.getUniqueId().toString();
+        YamlConfiguration data = data();
+        if (!data.contains(key)) return;
+
+        List<ItemStack> items = items(data, key);
+        data.set(key, null);
+        save();
+
+        for (ItemStack item : items) {
+            for (ItemStack left : player.getInventory().addItem(item).values()) {
+                player.getWorld().dropItemNaturally(player.getLocation(), left);
+            }
+        }
+        player.sendMessage("§eItems from a sale that failed while you were away were returned to you.");
+    }
+
+    // ── Private ──────────────────────────────────────────────────────────────
+
+    private YamlConfiguration data() {
+        if (data == null) {
+            data = file.isFile() ? YamlConfiguration.loadConfiguration(file) : new YamlConfiguration();
+        }
+        return data;
+    }
+
+    private static List<ItemStack> items(YamlConfiguration data, String key) {
+        List<ItemStack> items = new ArrayList<>();
+        for (Object entry : data.getList(key, List.of())) {
+            if (entry instanceof ItemStack item) items.add(item);
+        }
+        return items;
+    }
+
+    private void save() {
+        try {
+            if (data().getKeys(false).isEmpty()) {
+                if (file.isFile() && !file.delete()) data.save(file);
+            } else {
+                data.save(file);
+            }
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Could not save " + file.getName()
+                    + " — items owed to offline players are only held in memory", e);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package me.abdoabk.worth_items.api;
+
+import org.bukkit.Material;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SellLimiter — token-bucket throttles on selling, per player and per material.
+ *
+ * Every player has one bucket for all their sales, plus one per material listed
+ * under sell-limits.materials. Each bucket counts either money (value) or items,
+ * holds up to {@code capacity} and refills at {@code per-minute}.
+ *
+ * A bucket is a single long — its "theoretical arrival time" (GCRA): taking
+ * {@code n} tokens pushes it {@code n × interval} into the future, and the take
+ * is refused if that would put it more than {@code capacity × interval} ahead of
+ * now. So a take is one CAS, with no lock and no refill timer. A player's
+ * buckets sit in one AtomicLongArray: slot 0 is the player bucket, slot 1 + i
+ * the i-th limited material.
+ *
+ * State is dropped when a player quits — once their buckets have refilled, so
+ * relogging doesn't reset a throttle. Holders of worthitems.sell.unlimited
+ * are never limited.
+ */
+public final class SellLimiter implements Listener {
+
+    /** Outcome of a take: allowed, or refused with when to retry (-1: larger than the bucket). */
+    public record Verdict(boolean allowed, long retryAfterMillis, String limit) {
+        static final Verdict ALLOWED = new Verdict(true, 0, null);
+    }
+
+    /** One configured bucket. interval = nanos per token; burst = capacity × interval. */
+    private record Limit(String name, boolean byValue, long capacity, long intervalNanos, long burstNanos) {
+        long cost(int items, long value) {
+            return byValue ? value : items;
+        }
+    }
+
+    private static final long EMPTY = Long.MIN_VALUE / 4;    // "refilled long ago", safe to add to
+    private static final long SWEEP_TICKS = 20L * 60;
+
+    private final JavaPlugin plugin;
+    private final Map<UUID, AtomicLongArray> buckets = new ConcurrentHashMap<>();
+    private final LongAdder refused = new LongAdder();
+    private BukkitTask sweepTask;
+
+    // Replaced together by configure(); readers take one consistent reference.
+    private volatile Config config = new Config(false, null, new int[0], new Limit[0]);
+
+    private record Config(boolean enabled, Limit player, int[] slotOf, Limit[] materials) {}
+
+    public SellLimiter(JavaPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Applies sell-limits from config.yml (startup and reload). Changing the
+     * limits starts every bucket full again; reloading unchanged ones doesn't.
+     */
+    public void configure(ConfigurationSection section) {
+        boolean enabled = section != null && section.getBoolean("enabled", false);
+        Limit player = enabled ? parse("player", section.getConfigurationSection("player")) : null;
+
+        int[] slotOf = new int[Material.values().length];
+        Arrays.fill(slotOf, -1);
+        Limit[] materials = new Limit[0];
+        ConfigurationSection perMaterial = enabled ? section.getConfigurationSection("materials") : null;
+        if (perMaterial != null) {
+            for (String key : perMaterial.getKeys(false)) {
+                Material material = Material.matchMaterial(key);
+                Limit limit = parse(key, perMaterial.getConfigurationSection(key));
+                if (material == null || limit == null) {
+                    plugin.getLogger().warning("sell-limits.materials: ignoring invalid entry '" + key + "'");
+                    continue;
+                }
+                slotOf[material.ordinal()] = materials.length;
+                materials = Arrays.copyOf(materials, materials.length + 1);
+                materials[materials.length - 1] = limit;
+            }
+        }
+
+        Config previous = config;
+        config = new Config(enabled, player, slotOf, materials);
+        boolean same = previous.enabled() == enabled && Objects.equals(previous.player(), player)
+                && Arrays.equals(previous.slotOf(), slotOf) && Arrays.equals(previous.materials(), materials);
+        if (!same) buckets.clear();   // a reload with unchanged limits keeps every throttle
+    }
+
+    // ── Lifecycle ────────────────────────────────────────────────────────────
+
+    public void start() {
+        sweepTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::sweep, SWEEP_TICKS, SWEEP_TICKS);
+    }
+
+    public void shutdown() {
+        if (sweepTask != null) sweepTask.cancel();
+        buckets.clear();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        UUID id = event.getPlayer().getUniqueId();
+        AtomicLongArray state = buckets.get(id);
+        if (state != null && refilled(state, System.nanoTime())) buckets.remove(id, state);
+    }
+
+    // ── Taking tokens (any thread) ───────────────────────────────────────────
+
+    public boolean isEnabled() { return config.enabled(); }
+
+    /**
+     * Takes {@code items} / {@code value} from the player's bucket and the
+     * material's, or from neither. Safe from any thread, lock-free.
+     */
+    public Verdict tryAcquire(OfflinePlayer player, Material material, int items, long value) {
+        Config current = config;
+        if (!current.enabled() || exempt(player)) return Verdict.ALLOWED;
+
+        AtomicLongArray state = stateOf(player.getUniqueId(), current);
+        long now = System.nanoTime();
+        int slot = current.slotOf()[material.ordinal()];
+
+        Verdict verdict = take(state, 0, current.player(), items, value, now);
+        if (!verdict.allowed()) return verdict;
+        if (slot < 0) return Verdict.ALLOWED;
+
+        verdict = take(state, slot + 1, current.materials()[slot], items, value, now);
+        if (!verdict.allowed()) give(state, 0, current.player(), items, value);   // all or nothing
+        return verdict;
+    }
+
+    /** Returns tokens taken by {@link #tryAcquire}, e.g. when the deposit that followed failed. */
+    public void release(OfflinePlayer player, Material material, int items, long value) {
+        Config current = config;
+        if (!current.enabled() || exempt(player)) return;
+        AtomicLongArray state = buckets.get(player.getUniqueId());
+        if (state == null) return;
+        give(state, 0, current.player(), items, value);
+        int slot = current.slotOf()[material.ordinal()];
+        if (slot >= 0) give(state, slot + 1, current.materials()[slot], items, value);
+    }
+
+    /** Sales refused by a limit since startup. */
+    public long getRefused() { return refused.sum(); }
+
+    /** Players with bucket state, online or waiting to refill after quitting. */
+    public int getTracked() { return buckets.size(); }
+
+    // ── Private ──────────────────────────────────────────────────────────────
+
+    private Verdict take(AtomicLongArray state, int slot, Limit limit, int items, long value, long now) {
+        if (limit == null) return Verdict.ALLOWED;
+        long cost = limit.cost(items, value);
+        if (cost <= 0) return Verdict.ALLOWED;
+        if (cost > limit.capacity()) {
+            refused.increment();
+            return new Verdict(false, -1, limit.name());
+        }
+
+        long increment = cost * limit.intervalNanos();
+        while (true) {
+            long tat  = state.get(slot);
+            long next = Math.max(tat, now) + increment;
+            long wait = next - now - limit.burstNanos();
+            if (wait > 0) {
+                refused.increment();
+                return new Verdict(false, Math.max(1, wait / 1_000_000), limit.name());
+            }
+            if (state.compareAndSet(slot, tat, next)) return Verdict.ALLOWED;
+        }
+    }
+
+    private static void give(AtomicLongArray state, int slot, Limit limit, int items, long value) {
+        if (limit == null) return;
+        long cost = limit.cost(items, value);
+        if (cost > 0 && cost <= limit.capacity()) state.addAndGet(slot, -cost * limit.intervalNanos());
+    }
+
+    private AtomicLongArray stateOf(UUID player, Config current) {
+        return buckets.computeIfAbsent(player, id -> {
+            AtomicLongArray state = new AtomicLongArray(1 + current.materials().length);
+            for (int i = 0; i < state.length(); i++) state.set(i, EMPTY);
+            return state;
+        });
+    }
+
+    private static boolean refilled(AtomicLongArray state, long now) {
+        for (int i = 0; i < state.length(); i++) {
+            if (state.get(i) > now) return false;
+        }
+        return true;
+    }
+
+    /** Drops state of players who quit with a bucket still refilling, once it has. */
+    private void sweep() {
+        long now = System.nanoTime();
+        buckets.entrySet().removeIf(entry ->
+                plugin.getServer().getPlayer(entry.getKey()) == null && refilled(entry.getValue(), now));
+    }
+
+    private static boolean exempt(OfflinePlayer player) {
+        return player instanceof Player online && online.hasPermission("worthitems.sell.unlimited");
+    }
+
+    /** A limit section, or null if it is missing or has no positive capacity and rate. */
+    private static Limit parse(String name, ConfigurationSection section) {
+        if (section == null) return null;
+        long capacity  = section.getLong("capacity", 0);
+        long perMinute = section.getLong("per-minute", 0);
+        if (capacity <= 0 || perMinute <= 0) return null;
+
+        boolean byValue = !"items".equalsIgnoreCase(section.getString("basis", "value"));
+        long interval = Math.max(1, 60_000_000_000L / perMinute);
+        // Keep capacity × interval well inside a long.
+        capacity = Math.min(capacity, (Long.MAX_VALUE / 8) / interval);
+        return new Limit(name, byValue, capacity, interval, capacity * interval);
+    }
+}
@@ -1,31 +1,80 @@
 package me.abdoabk.worth_items.api;
 
+import me.abdoabk.worth_items.journal.SellJournal;
+import me.abdoabk.worth_items.journal.SellRecord;
+import me.abdoabk.worth_items.metrics.HotPath;
+import me.abdoabk.worth_items.metrics.ProviderStats;
+import me.abdoabk.worth_items.metrics.WorthMetrics;
+import me.abdoabk.worth_items.pricing.ContainerValuator;
 import me.abdoabk.worth_items.pricing.PriceService;
+import me.abdoabk.worth_items.pricing.PriceSnapshot;
 import net.milkbowl.vault.economy.Economy;
 import net.milkbowl.vault.economy.EconomyResponse;
 import org.bukkit.Material;
 import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
 import org.bukkit.plugin.RegisteredServiceProvider;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
 /**
  * VaultBridge — thin wrapper around the Vault economy API.
  *
  * Hooks into the economy provider on the next server tick so that
  * all plugins (including EssentialsX) have finished registering their
  * services before we attempt to grab one.
+ *
+ * Every successful sale is appended to the {@link SellJournal}; appending
+ * only queues the record, so selling never waits on disk.
+ *
+ * getBalance / has may be answered from the shared {@link BalanceCache};
+ * every deposit and withdraw made here invalidates the player's entry.
+ *
+ * Sales go through the {@link SellLimiter} before any money moves; tokens
+ * are handed back if the deposit then fails.
+ *
+ * Async sales still in flight at shutdown are settled by {@link #settlePending}
+ * once the economy executor has drained; stacks owed to a seller who already
+ * left go to {@link PendingReturns}.
  */
 public class VaultBridge {
 
     private Economy economy;
     private final PriceService priceService;
     private final JavaPlugin plugin;
-    private boolean available = false;
-
-    public VaultBridge(JavaPlugin plugin, PriceService priceService) {
+    private final WorthMetrics metrics;
+    private final AsyncEconomy async;
+    private final SellJournal journal;
+    private final BalanceCache balances;
+    private final SellLimiter limiter;
+    private final PendingReturns returns;
+    private final ProviderStats stats = new ProviderStats();
+
+    // Async sales whose stacks are out of the inventory, by deposit. Main thread only.
+    private final Map<PendingSale, CompletableFuture<String>> inFlight = new IdentityHashMap<>();
+    private volatile boolean available = false;
+
+    public VaultBridge(JavaPlugin plugin, PriceService priceService, WorthMetrics metrics,
+                       AsyncEconomy async, SellJournal journal, BalanceCache balances, SellLimiter limiter,
+                       PendingReturns returns) {
         this.plugin       = plugin;
         this.priceService = priceService;
+        this.metrics      = metrics;
+        this.async        = async;
+        this.journal      = journal;
+        this.balances     = balances;
+        this.limiter      = limiter;
+        this.returns      = returns;
 
         // Delay hook by one tick so all plugins finish registering first.
         plugin.getServer().getScheduler().runTask(plugin, this::hook);
@@ -46,14 +95,14 @@ public class VaultBridge {
         return priceService.getPrice(material);
     }
 
-    public int getWorth(ItemStack item) {
+    public long getWorth(ItemStack item) {
         if (item == null || item.getType().isAir()) return 0;
-        return priceService.getPrice(item.getType()) * item.getAmount();
+        return (long) priceService.getPrice(item.getType()) * item.getAmount();
     }
 
-    public int getWorth(Material material, int amount) {
+    public long getWorth(Material material, int amount) {
         if (material == null || material.isAir() || amount <= 0) return 0;
-        return priceService.getPrice(material) * amount;
+        return (long) priceService.getPrice(material) * amount;
     }
 
     public String getWorthFormatted(Material material) {
@@ -70,12 +119,19 @@ public class VaultBridge {
         if (!available)                              return SellResult.fail("Vault is not available.");
         if (item == null || item.getType().isAir()) return SellResult.fail("Item is null or air.");
 
-        int earned = getWorth(item);
+        long earned = getWorth(item);
         if (earned <= 0) return SellResult.fail(item.getType().name() + " has no sell value.");
 
-        EconomyResponse response = economy.depositPlayer(player, earned);
-        if (!response.transactionSuccess()) return SellResult.fail(response.errorMessage);
+        SellLimiter.Verdict verdict = limiter.tryAcquire(player, item.getType(), item.getAmount(), earned);
+        if (!verdict.allowed()) return SellResult.limited(limitMessage(item.getType(), verdict), verdict);
 
+        String error = depositError(player, earned);
+        if (error != null) {
+            limiter.release(player, item.getType(), item.getAmount(), earned);
+            return SellResult.fail(error);
+        }
+
+        journal(player, item.getType(), item.getAmount(), earned);
         return SellResult.success(earned, item.getAmount(), item.getType());
     }
 
@@ -84,34 +140,155 @@ public class VaultBridge {
         if (material == null || material.isAir()) return SellResult.fail("Material is null or air.");
         if (amount <= 0)                          return SellResult.fail("Amount must be > 0.");
 
-        int earned = getWorth(material, amount);
+        long earned = getWorth(material, amount);
         if (earned <= 0) return SellResult.fail(material.name() + " has no sell value.");
 
-        EconomyResponse response = economy.depositPlayer(player, earned);
-        if (!response.transactionSuccess()) return SellResult.fail(response.errorMessage);
+        SellLimiter.Verdict verdict = limiter.tryAcquire(player, material, amount, earned);
+        if (!verdict.allowed()) return SellResult.limited(limitMessage(material, verdict), verdict);
+
+        String error = depositError(player, earned);
+        if (error != null) {
+            limiter.release(player, material, amount, earned);
+            return SellResult.fail(error);
+        }
 
+        journal(player, material, amount, earned);
         return SellResult.success(earned, amount, material);
     }
 
+    /**
+     * Sells every sellable stack in the given inventory slots as one sale,
+     * depositing on the calling (main) thread. Prefer {@link #sellSlotsAsync}
+     * from commands — this one blocks on the economy provider.
+     *
+     * All stacks are removed first, then a single deposit is made for the
+     * combined total; if the deposit fails or the provider throws, every
+     * removed stack is put back and its sell-limit tokens are returned.
+     * Containers that still hold items and stacks with no value are left alone.
+     *
+     * Sell limits are taken stack by stack, so a limit sells as much as it
+     * allows; stacks over the limit stay in the inventory and are reported in
+     * {@link BatchSellResult#limited()}, one line per material.
+     * MUST be called on the main thread.
+     */
+    public BatchSellResult sellSlots(Player player, int[] slots) {
+        if (!available) return BatchSellResult.fail("Vault is not available.");
+        PendingSale sale = collect(player, slots);
+        if (sale.total() <= 0) return sale.nothingToSell();
+        sale.removeStacks();
+        return settle(sale, depositError(player, sale.total()));
+    }
+
+    /**
+     * As {@link #sellSlots}, but the deposit runs through {@link #async()} so a
+     * slow provider never stalls the server thread. The stacks are taken out
+     * right away; the future completes on the main thread once the provider has
+     * answered, with the stacks put back (into their slot if it is still empty,
+     * otherwise anywhere, otherwise dropped at the player's feet) if it failed.
+     * Writes are never timed out (see {@link AsyncEconomy#submitWrite}), so a
+     * failure here always means nothing was paid.
+     * MUST be called on the main thread.
+     */
+    public CompletableFuture<BatchSellResult> sellSlotsAsync(Player player, int[] slots) {
+        if (!available) return CompletableFuture.completedFuture(BatchSellResult.fail("Vault is not available."));
+        PendingSale sale = collect(player, slots);
+        if (sale.total() <= 0) return CompletableFuture.completedFuture(sale.nothingToSell());
+        sale.removeStacks();
+
+        CompletableFuture<String> deposit = async.submitWrite(() -> depositError(player, sale.total()));
+        inFlight.put(sale, deposit);
+        return async.onMainThread(deposit).handle((error, thrown) -> {
+            if (inFlight.remove(sale) == null) return BatchSellResult.fail("The server is shutting down.");
+            return settle(sale, thrown == null ? error : unavailable(thrown));
+        });
+    }
+
+    /**
+     * Settles async sales whose main-thread completion will never run because
+     * the plugin is disabling. Call after {@code async().close()} has drained
+     * the executor and before the journal closes. A deposit still unanswered
+     * then is treated as failed — the stacks go back — and logged, since the
+     * provider may yet apply it.
+     */
+    public void settlePending() {
+        for (Map.Entry<PendingSale, CompletableFuture<String>> entry : List.copyOf(inFlight.entrySet())) {
+            PendingSale sale = entry.getKey();
+            CompletableFuture<String> deposit = entry.getValue();
+            inFlight.remove(sale);
+
+            String error;
+            if (!deposit.isDone()) {
+                plugin.getLogger().warning("VaultBridge: deposit of " + sale.total() + " to "
+                        + sale.player().getName() + " was still running at shutdown; items returned,"
+                        + " check their balance.");
+                error = "The server is shutting down.";
+            } else if (deposit.isCompletedExceptionally()) {
+                error = unavailable(deposit.exceptionNow());
+            } else {
+                error = deposit.resultNow();
+            }
+            settle(sale, error);
+        }
+    }
+
+    /** Current balance — possibly up to the balance cache TTL old. */
     public double getBalance(OfflinePlayer player) {
         if (!available) return 0;
-        return economy.getBalance(player);
+        return balances.get(player.getUniqueId(), () -> timed(() -> economy.getBalance(player)));
     }
 
+    /**
+     * Whether the player can afford {@code amount}. With the balance cache on,
+     * this is answered from the (possibly stale) cached balance; anything that
+     * actually takes money, like {@link #withdraw}, always asks the provider.
+     */
     public boolean has(OfflinePlayer player, double amount) {
         if (!available) return false;
-        return economy.has(player, amount);
+        if (balances.isEnabled()) return getBalance(player) >= amount;
+        return timed(() -> economy.has(player, amount));
     }
 
     public boolean deposit(OfflinePlayer player, double amount) {
         if (!available) return false;
-        return economy.depositPlayer(player, amount).transactionSuccess();
+        return deposited(player, amount).transactionSuccess();
     }
 
     public boolean withdraw(OfflinePlayer player, double amount) {
         if (!available) return false;
-        if (!economy.has(player, amount)) return false;
-        return economy.withdrawPlayer(player, amount).transactionSuccess();
+        if (!timed(() -> economy.has(player, amount))) return false;
+        try {
+            return timed(() -> economy.withdrawPlayer(player, amount)).transactionSuccess();
+        } finally {
+            balances.invalidate(player.getUniqueId());
+        }
+    }
+
+    // ── Async economy operations ─────────────────────────────────────────────
+    // Run on virtual threads with timeout / in-flight limit / circuit breaker.
+    // Futures complete off the main thread; wrap with async().onMainThread(...)
+    // before touching Bukkit. The provider must tolerate off-thread calls.
+    // Writes complete with the provider's real outcome, never a timeout, so a
+    // failed deposit/withdraw future means no money moved.
+
+    public AsyncEconomy async() { return async; }
+
+    /** Every call made to the Vault provider, sync or async. */
+    public ProviderStats getProviderStats() { return stats; }
+
+    public CompletableFuture<Double> getBalanceAsync(OfflinePlayer player) {
+        return async.submit(() -> getBalance(player));
+    }
+
+    public CompletableFuture<Boolean> hasAsync(OfflinePlayer player, double amount) {
+        return async.submit(() -> has(player, amount));
+    }
+
+    public CompletableFuture<Boolean> depositAsync(OfflinePlayer player, double amount) {
+        return async.submitWrite(() -> deposit(player, amount));
+    }
+
+    public CompletableFuture<Boolean> withdrawAsync(OfflinePlayer player, double amount) {
+        return async.submitWrite(() -> withdraw(player, amount));
     }
 
     /**
@@ -127,21 +304,211 @@ public class VaultBridge {
 
     public record SellResult(
             boolean success,
-            int earned,
+            long earned,
             int amount,
             Material material,
-            String errorMessage
+            String errorMessage,
+            long retryAfterMillis
     ) {
-        public static SellResult success(int earned, int amount, Material material) {
-            return new SellResult(true, earned, amount, material, null);
+        public static SellResult success(long earned, int amount, Material material) {
+            return new SellResult(true, earned, amount, material, null, 0);
         }
 
         public static SellResult fail(String reason) {
-            return new SellResult(false, 0, 0, null, reason);
+            return new SellResult(false, 0, 0, null, reason, 0);
+        }
+
+        /** Refused by a sell limit; retryAfterMillis is -1 when the sale can never fit. */
+        public static SellResult limited(String reason, SellLimiter.Verdict verdict) {
+            return new SellResult(false, 0, 0, null, reason, verdict.retryAfterMillis());
         }
     }
 
-    // ── Internal hook ────────────────────────────────────────────────────────
+    // ── BatchSellResult ──────────────────────────────────────────────────────
+
+    public record SoldLine(Material material, int amount, long earned) {}
+
+    /** Items left unsold because a sell limit refused them. */
+    public record LimitedLine(Material material, int amount, String message) {}
+
+    public record BatchSellResult(
+            boolean success,
+            long earned,
+            List<SoldLine> receipt,
+            List<LimitedLine> limited,
+            String errorMessage
+    ) {
+        public static BatchSellResult success(long earned, List<SoldLine> receipt, List<LimitedLine> limited) {
+            return new BatchSellResult(true, earned, receipt, limited, null);
+        }
+
+        public static BatchSellResult fail(String reason) {
+            return new BatchSellResult(false, 0, List.of(), List.of(), reason);
+        }
+
+        public static BatchSellResult limited(String reason, List<LimitedLine> limited) {
+            return new BatchSellResult(false, 0, List.of(), limited, reason);
+        }
+    }
+
+    // ── Internal ─────────────────────────────────────────────────────────────
+
+    /** Stacks chosen for a batch sale (limiter tokens already taken), until the deposit settles. */
+    private record PendingSale(Player player, int[] slots, ItemStack[] removed, Map<Material, long[]> lines,
+                               List<LimitedLine> limits, long total, PriceSnapshot prices) {
+
+        BatchSellResult nothingToSell() {
+            return limits.isEmpty()
+                    ? BatchSellResult.fail("Nothing to sell.")
+                    : BatchSellResult.limited(limits.get(0).message(), limits);
+        }
+
+        void removeStacks() {
+            PlayerInventory inventory = player.getInventory();
+            for (int i = 0; i < slots.length; i++) {
+                if (removed[i] != null) inventory.setItem(slots[i], null);
+            }
+        }
+    }
+
+    /** Picks the sellable stacks in {@code slots} and takes their sell-limit tokens. Main thread. */
+    private PendingSale collect(Player player, int[] slots) {
+        PriceSnapshot prices = priceService.snapshot();
+        PlayerInventory inventory = player.getInventory();
+
+        ItemStack[] removed = new ItemStack[slots.length];
+        Map<Material, long[]> lines = new EnumMap<>(Material.class);   // {amount, earned}
+        Map<Material, LimitedLine> limited = new EnumMap<>(Material.class);
+        long total = 0;
+
+        for (int i = 0; i < slots.length; i++) {
+            ItemStack item = inventory.getItem(slots[i]);
+            if (item == null || item.getType().isAir()) continue;
+
+            int unit = prices.getPrice(item.getType());
+            if (unit <= 0) continue;
+            if (ContainerValuator.directContents(item) != null) continue;   // never destroy contents
+
+            long earned = (long) unit * item.getAmount();
+            SellLimiter.Verdict verdict = limiter.tryAcquire(player, item.getType(), item.getAmount(), earned);
+            if (!verdict.allowed()) {
+                limited.merge(item.getType(),
+                        new LimitedLine(item.getType(), item.getAmount(), limitMessage(item.getType(), verdict)),
+                        (a, b) -> new LimitedLine(a.material(), a.amount() + b.amount(), b.message()));
+                continue;
+            }
+
+            long[] line = lines.computeIfAbsent(item.getType(), m -> new long[2]);
+            line[0] += item.getAmount();
+            line[1] += earned;
+            total   += earned;
+            removed[i] = item;
+        }
+        return new PendingSale(player, slots, removed, lines, List.copyOf(limited.values()), total, prices);
+    }
+
+    /** Completes a batch sale: journal and receipt, or put everything back. Main thread. */
+    private BatchSellResult settle(PendingSale sale, String error) {
+        Player player = sale.player();
+        if (error != null) {
+            restore(sale);
+            return BatchSellResult.fail(error);
+        }
+
+        List<SoldLine> receipt = new ArrayList<>(sale.lines().size());
+        for (Map.Entry<Material, long[]> entry : sale.lines().entrySet()) {
+            long[] line = entry.getValue();
+            receipt.add(new SoldLine(entry.getKey(), (int) line[0], line[1]));
+            journal(player, entry.getKey(), (int) line[0], line[1]);
+        }
+        return BatchSellResult.success(sale.total(), receipt, sale.limits());
+    }
+
+    /** Why an async deposit never ran: rejected by the circuit breaker or in-flight limit, or shut down. */
+    private static String unavailable(Throwable thrown) {
+        Throwable cause = thrown.getCause() != null ? thrown.getCause() : thrown;
+        return "The economy is unavailable right now — nothing was sold. (" + cause.getMessage() + ")";
+    }
+
+    /** Returns a failed sale's stacks and sell-limit tokens. */
+    private void restore(PendingSale sale) {
+        Player player = sale.player();
+        PlayerInventory inventory = player.getInventory();
+        for (int i = 0; i < sale.slots().length; i++) {
+            ItemStack item = sale.removed()[i];
+            if (item == null) continue;
+            limiter.release(player, item.getType(), item.getAmount(),
+                    (long) sale.prices().getPrice(item.getType()) * item.getAmount());
+
+            if (!player.isOnline()) {
+                // Quit while the deposit was in flight — their inventory is already saved.
+                returns.add(player, item);
+                continue;
+            }
+            ItemStack current = inventory.getItem(sale.slots()[i]);
+            if (current == null || current.getType().isAir()) {
+                inventory.setItem(sale.slots()[i], item);
+            } else {
+                for (ItemStack left : inventory.addItem(item).values()) {
+                    player.getWorld().dropItemNaturally(player.getLocation(), left);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs an economy provider call: always counted in {@link #getProviderStats()},
+     * and its latency recorded in the hot-path histograms when metrics are on.
+     */
+    private <T> T timed(Supplier<T> call) {
+        long start = metrics.start();
+        try {
+            return stats.time(call);
+        } finally {
+            metrics.stop(HotPath.ECONOMY, start);
+        }
+    }
+
+    /** Deposits through the provider, then invalidates the cached balance. */
+    private EconomyResponse deposited(OfflinePlayer player, double amount) {
+        try {
+            return timed(() -> economy.depositPlayer(player, amount));
+        } finally {
+            balances.invalidate(player.getUniqueId());
+        }
+    }
+
+    /** Player-facing text for a sale a sell limit refused. */
+    private static String limitMessage(Material material, SellLimiter.Verdict verdict) {
+        String which = "player".equals(verdict.limit())
+                ? "your sell limit"
+                : "the sell limit for " + material.name().toLowerCase().replace('_', ' ');
+        if (verdict.retryAfterMillis() < 0) return "That is more than " + which + " allows at once.";
+        long seconds = Math.max(1, (verdict.retryAfterMillis() + 999) / 1000);
+        return "You've reached " + which + " — try again in " + seconds + "s.";
+    }
+
+    /**
+     * Deposits a sale, or returns why it didn't happen. A provider that throws
+     * (e.g. a SQL-backed economy losing its connection) counts as a failed
+     * deposit, so callers still put items and sell-limit tokens back.
+     */
+    private String depositError(OfflinePlayer player, double amount) {
+        try {
+            EconomyResponse response = deposited(player, amount);
+            return response.transactionSuccess() ? null : response.errorMessage;
+        } catch (RuntimeException e) {
+            plugin.getLogger().log(Level.WARNING, "VaultBridge: deposit of " + amount + " to "
+                    + player.getName() + " threw", e);
+            return "The economy provider failed — nothing was sold.";
+        }
+    }
+
+    /** Queues a sale for the audit journal — never blocks on disk. */
+    private void journal(OfflinePlayer player, Material material, int amount, long total) {
+        journal.append(new SellRecord(System.currentTimeMillis(), player.getUniqueId(),
+                material.name(), amount, (int) (total / amount), total));
+    }
 
     private void hook() {
         if (plugin.getServer().getPluginManager().getPlugin("Vault") == null) {
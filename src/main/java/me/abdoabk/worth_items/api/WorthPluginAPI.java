@@ -1,9 +1,22 @@
 package me.abdoabk.worth_items.api;
 
+import me.abdoabk.worth_items.pricing.BulkValuator;
+import me.abdoabk.worth_items.pricing.ContainerValuator;
+import me.abdoabk.worth_items.pricing.PriceChangeBus;
+import me.abdoabk.worth_items.pricing.PriceDiff;
 import me.abdoabk.worth_items.pricing.PriceService;
+import me.abdoabk.worth_items.pricing.PriceSource;
+import me.abdoabk.worth_items.scan.AreaValuationJob;
+import me.abdoabk.worth_items.tracker.InventoryWorthTracker;
+import me.abdoabk.worth_items.util.ConfigUtil;
+import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.UUID;
+import java.util.function.Consumer;
+
 /**
  * WorthPluginAPI — Public API for the WorthItems plugin.
  *
@@ -21,13 +34,22 @@ public class WorthPluginAPI {
     private final PriceService     priceService;
     private final VaultBridge      vaultBridge;
     private final EssentialsBridge essentialsBridge;
+    private final ContainerValuator containerValuator;
+    private final ConfigUtil       configUtil;
+    private final InventoryWorthTracker worthTracker;
 
     public WorthPluginAPI(PriceService priceService,
                           VaultBridge vaultBridge,
-                          EssentialsBridge essentialsBridge) {
-        this.priceService     = priceService;
-        this.vaultBridge      = vaultBridge;
-        this.essentialsBridge = essentialsBridge;
+                          EssentialsBridge essentialsBridge,
+                          ContainerValuator containerValuator,
+                          ConfigUtil configUtil,
+                          InventoryWorthTracker worthTracker) {
+        this.priceService      = priceService;
+        this.vaultBridge       = vaultBridge;
+        this.essentialsBridge  = essentialsBridge;
+        this.containerValuator = containerValuator;
+        this.configUtil        = configUtil;
+        this.worthTracker      = worthTracker;
     }
 
     // ── Price queries ────────────────────────────────────────────────────────
@@ -42,22 +64,124 @@ public class WorthPluginAPI {
         return priceService.getPrice(item.getType());
     }
 
-    public int getTotalValue(ItemStack item) {
-        if (item == null || item.getType().isAir()) return 0;
-        return priceService.getPrice(item.getType()) * item.getAmount();
+    /** Stack worth, including the contents of shulker boxes and bundles. */
+    public long getTotalValue(ItemStack item) {
+        return containerValuator.getValue(item);
+    }
+
+    /** Combined worth of all stacks, including the contents of shulker boxes and bundles. */
+    public long getTotalValue(ItemStack[] items) {
+        return containerValuator.getValue(items);
+    }
+
+    // ── Live player totals ───────────────────────────────────────────────────
+    // O(1) reads of running totals kept up to date from inventory events.
+    // Safe from any thread; 0 for players who aren't online.
+
+    /** Inventory + ender chest worth, container contents included (as /worth inventory). */
+    public long getInventoryWorth(UUID player) {
+        return worthTracker.getTotal(player);
+    }
+
+    /** Worth of block items in the inventory (as /worth blocks). */
+    public long getBlocksWorth(UUID player) {
+        return worthTracker.getBlocks(player);
     }
 
-    public int getTotalValue(ItemStack[] items) {
-        if (items == null) return 0;
-        int total = 0;
-        for (ItemStack item : items) total += getTotalValue(item);
-        return total;
+    // ── Price changes ────────────────────────────────────────────────────────
+
+    /**
+     * Receives one diff (material, old price, new price) per price change —
+     * e.g. after /worth reload — on the main thread. Listening for
+     * PriceChangeEvent is equivalent.
+     */
+    public PriceChangeBus.Subscription onPriceChange(Consumer<PriceDiff> subscriber) {
+        return priceService.changes().subscribe(subscriber);
+    }
+
+    /** Same as {@link #onPriceChange}, but delivered on a Bukkit async worker. */
+    public PriceChangeBus.Subscription onPriceChangeAsync(Consumer<PriceDiff> subscriber) {
+        return priceService.changes().subscribeAsync(subscriber);
+    }
+
+    // ── Bulk valuation ───────────────────────────────────────────────────────
+    // One pass against a single price snapshot. The per-item loop allocates
+    // nothing except when opening non-empty shulker boxes / bundles.
+    // Safe off the main thread on stacks you own (e.g. copies).
+
+    /** Grand total of an inventory, container contents included. */
+    public long getBulkValue(Inventory inventory) {
+        return BulkValuator.value(inventory.getContents(), priceService.snapshot());
+    }
+
+    /** Grand total of the stacks, container contents included. */
+    public long getBulkValue(ItemStack[] items) {
+        return BulkValuator.value(items, priceService.snapshot());
+    }
+
+    /** Worth of a material-count array indexed by {@link Material#ordinal()}. */
+    public long getBulkValue(long[] counts) {
+        return BulkValuator.value(counts, priceService.snapshot());
+    }
+
+    /**
+     * Adds each material's worth to {@code valueByMaterial[material.ordinal()]}
+     * and returns the total. Allocate the array once with {@link #newMaterialArray()}
+     * and reuse it; it is not cleared between calls.
+     */
+    public long getBulkBreakdown(ItemStack[] items, long[] valueByMaterial) {
+        return BulkValuator.valueInto(items, priceService.snapshot(), valueByMaterial);
+    }
+
+    public long getBulkBreakdown(Inventory inventory, long[] valueByMaterial) {
+        return getBulkBreakdown(inventory.getContents(), valueByMaterial);
+    }
+
+    /** A zeroed array with one slot per Material, sized for the breakdown methods. */
+    public long[] newMaterialArray() {
+        return new long[priceService.snapshot().size()];
     }
 
     public boolean hasSpecialPrice(Material material) {
         return material != null && priceService.hasSpecialOverride(material);
     }
 
+    // ── Price sources ────────────────────────────────────────────────────────
+
+    /**
+     * Adds an external price source to the resolution chain (or replaces one
+     * with the same id) and recompiles the price table.
+     * Its priority can be overridden under price-sources in config.yml.
+     * MUST be called on the main thread.
+     */
+    public void registerPriceSource(PriceSource source) {
+        priceService.registerSource(source);
+    }
+
+    public boolean unregisterPriceSource(String id) {
+        return priceService.unregisterSource(id);
+    }
+
+    /** Id of the source that priced this material (config, essentials, recipe, tier, …). */
+    public String getPriceSource(Material material) {
+        return material == null ? null : priceService.getSourceOf(material);
+    }
+
+    // ── Area valuation ───────────────────────────────────────────────────────
+
+    /**
+     * Values all placed blocks within {@code radius} blocks (square, full height)
+     * of {@code center}, optionally including container contents.
+     *
+     * MUST be called on the main thread; only chunk snapshots are taken there.
+     * Track progress via the returned job; its result future completes on a
+     * worker thread — hop back to the main thread before touching Bukkit.
+     */
+    public AreaValuationJob valueArea(Location center, int radius, boolean includeContainers) {
+        return AreaValuationJob.start(center, radius, includeContainers,
+                priceService.snapshot(), configUtil.getScanThreads());
+    }
+
     // ── Bridge accessors ─────────────────────────────────────────────────────
 
     /** Access Vault economy operations: deposit, withdraw, balance, format. */
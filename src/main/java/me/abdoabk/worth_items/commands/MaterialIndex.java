@@ -0,0 +1,246 @@
+package me.abdoabk.worth_items.commands;
+
+import me.abdoabk.worth_items.pricing.PriceService;
+import me.abdoabk.worth_items.pricing.PriceSnapshot;
+import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * MaterialIndex — prebuilt, sorted index of lowercase material names and aliases.
+ *
+ * Completion is a case-insensitive binary search for the prefix range followed
+ * by a bounded top-N selection, so a keystroke touches only matching keys and
+ * allocates nothing but the caller's result list. When no key starts with the
+ * input, an optional typo-tolerant pass (Damerau-Levenshtein against key
+ * prefixes) suggests near misses such as "diamnod" → diamond.
+ *
+ * NOTE: Not thread-safe — scratch buffers are reused; call on the main thread.
+ */
+public class MaterialIndex {
+
+    public enum Ranking { PRICE, POPULARITY, NAME }
+
+    /** Common abbreviations; config tab-complete.aliases adds to / overrides these. */
+    private static final Map<String, Material> BUILT_IN_ALIASES = new LinkedHashMap<>();
+    static {
+        BUILT_IN_ALIASES.put("gapple",    Material.GOLDEN_APPLE);
+        BUILT_IN_ALIASES.put("egapple",   Material.ENCHANTED_GOLDEN_APPLE);
+        BUILT_IN_ALIASES.put("godapple",  Material.ENCHANTED_GOLDEN_APPLE);
+        BUILT_IN_ALIASES.put("notch",     Material.ENCHANTED_GOLDEN_APPLE);
+        BUILT_IN_ALIASES.put("xp",        Material.EXPERIENCE_BOTTLE);
+        BUILT_IN_ALIASES.put("pearl",     Material.ENDER_PEARL);
+        BUILT_IN_ALIASES.put("ebook",     Material.ENCHANTED_BOOK);
+        BUILT_IN_ALIASES.put("totem",     Material.TOTEM_OF_UNDYING);
+        BUILT_IN_ALIASES.put("star",      Material.NETHER_STAR);
+        BUILT_IN_ALIASES.put("debris",    Material.ANCIENT_DEBRIS);
+        BUILT_IN_ALIASES.put("netherite", Material.NETHERITE_INGOT);
+        BUILT_IN_ALIASES.put("lapis",     Material.LAPIS_LAZULI);
+        BUILT_IN_ALIASES.put("cobble",    Material.COBBLESTONE);
+        BUILT_IN_ALIASES.put("obby",      Material.OBSIDIAN);
+        BUILT_IN_ALIASES.put("steak",     Material.COOKED_BEEF);
+        BUILT_IN_ALIASES.put("shulker",   Material.SHULKER_BOX);
+    }
+
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final PriceService priceService;
+
+    private String[]   keys    = new String[0];
+    private Material[] targets = new Material[0];
+    private final int[] popularity = new int[Material.values().length];
+
+    private boolean fuzzy   = true;
+    private Ranking ranking = Ranking.PRICE;
+    private int     limit   = 15;
+
+    // Scratch buffers — reused by every completion.
+    private int[] topIndex = new int[limit];
+    private int[] topScore = new int[limit];
+    private final int[] rowPrev2 = new int[MAX_KEY_LENGTH + 1];
+    private final int[] rowPrev  = new int[MAX_KEY_LENGTH + 1];
+    private final int[] rowCur   = new int[MAX_KEY_LENGTH + 1];
+
+    public MaterialIndex(PriceService priceService, ConfigurationSection settings) {
+        this.priceService = priceService;
+        rebuild(settings);
+    }
+
+    /** Rebuilds the key table from materials + aliases. Called on enable and reload. */
+    public void rebuild(ConfigurationSection settings) {
+        Map<String, Material> entries = new LinkedHashMap<>();
+        for (Material material : Material.values()) {
+            if (material.isLegacy() || !material.isItem() || material.isAir()) continue;
+            entries.put(material.name().toLowerCase(Locale.ROOT), material);
+        }
+        BUILT_IN_ALIASES.forEach(entries::putIfAbsent);
+
+        if (settings != null) {
+            fuzzy   = settings.getBoolean("fuzzy", true);
+            limit   = Math.max(1, settings.getInt("limit", 15));
+            ranking = parseRanking(settings.getString("rank-by", "price"));
+
+            ConfigurationSection aliases = settings.getConfigurationSection("aliases");
+            if (aliases != null) {
+                for (String alias : aliases.getKeys(false)) {
+                    Material target = Material.matchMaterial(aliases.getString(alias, ""));
+                    if (target != null) entries.put(alias.toLowerCase(Locale.ROOT), target);
+                }
+            }
+        }
+
+        List<String> sorted = new ArrayList<>(entries.keySet());
+        sorted.sort(null);
+
+        String[]   newKeys    = sorted.toArray(new String[0]);
+        Material[] newTargets = new Material[newKeys.length];
+        for (int i = 0; i < newKeys.length; i++) newTargets[i] = entries.get(newKeys[i]);
+
+        keys     = newKeys;
+        targets  = newTargets;
+        topIndex = new int[limit];
+        topScore = new int[limit];
+    }
+
+    // ── Lookup ───────────────────────────────────────────────────────────────
+
+    /** Resolves a name or alias (any case) to a material, or null. */
+    public Material resolve(String input) {
+        int i = lowerBound(input);
+        if (i < keys.length && keys[i].length() == input.length() && comparePrefix(keys[i], input) == 0) {
+            return targets[i];
+        }
+        return Material.matchMaterial(input.toUpperCase(Locale.ROOT));
+    }
+
+    /** Counts a lookup towards popularity ranking. */
+    public void recordLookup(Material material) {
+        popularity[material.ordinal()]++;
+    }
+
+    /**
+     * Adds up to {@code limit} suggestions for {@code input} to {@code out},
+     * best-ranked first. Falls back to fuzzy matching when nothing matches.
+     */
+    public void complete(String input, List<String> out) {
+        if (input.isEmpty()) return;
+
+        PriceSnapshot prices = ranking == Ranking.PRICE ? priceService.snapshot() : null;
+        int found = 0;
+
+        for (int i = lowerBound(input); i < keys.length && comparePrefix(keys[i], input) == 0; i++) {
+            found = offer(i, score(i, prices, 0), found);
+        }
+
+        if (found == 0 && fuzzy && input.length() >= 3 && input.length() < MAX_KEY_LENGTH) {
+            int maxDistance = input.length() <= 5 ? 1 : 2;
+            for (int i = 0; i < keys.length; i++) {
+                int distance = prefixDistance(input, keys[i], maxDistance);
+                if (distance <= maxDistance) found = offer(i, score(i, prices, distance), found);
+            }
+        }
+
+        for (int i = 0; i < found; i++) out.add(keys[topIndex[i]]);
+    }
+
+    // ── Ranking ──────────────────────────────────────────────────────────────
+
+    /** Higher is better. Distance dominates, then the configured ranking. */
+    private int score(int index, PriceSnapshot prices, int distance) {
+        int base = switch (ranking) {
+            case PRICE      -> prices.getPrice(targets[index]);
+            case POPULARITY -> popularity[targets[index].ordinal()];
+            case NAME       -> 0;   // keys are already alphabetical
+        };
+        return (Math.min(base, 1 << 24)) - distance * (1 << 25);
+    }
+
+    /** Insertion into the bounded top-N buffers; stable, so ties stay alphabetical. */
+    private int offer(int index, int score, int found) {
+        int pos = found;
+        while (pos > 0 && topScore[pos - 1] < score) pos--;
+        if (pos >= limit) return found;
+
+        int end = Math.min(found, limit - 1);
+        System.arraycopy(topIndex, pos, topIndex, pos + 1, end - pos);
+        System.arraycopy(topScore, pos, topScore, pos + 1, end - pos);
+        topIndex[pos] = index;
+        topScore[pos] = score;
+        return Math.min(found + 1, limit);
+    }
+
+    // ── Matching ─────────────────────────────────────────────────────────────
+
+    /** First key whose case-insensitive prefix is >= input. */
+    private int lowerBound(String input) {
+        int lo = 0, hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (comparePrefix(keys[mid], input) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /** <0 if key sorts before input, 0 if key starts with input (ignoring case), >0 otherwise. */
+    private static int comparePrefix(String key, String input) {
+        int n = Math.min(key.length(), input.length());
+        for (int i = 0; i < n; i++) {
+            int diff = key.charAt(i) - Character.toLowerCase(input.charAt(i));
+            if (diff != 0) return diff;
+        }
+        return key.length() < input.length() ? -1 : 0;
+    }
+
+    /**
+     * Optimal-string-alignment distance between input and the closest prefix
+     * of key, giving up early once every cell exceeds maxDistance.
+     */
+    private int prefixDistance(String input, String key, int maxDistance) {
+        int cols = Math.min(key.length(), input.length() + maxDistance);
+        if (cols + maxDistance < input.length()) return Integer.MAX_VALUE;
+
+        for (int j = 0; j <= cols; j++) rowPrev[j] = j;
+
+        int[] prev2 = rowPrev2, prev = rowPrev, cur = rowCur;
+        for (int i = 1; i <= input.length(); i++) {
+            char a = Character.toLowerCase(input.charAt(i - 1));
+            cur[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= cols; j++) {
+                char b = key.charAt(j - 1);
+                int cost = a == b ? 0 : 1;
+                int value = Math.min(Math.min(prev[j] + 1, cur[j - 1] + 1), prev[j - 1] + cost);
+                if (i > 1 && j > 1 && a == key.charAt(j - 2)
+                        && Character.toLowerCase(input.charAt(i - 2)) == b) {
+                    value = Math.min(value, prev2[j - 2] + 1);
+                }
+                cur[j] = value;
+                if (value < rowMin) rowMin = value;
+            }
+            if (rowMin > maxDistance) return Integer.MAX_VALUE;
+
+            int[] recycled = prev2;
+            prev2 = prev;
+            prev  = cur;
+            cur   = recycled;
+        }
+
+        int best = Integer.MAX_VALUE;
+        for (int j = 0; j <= cols; j++) best = Math.min(best, prev[j]);
+        return best;
+    }
+
+    private static Ranking parseRanking(String value) {
+        try {
+            return Ranking.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return Ranking.PRICE;
+        }
+    }
+}
@@ -4,23 +4,33 @@ import me.abdoabk.worth_items.Worth_items;
 import me.abdoabk.worth_items.api.EssentialsBridge;
 import me.abdoabk.worth_items.api.VaultBridge;
 import me.abdoabk.worth_items.commands.args.*;
+import me.abdoabk.worth_items.journal.SellJournal;
+import me.abdoabk.worth_items.listener.LoadShedder;
+import me.abdoabk.worth_items.metrics.WorthMetrics;
+import me.abdoabk.worth_items.pricing.ConfigOverrideSource;
+import me.abdoabk.worth_items.pricing.ContainerValuator;
 import me.abdoabk.worth_items.pricing.PriceService;
+import me.abdoabk.worth_items.pricing.PriceStorage;
+import me.abdoabk.worth_items.pricing.storage.PriceBackends;
+import me.abdoabk.worth_items.pricing.TierSource;
+import me.abdoabk.worth_items.trace.TraceRecorder;
+import me.abdoabk.worth_items.tracker.InventoryWorthTracker;
 import me.abdoabk.worth_items.util.ConfigUtil;
 import me.abdoabk.worth_items.util.ItemUtil;
+import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
+import org.bukkit.configuration.ConfigurationSection;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
- * /worth <hand|inventory|blocks|reload|[material]>
+ * /worth <hand|inventory|blocks|sell|reload|stats|top|area|journal|trace|[material]>
  *
  * Routes to the appropriate subcommand handler.
  * Adding a new subcommand = create a class in args/, add one case here.
@@ -28,6 +38,9 @@ import java.util.stream.Collectors;
  * FIX 1: `special` variable in handleMaterialLookup was computed but never used — removed.
  * FIX 2: Tab-complete now hides "reload" from players without worthitems.reload permission.
  * FIX 3: Material lookup uses vaultBridge.format() for consistent currency display.
+ *
+ * Material names are completed and resolved through a prebuilt {@link MaterialIndex}
+ * (sorted names + aliases) instead of scanning Material.values() per keystroke.
  */
 public class WorthCommand implements CommandExecutor, TabCompleter {
 
@@ -35,21 +48,45 @@ public class WorthCommand implements CommandExecutor, TabCompleter {
     private final InventoryCommands inventoryCommands;
     private final BlocksCommand     blocksCommand;
     private final ReloadCommand     reloadCommand;
+    private final StatsCommand      statsCommand;
+    private final TopCommand        topCommand;
+    private final SellCommand       sellCommand;
+    private final AreaCommand       areaCommand;
+    private final JournalCommand    journalCommand;
+    private final TraceCommand      traceCommand;
+    private final StorageCommand    storageCommand;
     private final PriceService      priceService;
     private final VaultBridge       vaultBridge;
+    private final MaterialIndex     materialIndex;
 
     public WorthCommand(Worth_items plugin,
                         PriceService priceService,
                         VaultBridge vaultBridge,
                         EssentialsBridge essentialsBridge,
-                        ConfigUtil configUtil) {
+                        ConfigUtil configUtil,
+                        WorthMetrics metrics,
+                        ContainerValuator containerValuator,
+                        SellJournal sellJournal,
+                        InventoryWorthTracker worthTracker,
+                        TraceRecorder traceRecorder,
+                        LoadShedder loadShedder,
+                        PriceStorage priceStorage) {
         this.priceService = priceService;
         this.vaultBridge  = vaultBridge;
+        this.materialIndex = new MaterialIndex(priceService,
+                plugin.getConfig().getConfigurationSection("tab-complete"));
 
         handCommand       = new HandCommand(vaultBridge, configUtil);
-        inventoryCommands = new InventoryCommands(vaultBridge, configUtil);
+        inventoryCommands = new InventoryCommands(vaultBridge, configUtil, containerValuator);
         blocksCommand     = new BlocksCommand(vaultBridge, configUtil);
         reloadCommand     = new ReloadCommand(plugin);   // FIX: pass plugin, not priceService
+        statsCommand      = new StatsCommand(metrics, loadShedder, containerValuator);
+        topCommand        = new TopCommand(plugin, priceService, vaultBridge, configUtil);
+        sellCommand       = new SellCommand(vaultBridge, worthTracker, materialIndex);
+        areaCommand       = new AreaCommand(plugin, priceService, vaultBridge, configUtil);
+        journalCommand    = new JournalCommand(plugin, sellJournal, vaultBridge);
+        traceCommand      = new TraceCommand(plugin, traceRecorder, configUtil);
+        storageCommand    = new StorageCommand(plugin, priceStorage, configUtil);
     }
 
     @Override
@@ -65,7 +102,14 @@ public class WorthCommand implements CommandExecutor, TabCompleter {
             case "hand"            -> handCommand.execute(sender);
             case "inventory", "inv"-> inventoryCommands.execute(sender);
             case "blocks"          -> blocksCommand.execute(sender);
+            case "sell"            -> sellCommand.execute(sender, args);
             case "reload"          -> reloadCommand.execute(sender);
+            case "stats"           -> statsCommand.execute(sender, args);
+            case "top"             -> topCommand.execute(sender, args);
+            case "area"            -> areaCommand.execute(sender, args);
+            case "journal"         -> journalCommand.execute(sender, args);
+            case "trace"           -> traceCommand.execute(sender, args);
+            case "storage"         -> storageCommand.execute(sender, args);
             default                -> handleMaterialLookup(sender, args[0]);
         }
 
@@ -81,35 +125,82 @@ public class WorthCommand implements CommandExecutor, TabCompleter {
 
             // FIX: Only show "reload" to players who hold the permission.
             List<String> subs = new ArrayList<>(List.of("hand", "inventory", "blocks"));
+            if (sender.hasPermission("worthitems.sell"))   subs.add("sell");
             if (sender.hasPermission("worthitems.reload")) subs.add("reload");
+            if (sender.hasPermission("worthitems.stats"))  subs.add("stats");
+            if (sender.hasPermission("worthitems.top"))    subs.add("top");
+            if (sender.hasPermission("worthitems.area"))   subs.add("area");
+            if (sender.hasPermission("worthitems.journal")) subs.add("journal");
+            if (sender.hasPermission("worthitems.trace"))  subs.add("trace");
+            if (sender.hasPermission("worthitems.storage")) subs.add("storage");
 
             subs.stream()
                     .filter(s -> s.startsWith(input))
                     .forEach(matched::add);
 
             // Also suggest material names when the user has started typing something.
-            if (!input.isEmpty()) {
-                Arrays.stream(Material.values())
-                        .map(m -> m.name().toLowerCase())
-                        .filter(n -> n.startsWith(input))
-                        .limit(15)
-                        .forEach(matched::add);
-            }
+            materialIndex.complete(args[0], matched);
 
             return matched;
         }
+        if (args.length == 2 && args[0].equalsIgnoreCase("stats")
+                && sender.hasPermission("worthitems.stats")) {
+            return "reset".startsWith(args[1].toLowerCase()) ? List.of("reset") : List.of();
+        }
+        if (args.length == 2 && args[0].equalsIgnoreCase("sell")
+                && sender.hasPermission("worthitems.sell")) {
+            String input = args[1].toLowerCase();
+            return List.of("hand", "inventory", "all").stream().filter(s -> s.startsWith(input)).toList();
+        }
+        if (args.length == 2 && args[0].equalsIgnoreCase("top")
+                && sender.hasPermission("worthitems.top")) {
+            String input = args[1].toLowerCase();
+            return List.of("scan", "cancel").stream().filter(s -> s.startsWith(input)).toList();
+        }
+        if (args.length == 2 && args[0].equalsIgnoreCase("trace")
+                && sender.hasPermission("worthitems.trace")) {
+            String input = args[1].toLowerCase();
+            return List.of("start", "stop", "status").stream().filter(s -> s.startsWith(input)).toList();
+        }
+        if (args.length == 2 && args[0].equalsIgnoreCase("storage")
+                && sender.hasPermission("worthitems.storage")) {
+            return "migrate".startsWith(args[1].toLowerCase()) ? List.of("migrate") : List.of();
+        }
+        if (args.length == 3 && args[0].equalsIgnoreCase("storage") && args[1].equalsIgnoreCase("migrate")
+                && sender.hasPermission("worthitems.storage")) {
+            String input = args[2].toLowerCase();
+            return PriceBackends.IDS.stream().filter(s -> s.startsWith(input)).toList();
+        }
+        if (args.length == 2 && args[0].equalsIgnoreCase("journal")
+                && sender.hasPermission("worthitems.journal")) {
+            String input = args[1].toLowerCase();
+            List<String> names = new ArrayList<>(List.of("*"));
+            Bukkit.getOnlinePlayers().forEach(p -> names.add(p.getName()));
+            return names.stream().filter(s -> s.toLowerCase().startsWith(input)).toList();
+        }
         return List.of();
     }
 
+    /** Rebuilds the tab-completion index from the freshly reloaded config. */
+    public void reload(ConfigurationSection tabCompleteSettings) {
+        materialIndex.rebuild(tabCompleteSettings);
+    }
+
+    /** Stops background work started by subcommands. Called from onDisable(). */
+    public void shutdown() {
+        topCommand.shutdown();
+    }
+
     // ── Private helpers ──────────────────────────────────────────────────────
 
     private void handleMaterialLookup(CommandSender sender, String input) {
-        Material material = Material.matchMaterial(input.toUpperCase());
+        Material material = materialIndex.resolve(input);
         if (material == null || material.isAir()) {
             sender.sendMessage("§cUnknown item or subcommand: §7" + input);
             sendHelp(sender);
             return;
         }
+        materialIndex.recordLookup(material);
 
         int price = priceService.getPrice(material);
         // FIX: `special` was computed here but never used. It's removed.
@@ -120,8 +211,11 @@ public class WorthCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage("§8§m──────────────────────────");
         sender.sendMessage(" §6" + name);
         sender.sendMessage(" §7Worth: §a" + vaultBridge.format(price));
-        if (priceService.hasSpecialOverride(material)) {
+        String source = priceService.getSourceOf(material);
+        if (ConfigOverrideSource.ID.equals(source)) {
             sender.sendMessage(" §e⭐ Custom price set in config.");
+        } else if (source != null && !TierSource.ID.equals(source)) {
+            sender.sendMessage(" §7Priced by: §f" + source);
         }
         sender.sendMessage("§8§m──────────────────────────");
     }
@@ -130,12 +224,33 @@ public class WorthCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage("§8§m──────────────────────────");
         sender.sendMessage(" §6Worth Items §7— Commands");
         sender.sendMessage(" §f/worth hand        §7— held item worth");
-        sender.sendMessage(" §f/worth inventory   §7— full inventory worth");
+        sender.sendMessage(" §f/worth inventory   §7— inventory + ender chest worth");
         sender.sendMessage(" §f/worth blocks      §7— blocks-only worth");
         sender.sendMessage(" §f/worth <material>  §7— look up any item");
+        if (sender.hasPermission("worthitems.sell")) {
+            sender.sendMessage(" §f/worth sell <hand|inventory|all|material> §7— sell items");
+        }
         if (sender.hasPermission("worthitems.reload")) {
             sender.sendMessage(" §f/worth reload      §7— reset price cache");
         }
+        if (sender.hasPermission("worthitems.stats")) {
+            sender.sendMessage(" §f/worth stats       §7— hot-path latency stats");
+        }
+        if (sender.hasPermission("worthitems.top")) {
+            sender.sendMessage(" §f/worth top [scan]  §7— server-wide wealth leaderboard");
+        }
+        if (sender.hasPermission("worthitems.area")) {
+            sender.sendMessage(" §f/worth area <radius> [containers] §7— value nearby blocks");
+        }
+        if (sender.hasPermission("worthitems.journal")) {
+            sender.sendMessage(" §f/worth journal [player|*] [since] §7— recent sales audit");
+        }
+        if (sender.hasPermission("worthitems.trace")) {
+            sender.sendMessage(" §f/worth trace <start|stop|status> §7— record events for replay");
+        }
+        if (sender.hasPermission("worthitems.storage")) {
+            sender.sendMessage(" §f/worth storage [migrate <backend>] §7— price storage backend");
+        }
         sender.sendMessage("§8§m──────────────────────────");
     }
 }
\ No newline at end of file
@@ -0,0 +1,134 @@
+package me.abdoabk.worth_items.commands.args;
+
+import me.abdoabk.worth_items.api.VaultBridge;
+import me.abdoabk.worth_items.pricing.PriceService;
+import me.abdoabk.worth_items.pricing.PriceSnapshot;
+import me.abdoabk.worth_items.scan.AreaValuationJob;
+import me.abdoabk.worth_items.util.ConfigUtil;
+import me.abdoabk.worth_items.util.ItemUtil;
+import net.md_5.bungee.api.ChatMessageType;
+import net.md_5.bungee.api.chat.TextComponent;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+
+/**
+ * /worth area <radius> [containers]
+ *
+ * Values every placed block within radius blocks (square, full height) of
+ * the player, plus container contents when "containers" is given.
+ * Counting runs off the main thread via {@link AreaValuationJob}; the running
+ * total is reported every second until it finishes. Requires worthitems.area.
+ */
+public class AreaCommand {
+
+    private static final long PROGRESS_TICKS = 20L;
+    private static final int  TOP_LINES      = 10;
+
+    private final JavaPlugin   plugin;
+    private final PriceService priceService;
+    private final VaultBridge  vaultBridge;
+    private final ConfigUtil   configUtil;
+
+    public AreaCommand(JavaPlugin plugin, PriceService priceService,
+                       VaultBridge vaultBridge, ConfigUtil configUtil) {
+        this.plugin       = plugin;
+        this.priceService = priceService;
+        this.vaultBridge  = vaultBridge;
+        this.configUtil   = configUtil;
+    }
+
+    public void execute(CommandSender sender, String[] args) {
+        if (!(sender instanceof Player player)) {
+            sender.sendMessage("§cOnly players can use /worth area.");
+            return;
+        }
+        if (!player.hasPermission("worthitems.area")) {
+            player.sendMessage("§cYou don't have permission to use /worth area.");
+            return;
+        }
+
+        int radius;
+        try {
+            radius = Integer.parseInt(args.length > 1 ? args[1] : "");
+        } catch (NumberFormatException e) {
+            player.sendMessage("§cUsage: /worth area <radius> [containers]");
+            return;
+        }
+        int maxRadius = configUtil.getAreaMaxRadius();
+        if (radius < 1 || radius > maxRadius) {
+            player.sendMessage("§cRadius must be between 1 and " + maxRadius + ".");
+            return;
+        }
+        boolean containers = args.length > 2 && args[2].equalsIgnoreCase("containers");
+
+        PriceSnapshot prices = priceService.snapshot();
+        AreaValuationJob job = AreaValuationJob.start(player.getLocation(), radius, containers,
+                prices, configUtil.getScanThreads());
+        player.sendMessage("§7Valuing §f" + job.getTotal() + " §7chunks…");
+
+        BukkitTask progress = Bukkit.getScheduler().runTaskTimer(plugin, () ->
+                player.spigot().sendMessage(ChatMessageType.ACTION_BAR, TextComponent.fromLegacyText(
+                        "§7Area worth: §a" + vaultBridge.format(job.getPartialValue())
+                        + " §8(" + job.getCompleted() + "/" + job.getTotal() + " chunks)")),
+                PROGRESS_TICKS, PROGRESS_TICKS);
+
+        job.getResult().whenComplete((result, error) -> {
+            if (!plugin.isEnabled()) return;
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                progress.cancel();
+                if (error != null) {
+                    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    if (!(cause instanceof CancellationException)) {
+                        player.sendMessage("§cArea valuation failed: §7" + cause.getMessage());
+                    }
+                    return;
+                }
+                report(player, radius, prices, result);
+            });
+        });
+    }
+
+    private void report(Player player, int radius, PriceSnapshot prices, AreaValuationJob.Result result) {
+        // Top materials by value — selection over the per-ordinal counters.
+        Material[] materials = Material.values();
+        List<Integer> top = new ArrayList<>(TOP_LINES + 1);
+        long[] counts = result.counts();
+        for (int i = 0; i < counts.length; i++) {
+            long value = counts[i] * prices.getPrice(i);
+            if (value <= 0) continue;
+            int pos = top.size();
+            while (pos > 0 && counts[top.get(pos - 1)] * prices.getPrice(top.get(pos - 1)) < value) pos--;
+            if (pos >= TOP_LINES) continue;
+            top.add(pos, i);
+            if (top.size() > TOP_LINES) top.remove(TOP_LINES);
+        }
+
+        player.sendMessage("§8§m──────────────────────────");
+        player.sendMessage(" §6Area Worth §8(radius " + radius + ")");
+        player.sendMessage("§8§m──────────────────────────");
+        for (int ordinal : top) {
+            player.sendMessage(" §7" + ItemUtil.formatName(materials[ordinal])
+                    + " §8x" + counts[ordinal]
+                    + " §7→ §a" + vaultBridge.format(counts[ordinal] * prices.getPrice(ordinal)));
+        }
+        player.sendMessage("§8§m──────────────────────────");
+        player.sendMessage(" §7Blocks: §a" + vaultBridge.format(result.blockValue()));
+        if (result.containerValue() > 0) {
+            player.sendMessage(" §7Containers: §a" + vaultBridge.format(result.containerValue()));
+        }
+        player.sendMessage(" §6Total: §a§l" + vaultBridge.format(result.totalValue()));
+        if (result.chunksSkipped() > 0) {
+            player.sendMessage(" §8(" + result.chunksSkipped() + " unloaded chunks skipped)");
+        }
+        player.sendMessage("§8§m──────────────────────────");
+    }
+}
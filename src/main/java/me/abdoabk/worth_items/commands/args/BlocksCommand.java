@@ -49,7 +49,7 @@ public class BlocksCommand {
             return;
         }
 
-        int grandTotal = 0;
+        long grandTotal = 0;
 
         player.sendMessage("§8§m──────────────────────────");
         player.sendMessage(" §6Block Worth");
@@ -58,7 +58,7 @@ public class BlocksCommand {
         for (Map.Entry<Material, Integer> entry : blockTotals.entrySet()) {
             Material mat  = entry.getKey();
             int amount    = entry.getValue();
-            int subtotal  = vaultBridge.getWorth(mat, amount);
+            long subtotal = vaultBridge.getWorth(mat, amount);
             grandTotal   += subtotal;
 
             player.sendMessage(" §7" + ItemUtil.formatName(mat)
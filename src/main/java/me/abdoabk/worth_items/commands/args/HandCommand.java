@@ -44,7 +44,7 @@ public class HandCommand {
         }
 
         int unitPrice  = vaultBridge.getWorth(held.getType());
-        int totalPrice = vaultBridge.getWorth(held);
+        long totalPrice = vaultBridge.getWorth(held);
         String name    = ItemUtil.formatName(held.getType());
 
         // FIX: vaultBridge.format() includes the symbol from the economy plugin.
@@ -1,30 +1,35 @@
 package me.abdoabk.worth_items.commands.args;
 
 import me.abdoabk.worth_items.api.VaultBridge;
+import me.abdoabk.worth_items.pricing.ContainerValuator;
 import me.abdoabk.worth_items.util.ConfigUtil;
 import me.abdoabk.worth_items.util.ItemUtil;
 import org.bukkit.Material;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
 
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
 
 /**
  * /worth inventory (/worth inv)
  *
- * Shows the worth of every item in the player's inventory, grouped by material.
+ * Shows the worth of every item in the player's inventory and ender chest,
+ * grouped by material. Shulker boxes and bundles are opened recursively,
+ * so their contents count towards the total.
  * Uses vaultBridge.format() for consistent currency display matching HandCommand.
  */
 public class InventoryCommands {
 
     private final VaultBridge vaultBridge;
     private final ConfigUtil  configUtil;
+    private final ContainerValuator containerValuator;
 
-    public InventoryCommands(VaultBridge vaultBridge, ConfigUtil configUtil) {
-        this.vaultBridge = vaultBridge;
-        this.configUtil  = configUtil;
+    public InventoryCommands(VaultBridge vaultBridge, ConfigUtil configUtil,
+                             ContainerValuator containerValuator) {
+        this.vaultBridge       = vaultBridge;
+        this.configUtil        = configUtil;
+        this.containerValuator = containerValuator;
     }
 
     public void execute(CommandSender sender) {
@@ -33,22 +38,19 @@ public class InventoryCommands {
             return;
         }
 
-        ItemStack[] contents = player.getInventory().getContents();
-        Map<Material, Integer> totals = new HashMap<>();
+        Map<Material, Integer> totals = new EnumMap<>(Material.class);
+        containerValuator.countInto(player.getInventory().getContents(), totals);
+        containerValuator.countInto(player.getEnderChest().getContents(), totals);
 
-        for (ItemStack item : contents) {
-            if (item == null || item.getType().isAir()) continue;
-            if (configUtil.isBlacklisted(item.getType().name())) continue;
-            if (vaultBridge.getWorth(item.getType()) <= 0) continue;
-            totals.merge(item.getType(), item.getAmount(), Integer::sum);
-        }
+        totals.keySet().removeIf(mat ->
+                configUtil.isBlacklisted(mat.name()) || vaultBridge.getWorth(mat) <= 0);
 
         if (totals.isEmpty()) {
             player.sendMessage("§cYour inventory contains no items with a sell value.");
             return;
         }
 
-        int grandTotal = 0;
+        long grandTotal = 0;
 
         player.sendMessage("§8§m──────────────────────────");
         player.sendMessage(" §6Inventory Worth");
@@ -57,7 +59,7 @@ public class InventoryCommands {
         for (Map.Entry<Material, Integer> entry : totals.entrySet()) {
             Material mat  = entry.getKey();
             int amount    = entry.getValue();
-            int subtotal  = vaultBridge.getWorth(mat, amount);
+            long subtotal = vaultBridge.getWorth(mat, amount);
             grandTotal   += subtotal;
 
             player.sendMessage(" §7" + ItemUtil.formatName(mat)
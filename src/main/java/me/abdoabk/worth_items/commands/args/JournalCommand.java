@@ -0,0 +1,142 @@
+package me.abdoabk.worth_items.commands.args;
+
+import me.abdoabk.worth_items.api.VaultBridge;
+import me.abdoabk.worth_items.journal.SellJournal;
+import me.abdoabk.worth_items.journal.SellRecord;
+import me.abdoabk.worth_items.util.ItemUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * /worth journal [player|*] [since]
+ *
+ * Lists the most recent journaled sales, newest first — for one player or
+ * everyone, within a window such as 30m, 12h or 7d (default 24h).
+ * The segments are scanned off the main thread. Requires worthitems.journal.
+ */
+public class JournalCommand {
+
+    private static final int  LIMIT          = 20;
+    private static final long DEFAULT_WINDOW = 24L * 60 * 60 * 1000;
+
+    private final JavaPlugin  plugin;
+    private final SellJournal journal;
+    private final VaultBridge vaultBridge;
+
+    public JournalCommand(JavaPlugin plugin, SellJournal journal, VaultBridge vaultBridge) {
+        this.plugin      = plugin;
+        this.journal     = journal;
+        this.vaultBridge = vaultBridge;
+    }
+
+    public void execute(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("worthitems.journal")) {
+            sender.sendMessage("§cYou don't have permission to read the sell journal.");
+            return;
+        }
+        if (!journal.isRunning()) {
+            sender.sendMessage("§cThe sell journal is disabled (journal.enabled in config.yml).");
+            return;
+        }
+
+        String who = args.length > 1 ? args[1] : "*";
+        UUID player = null;
+        if (!who.equals("*")) {
+            player = findPlayer(who);
+            if (player == null) {
+                sender.sendMessage("§cUnknown player: §7" + who);
+                return;
+            }
+        }
+
+        long window = DEFAULT_WINDOW;
+        if (args.length > 2) {
+            window = parseDuration(args[2]);
+            if (window <= 0) {
+                sender.sendMessage("§cInvalid time window: §7" + args[2] + " §c(e.g. 30m, 12h, 7d)");
+                return;
+            }
+        }
+
+        long to   = System.currentTimeMillis();
+        long from = to - window;
+        UUID filter = player;
+        sender.sendMessage("§7Searching the sell journal…");
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                List<SellRecord> records = journal.query(filter, from, to, LIMIT);
+                Bukkit.getScheduler().runTask(plugin, () -> show(sender, who, records));
+            } catch (IOException e) {
+                Bukkit.getScheduler().runTask(plugin, () ->
+                        sender.sendMessage("§cCould not read the sell journal: §7" + e.getMessage()));
+            }
+        });
+    }
+
+    // ── Helpers ──────────────────────────────────────────────────────────────
+
+    private void show(CommandSender sender, String who, List<SellRecord> records) {
+        if (records.isEmpty()) {
+            sender.sendMessage("§7No journaled sales match.");
+            return;
+        }
+
+        SimpleDateFormat time = new SimpleDateFormat("MM-dd HH:mm:ss");
+        sender.sendMessage("§8§m──────────────────────────");
+        sender.sendMessage(" §6Sell journal §7— " + (who.equals("*") ? "all players" : who)
+                + " §8(newest " + records.size() + ")");
+        sender.sendMessage("§8§m──────────────────────────");
+        for (SellRecord record : records) {
+            OfflinePlayer seller = Bukkit.getOfflinePlayer(record.player());
+            String name = seller.getName() != null ? seller.getName() : record.player().toString();
+            Material material = Material.matchMaterial(record.material());
+            String item = material != null ? ItemUtil.formatName(material) : record.material();
+
+            sender.sendMessage(" §8" + time.format(new Date(record.timestamp()))
+                    + " §f" + name + " §7" + item + " §8x" + record.amount()
+                    + " §7@ " + vaultBridge.format(record.unitPrice())
+                    + " §7→ §a" + vaultBridge.format(record.total()));
+        }
+        sender.sendMessage("§8§m──────────────────────────");
+    }
+
+    /** Online players by name first, then known offline players — no web lookups. */
+    private static UUID findPlayer(String name) {
+        Player online = Bukkit.getPlayerExact(name);
+        if (online != null) return online.getUniqueId();
+        for (OfflinePlayer offline : Bukkit.getOfflinePlayers()) {
+            if (name.equalsIgnoreCase(offline.getName())) return offline.getUniqueId();
+        }
+        return null;
+    }
+
+    /** Parses 30s / 15m / 12h / 7d into milliseconds; returns -1 if invalid. */
+    private static long parseDuration(String input) {
+        if (input.length() < 2) return -1;
+        long unit = switch (Character.toLowerCase(input.charAt(input.length() - 1))) {
+            case 's' -> 1000L;
+            case 'm' -> 60_000L;
+            case 'h' -> 3_600_000L;
+            case 'd' -> 86_400_000L;
+            default  -> -1;
+        };
+        if (unit < 0) return -1;
+        try {
+            long amount = Long.parseLong(input.substring(0, input.length() - 1));
+            return amount > 0 ? amount * unit : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
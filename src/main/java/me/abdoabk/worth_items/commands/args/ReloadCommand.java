@@ -9,7 +9,8 @@ import org.bukkit.command.CommandSender;
  * Delegates to Worth_items#fullReload() which:
  *   1. Calls plugin.reloadConfig() — picks up config.yml changes from disk.
  *   2. Calls priceService.reload() — clears the stale price cache.
- *   3. Calls precomputeAllPrices() — refills the cache with fresh config values.
+ *   3. Calls precomputeAllPrices() — recompiles the price-source chain.
+ *   4. Re-syncs changed prices to Essentials (tick-sliced, delta only).
  */
 public class ReloadCommand {
 
@@ -0,0 +1,139 @@
+package me.abdoabk.worth_items.commands.args;
+
+import me.abdoabk.worth_items.api.VaultBridge;
+import me.abdoabk.worth_items.commands.MaterialIndex;
+import me.abdoabk.worth_items.tracker.InventoryWorthTracker;
+import me.abdoabk.worth_items.util.ItemUtil;
+import org.bukkit.GameMode;
+import org.bukkit.Material;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+
+import java.util.Arrays;
+
+/**
+ * /worth sell <hand|inventory|all|material>
+ *
+ *   hand       — the held stack
+ *   inventory  — main inventory, hotbar excluded
+ *   all        — hotbar, main inventory and off-hand (never armour)
+ *   <material> — every stack of that material (name or alias) in the slots "all" covers
+ *
+ * Refused in creative mode, where stacks can be spawned for free.
+ *
+ * Every sale is one {@link VaultBridge#sellSlotsAsync} call: one pass over the
+ * slots and one economy deposit, made off the main thread, with the items
+ * restored if it fails. The receipt is sent once the provider has answered.
+ */
+public class SellCommand {
+
+    private static final int OFF_HAND_SLOT = 40;
+
+    private static final int[] HOTBAR_AND_MAIN = range(0, 36);
+    private static final int[] MAIN_ONLY       = range(9, 36);
+    private static final int[] ALL_SLOTS       = append(HOTBAR_AND_MAIN, OFF_HAND_SLOT);
+
+    private final VaultBridge vaultBridge;
+    private final InventoryWorthTracker worthTracker;
+    private final MaterialIndex materialIndex;
+
+    public SellCommand(VaultBridge vaultBridge, InventoryWorthTracker worthTracker, MaterialIndex materialIndex) {
+        this.vaultBridge   = vaultBridge;
+        this.worthTracker  = worthTracker;
+        this.materialIndex = materialIndex;
+    }
+
+    public void execute(CommandSender sender, String[] args) {
+        if (!(sender instanceof Player player)) {
+            sender.sendMessage("§cOnly players can use /worth sell.");
+            return;
+        }
+        if (!player.hasPermission("worthitems.sell")) {
+            player.sendMessage("§cYou don't have permission to sell items.");
+            return;
+        }
+        if (player.getGameMode() == GameMode.CREATIVE) {
+            player.sendMessage("§cYou can't sell items in creative mode.");
+            return;
+        }
+        if (args.length < 2) {
+            player.sendMessage("§cUsage: /worth sell <hand|inventory|all|material>");
+            return;
+        }
+
+        int[] slots = switch (args[1].toLowerCase()) {
+            case "hand"             -> new int[] { player.getInventory().getHeldItemSlot() };
+            case "inventory", "inv" -> MAIN_ONLY;
+            case "all"              -> ALL_SLOTS;
+            default                 -> slotsOf(player, args[1]);
+        };
+        if (slots == null) return;
+
+        vaultBridge.sellSlotsAsync(player, slots).thenAccept(result -> report(player, result));
+    }
+
+    /** Runs on the main thread once the deposit has settled. */
+    private void report(Player player, VaultBridge.BatchSellResult result) {
+        worthTracker.markDirty(player);   // setItem() fires no inventory event
+        if (!result.success()) {
+            player.sendMessage("§cSale failed: §7" + result.errorMessage());
+            sendLimited(player, result);
+            return;
+        }
+
+        player.sendMessage("§8§m──────────────────────────");
+        player.sendMessage(" §6Sold");
+        player.sendMessage("§8§m──────────────────────────");
+        for (VaultBridge.SoldLine line : result.receipt()) {
+            player.sendMessage(" §7" + ItemUtil.formatName(line.material())
+                    + " §8x" + line.amount()
+                    + " §7→ §a" + vaultBridge.format(line.earned()));
+        }
+        player.sendMessage("§8§m──────────────────────────");
+        player.sendMessage(" §6Earned: §a§l" + vaultBridge.format(result.earned()));
+        player.sendMessage("§8§m──────────────────────────");
+        sendLimited(player, result);
+    }
+
+    /** Stacks a sell limit kept in the inventory, with when to try again. */
+    private void sendLimited(Player player, VaultBridge.BatchSellResult result) {
+        for (VaultBridge.LimitedLine line : result.limited()) {
+            player.sendMessage(" §cNot sold: §7" + ItemUtil.formatName(line.material())
+                    + " §8x" + line.amount() + " §8(" + line.message() + ")");
+        }
+    }
+
+    // ── Helpers ──────────────────────────────────────────────────────────────
+
+    /** Slots holding the named material, or null (after messaging) if it is unknown. */
+    private int[] slotsOf(Player player, String input) {
+        Material material = materialIndex.resolve(input);
+        if (material == null || material.isAir()) {
+            player.sendMessage("§cUnknown item: §7" + input);
+            return null;
+        }
+
+        PlayerInventory inventory = player.getInventory();
+        int[] matches = new int[ALL_SLOTS.length];
+        int count = 0;
+        for (int slot : ALL_SLOTS) {
+            ItemStack item = inventory.getItem(slot);
+            if (item != null && item.getType() == material) matches[count++] = slot;
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    private static int[] range(int from, int to) {
+        int[] slots = new int[to - from];
+        for (int i = 0; i < slots.length; i++) slots[i] = from + i;
+        return slots;
+    }
+
+    private static int[] append(int[] slots, int extra) {
+        int[] result = Arrays.copyOf(slots, slots.length + 1);
+        result[slots.length] = extra;
+        return result;
+    }
+}
@@ -0,0 +1,127 @@
+package me.abdoabk.worth_items.commands.args;
+
+import me.abdoabk.worth_items.listener.LoadShedder;
+import me.abdoabk.worth_items.metrics.HotPath;
+import me.abdoabk.worth_items.metrics.LatencyHistogram;
+import me.abdoabk.worth_items.metrics.StartupTimeline;
+import me.abdoabk.worth_items.metrics.WorthMetrics;
+import me.abdoabk.worth_items.pricing.ContainerValuator;
+import org.bukkit.command.CommandSender;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * /worth stats [reset]
+ *
+ * Shows call counts and p50/p99/max latency for every instrumented hot path,
+ * the balance cache and container memo hit ratios, lore counters, the load-shedding
+ * stage with its recent transitions, and the startup timeline.
+ * Requires worthitems.stats.
+ */
+public class StatsCommand {
+
+    private final WorthMetrics metrics;
+    private final LoadShedder  shedder;
+    private final ContainerValuator containerValuator;
+
+    public StatsCommand(WorthMetrics metrics, LoadShedder shedder, ContainerValuator containerValuator) {
+        this.metrics = metrics;
+        this.shedder = shedder;
+        this.containerValuator = containerValuator;
+    }
+
+    public void execute(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("worthitems.stats")) {
+            sender.sendMessage("§cYou don't have permission to view Worth Items stats.");
+            return;
+        }
+
+        if (args.length > 1 && args[1].equalsIgnoreCase("reset")) {
+            metrics.reset();
+            sender.sendMessage("§aWorth Items — stats reset.");
+            return;
+        }
+
+        sender.sendMessage("§8§m──────────────────────────");
+        sender.sendMessage(" §6Worth Items §7— Stats");
+        sender.sendMessage("§8§m──────────────────────────");
+
+        if (!metrics.isEnabled()) {
+            sender.sendMessage(" §cMetrics are disabled. §7Set §fmetrics.enabled: true §7and reload.");
+        }
+
+        for (HotPath path : HotPath.values()) {
+            LatencyHistogram histogram = metrics.histogram(path);
+            long count = histogram.getCount();
+            if (count == 0) continue;
+
+            sender.sendMessage(" §f" + path.label()
+                    + " §8n=" + count
+                    + " §7p50 §a" + formatNanos(histogram.getPercentile(50))
+                    + " §7p99 §a" + formatNanos(histogram.getPercentile(99))
+                    + " §7max §a" + formatNanos(histogram.getMax()));
+        }
+
+        double balanceRatio = metrics.getBalanceHitRatio();
+        sender.sendMessage(" §7Balance cache: " + (balanceRatio < 0
+                ? "§8no lookups"
+                : "§a" + String.format("%.1f%%", balanceRatio * 100)
+                  + " §8(" + metrics.getBalanceHits() + " hit / " + metrics.getBalanceMisses() + " miss)"));
+
+        double containerRatio = metrics.getContainerHitRatio();
+        sender.sendMessage(" §7Container memo: " + (containerRatio < 0
+                ? "§8no lookups"
+                : "§a" + String.format("%.1f%%", containerRatio * 100)
+                  + " §8(" + metrics.getContainerHits() + " hit / " + metrics.getContainerMisses() + " miss)")
+                + " §8· " + containerValuator.getMemoSize() + " cached");
+
+        long applied = 0, skipped = 0;
+        for (HotPath path : HotPath.values()) {
+            applied += metrics.getLoreApplied(path);
+            skipped += metrics.getLoreSkipped(path);
+        }
+        sender.sendMessage(" §7Lore: §a" + applied + " applied §8/ " + skipped + " skipped · "
+                + metrics.getConsolidations() + " consolidations");
+
+        if (shedder.isEnabled()) {
+            LoadShedder.Level level = shedder.getLevel();
+            sender.sendMessage(" §7Load: " + (level == LoadShedder.Level.NORMAL ? "§a" : "§c") + level
+                    + " §8(last tick " + formatNanos(shedder.getLastTickNanos())
+                    + ", peak " + formatNanos(shedder.getPeakTickNanos())
+                    + ", budget " + formatNanos(shedder.getBudgetNanos())
+                    + (shedder.getDeferredCount() > 0 ? ", " + shedder.getDeferredCount() + " deferred" : "") + ")");
+            SimpleDateFormat time = new SimpleDateFormat("HH:mm:ss");
+            for (LoadShedder.Transition t : shedder.getHistory()) {
+                sender.sendMessage("   §8" + time.format(new Date(t.at())) + " §7" + t.from() + " → " + t.to()
+                        + " §8(" + formatNanos(t.tickNanos()) + ")");
+            }
+        } else {
+            sender.sendMessage(" §7Load: §8shedding disabled");
+        }
+
+        StartupTimeline startup = metrics.startup();
+        if (startup.getEnableNanos() >= 0) {
+            sender.sendMessage(" §7Startup: §a" + formatNanos(startup.getEnableNanos())
+                    + " §8(" + phases(startup, false) + ")");
+            String warmup = phases(startup, true);
+            sender.sendMessage(" §7Warm-up: " + (warmup.isEmpty() ? "§8pending" : "§8" + warmup));
+        }
+        sender.sendMessage("§8§m──────────────────────────");
+    }
+
+    private static String phases(StartupTimeline startup, boolean deferred) {
+        StringBuilder out = new StringBuilder();
+        for (StartupTimeline.Phase phase : startup.getPhases(deferred)) {
+            if (!out.isEmpty()) out.append(" · ");
+            out.append(phase.name()).append(' ').append(formatNanos(phase.nanos()));
+        }
+        return out.toString();
+    }
+
+    private static String formatNanos(long nanos) {
+        if (nanos < 1_000)     return nanos + "ns";
+        if (nanos < 1_000_000) return String.format("%.1fµs", nanos / 1_000.0);
+        return String.format("%.2fms", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,79 @@
+package me.abdoabk.worth_items.commands.args;
+
+import me.abdoabk.worth_items.pricing.PriceStorage;
+import me.abdoabk.worth_items.pricing.storage.PriceBackend;
+import me.abdoabk.worth_items.pricing.storage.PriceBackends;
+import me.abdoabk.worth_items.util.ConfigUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.bukkit.plugin.java.JavaPlugin;
+
+/**
+ * /worth storage [migrate <backend>]
+ *
+ * Shows the active price storage backend, or copies every stored price into
+ * another backend (yaml, sqlite, h2) so storage.backend can be switched
+ * without regenerating prices. The copy runs on the storage thread; the
+ * active backend is unchanged until restart. Requires worthitems.storage.
+ */
+public class StorageCommand {
+
+    private final JavaPlugin   plugin;
+    private final PriceStorage storage;
+    private final ConfigUtil   configUtil;
+    private boolean migrating;
+
+    public StorageCommand(JavaPlugin plugin, PriceStorage storage, ConfigUtil configUtil) {
+        this.plugin     = plugin;
+        this.storage    = storage;
+        this.configUtil = configUtil;
+    }
+
+    public void execute(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("worthitems.storage")) {
+            sender.sendMessage("§cYou don't have permission to manage price storage.");
+            return;
+        }
+
+        if (args.length < 2) {
+            PriceBackend backend = storage.getBackend();
+            sender.sendMessage("§7Price storage: §f" + backend.getId() + " §8(" + backend.describe() + ") §7— §f"
+                    + storage.getCachedCount() + " §7prices cached, §f" + storage.getPendingCount() + " §7unsaved");
+            return;
+        }
+        if (!args[1].equalsIgnoreCase("migrate") || args.length < 3) {
+            sender.sendMessage("§cUsage: /worth storage [migrate <" + String.join("|", PriceBackends.IDS) + ">]");
+            return;
+        }
+        migrate(sender, args[2].toLowerCase());
+    }
+
+    private void migrate(CommandSender sender, String id) {
+        if (id.equals(storage.getBackend().getId())) {
+            sender.sendMessage("§c" + id + " is already the active backend.");
+            return;
+        }
+        PriceBackend target = PriceBackends.create(id, plugin, configUtil.getStorageBatchSize());
+        if (target == null) {
+            sender.sendMessage("§cUnknown backend: §7" + id + " §c(" + String.join(", ", PriceBackends.IDS) + ")");
+            return;
+        }
+        if (migrating) {
+            sender.sendMessage("§cA migration is already running.");
+            return;
+        }
+
+        migrating = true;
+        sender.sendMessage("§7Copying prices to §f" + target.describe() + "§7…");
+        storage.migrateTo(target).whenComplete((count, error) -> Bukkit.getScheduler().runTask(plugin, () -> {
+            migrating = false;
+            if (error != null) {
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                sender.sendMessage("§cMigration failed: §7" + cause.getMessage());
+                return;
+            }
+            sender.sendMessage("§aCopied §f" + count + " §aprices to §f" + target.describe()
+                    + "§a. §7Set §fstorage.backend: " + id + " §7and restart to switch.");
+        }));
+    }
+}
@@ -0,0 +1,160 @@
+package me.abdoabk.worth_items.commands.args;
+
+import me.abdoabk.worth_items.api.VaultBridge;
+import me.abdoabk.worth_items.pricing.PriceService;
+import me.abdoabk.worth_items.scan.WealthScanJob;
+import me.abdoabk.worth_items.util.ConfigUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.command.CommandSender;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+
+/**
+ * /worth top [page|scan|cancel]
+ *
+ * Server-wide item wealth leaderboard, online and offline players included.
+ * "scan" starts a {@link WealthScanJob}; progress is reported to the sender
+ * every few seconds and the ranked result is kept until the next scan.
+ * Requires worthitems.top.
+ */
+public class TopCommand {
+
+    private static final int  PAGE_SIZE      = 10;
+    private static final long PROGRESS_TICKS = 100L;
+
+    private final JavaPlugin   plugin;
+    private final PriceService priceService;
+    private final VaultBridge  vaultBridge;
+    private final ConfigUtil   configUtil;
+
+    private WealthScanJob running;
+    private BukkitTask    progressTask;
+    private List<WealthScanJob.Entry> leaderboard;
+
+    public TopCommand(JavaPlugin plugin, PriceService priceService,
+                      VaultBridge vaultBridge, ConfigUtil configUtil) {
+        this.plugin       = plugin;
+        this.priceService = priceService;
+        this.vaultBridge  = vaultBridge;
+        this.configUtil   = configUtil;
+    }
+
+    public void execute(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("worthitems.top")) {
+            sender.sendMessage("§cYou don't have permission to use /worth top.");
+            return;
+        }
+
+        String action = args.length > 1 ? args[1].toLowerCase() : "1";
+        switch (action) {
+            case "scan"   -> startScan(sender);
+            case "cancel" -> cancelScan(sender);
+            default       -> showPage(sender, action);
+        }
+    }
+
+    /** Cancels a running scan. Called on plugin disable. */
+    public void shutdown() {
+        if (running != null) running.cancel();
+        if (progressTask != null) progressTask.cancel();
+    }
+
+    // ── Subcommands ──────────────────────────────────────────────────────────
+
+    private void startScan(CommandSender sender) {
+        if (running != null && !running.isDone()) {
+            sender.sendMessage("§cA wealth scan is already running — " + progressOf(running));
+            return;
+        }
+
+        WealthScanJob job = WealthScanJob.start(plugin, priceService.snapshot(), configUtil.getScanThreads());
+        running = job;
+        sender.sendMessage("§aWealth scan started.");
+
+        progressTask = Bukkit.getScheduler().runTaskTimer(plugin, () ->
+                sender.sendMessage("§7Wealth scan: " + progressOf(job)), PROGRESS_TICKS, PROGRESS_TICKS);
+
+        job.getResult().whenComplete((ranked, error) -> {
+            if (plugin.isEnabled()) Bukkit.getScheduler().runTask(plugin, () -> finish(sender, job, ranked, error));
+        });
+    }
+
+    private void finish(CommandSender sender, WealthScanJob job,
+                        List<WealthScanJob.Entry> ranked, Throwable error) {
+        if (progressTask != null) progressTask.cancel();
+        progressTask = null;
+        if (running == job) running = null;
+
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            if (!(cause instanceof CancellationException)) {
+                sender.sendMessage("§cWealth scan failed: §7" + cause.getMessage());
+            }
+            return;
+        }
+
+        leaderboard = ranked;
+        sender.sendMessage("§aWealth scan complete — §f" + ranked.size() + " §aplayers in "
+                + String.format("%.1fs", job.getElapsedMillis() / 1000.0)
+                + (job.getFailed() > 0 ? " §7(" + job.getFailed() + " unreadable)" : "") + ".");
+        showPage(sender, "1");
+    }
+
+    private void cancelScan(CommandSender sender) {
+        if (running == null || running.isDone()) {
+            sender.sendMessage("§cNo wealth scan is running.");
+            return;
+        }
+        running.cancel();
+        sender.sendMessage("§eWealth scan cancelled.");
+    }
+
+    private void showPage(CommandSender sender, String pageArg) {
+        if (leaderboard == null) {
+            sender.sendMessage(running != null
+                    ? "§7Wealth scan in progress — " + progressOf(running)
+                    : "§cNo leaderboard yet. Run §f/worth top scan §cfirst.");
+            return;
+        }
+
+        int page;
+        try {
+            page = Math.max(1, Integer.parseInt(pageArg));
+        } catch (NumberFormatException e) {
+            sender.sendMessage("§cUsage: /worth top [page|scan|cancel]");
+            return;
+        }
+
+        int pages = Math.max(1, (leaderboard.size() + PAGE_SIZE - 1) / PAGE_SIZE);
+        page = Math.min(page, pages);
+        int from = (page - 1) * PAGE_SIZE;
+        int to   = Math.min(leaderboard.size(), from + PAGE_SIZE);
+
+        sender.sendMessage("§8§m──────────────────────────");
+        sender.sendMessage(" §6Wealth Leaderboard §8(" + page + "/" + pages + ")");
+        sender.sendMessage("§8§m──────────────────────────");
+
+        for (int i = from; i < to; i++) {
+            WealthScanJob.Entry entry = leaderboard.get(i);
+            OfflinePlayer player = Bukkit.getOfflinePlayer(entry.uuid());
+            String name = player.getName() != null ? player.getName() : entry.uuid().toString();
+
+            sender.sendMessage(" §7#" + (i + 1) + " §f" + name
+                    + (entry.online() ? " §a●" : "")
+                    + " §7→ §a" + vaultBridge.format(entry.value()));
+        }
+        sender.sendMessage("§8§m──────────────────────────");
+    }
+
+    private static String progressOf(WealthScanJob job) {
+        int total = job.getTotal();
+        return total < 0
+                ? "listing player files…"
+                : job.getCompleted() + "/" + total + " players";
+    }
+}
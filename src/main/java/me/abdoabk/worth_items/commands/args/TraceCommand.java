@@ -0,0 +1,88 @@
+package me.abdoabk.worth_items.commands.args;
+
+import me.abdoabk.worth_items.trace.TraceRecorder;
+import me.abdoabk.worth_items.util.ConfigUtil;
+import org.bukkit.command.CommandSender;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * /worth trace <start|stop|status>
+ *
+ * Starts and stops the event trace recorder. Traces are written to
+ * plugins/WorthItems/traces/trace-&lt;date&gt;.wtr and replayed offline with the
+ * benchmarks module's TraceReplay. Requires worthitems.trace.
+ */
+public class TraceCommand {
+
+    private final JavaPlugin    plugin;
+    private final TraceRecorder recorder;
+    private final ConfigUtil    configUtil;
+
+    public TraceCommand(JavaPlugin plugin, TraceRecorder recorder, ConfigUtil configUtil) {
+        this.plugin     = plugin;
+        this.recorder   = recorder;
+        this.configUtil = configUtil;
+    }
+
+    public void execute(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("worthitems.trace")) {
+            sender.sendMessage("§cYou don't have permission to record event traces.");
+            return;
+        }
+
+        String action = args.length > 1 ? args[1].toLowerCase() : "status";
+        switch (action) {
+            case "start"  -> start(sender);
+            case "stop"   -> stop(sender);
+            case "status" -> status(sender);
+            default       -> sender.sendMessage("§cUsage: /worth trace <start|stop|status>");
+        }
+    }
+
+    private void start(CommandSender sender) {
+        String name = "trace-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + ".wtr";
+        Path file = plugin.getDataFolder().toPath().resolve("traces").resolve(name);
+        long maxTicks = configUtil.getTraceMaxTicks();
+
+        try {
+            if (!recorder.start(file, configUtil.getTraceBufferEvents(), maxTicks)) {
+                sender.sendMessage("§cA trace is already being recorded. §7Use §f/worth trace stop§7.");
+                return;
+            }
+        } catch (IOException e) {
+            sender.sendMessage("§cCould not create the trace file: §7" + e.getMessage());
+            return;
+        }
+        sender.sendMessage("§aRecording events to §f" + name
+                + (maxTicks > 0 ? " §7(stops after " + maxTicks / 1200 + " min)" : ""));
+    }
+
+    private void stop(CommandSender sender) {
+        long events  = recorder.getRecorded();
+        long dropped = recorder.getDropped();
+        long ticks   = recorder.getTicks();
+        Path file = recorder.stop();
+        if (file == null) {
+            sender.sendMessage("§7No trace is being recorded.");
+            return;
+        }
+        sender.sendMessage("§aTrace saved: §f" + file.getFileName()
+                + " §8(" + events + " events, " + ticks + " ticks"
+                + (dropped > 0 ? ", §c" + dropped + " dropped§8" : "") + ")");
+    }
+
+    private void status(CommandSender sender) {
+        if (!recorder.isRecording()) {
+            sender.sendMessage("§7No trace is being recorded.");
+            return;
+        }
+        sender.sendMessage("§7Recording §f" + recorder.getFile().getFileName()
+                + " §8— " + recorder.getRecorded() + " events over " + recorder.getTicks() + " ticks"
+                + (recorder.getDropped() > 0 ? ", §c" + recorder.getDropped() + " dropped" : ""));
+    }
+}
@@ -0,0 +1,33 @@
+package me.abdoabk.worth_items.event;
+
+import me.abdoabk.worth_items.pricing.PriceDiff;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Fired on the main thread after item prices change (e.g. /worth reload or a
+ * price source being registered), once per publish with every changed
+ * material in a single {@link PriceDiff} — never one event per material.
+ */
+public class PriceChangeEvent extends Event {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final PriceDiff diff;
+
+    public PriceChangeEvent(PriceDiff diff) {
+        this.diff = diff;
+    }
+
+    public PriceDiff getDiff() { return diff; }
+
+    @Override
+    public @NotNull HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
@@ -0,0 +1,331 @@
+package me.abdoabk.worth_items.journal;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * SellJournal — append-only binary audit trail of every sale.
+ *
+ * {@link #append} only pushes onto a lock-free queue and never touches disk,
+ * so the sell path doesn't wait on I/O. A single writer thread drains
+ * whatever has queued up, writes it in one go and fsyncs once per batch
+ * (group commit): a burst of sales costs one fsync, not one each.
+ *
+ * Files are segments named sells-&lt;first timestamp&gt;.wij, rotated once they
+ * pass the configured size; the oldest are deleted past the segment limit.
+ *
+ * Segment layout: int magic, then records of
+ *   [int length][payload][int crc32(payload)]
+ *   payload = long timestamp, long uuidMost, long uuidLeast,
+ *             int amount, int unitPrice, long total, short nameLength, name (UTF-8)
+ * A torn record at the tail (crash mid-write) fails its length or CRC check
+ * and ends the scan of that segment.
+ */
+public final class SellJournal implements AutoCloseable {
+
+    private static final int    MAGIC        = 0x574A4E31;   // "WJN1"
+    private static final int    MAX_PAYLOAD  = 256;
+    private static final int    BUFFER_BYTES = 64 * 1024;
+    private static final String PREFIX       = "sells-";
+    private static final String SUFFIX       = ".wij";
+
+    /** Segments are named by the timestamp of their first record; allow for clock skew between appenders. */
+    private static final long SEGMENT_SLACK_MILLIS = 1000L;
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final int maxSegments;
+    private final Logger log;
+
+    private final ConcurrentLinkedQueue<SellRecord> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder failed  = new LongAdder();
+
+    private volatile Thread writer;
+    private volatile boolean running;
+
+    // Writer-thread state.
+    private FileChannel channel;
+    private long segmentSize;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    private final CRC32 crc = new CRC32();
+
+    public SellJournal(Path directory, long segmentBytes, int maxSegments, Logger log) {
+        this.directory    = directory;
+        this.segmentBytes = Math.max(64 * 1024, segmentBytes);
+        this.maxSegments  = Math.max(1, maxSegments);
+        this.log          = log;
+    }
+
+    // ── Lifecycle ────────────────────────────────────────────────────────────
+
+    public void start() throws IOException {
+        if (running) return;
+        Files.createDirectories(directory);
+        running = true;
+        Thread thread = new Thread(this::writeLoop, "WorthItems-Journal");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+    }
+
+    public boolean isRunning() { return running; }
+
+    /** Stops the writer after it has flushed everything already queued. */
+    @Override
+    public void close() {
+        Thread thread = writer;
+        if (!running || thread == null) return;
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+    }
+
+    // ── Append (any thread) ──────────────────────────────────────────────────
+
+    /** Queues a sale for the writer. Returns immediately; a no-op while stopped. */
+    public void append(SellRecord record) {
+        if (!running) return;
+        queue.offer(record);
+        pending.incrementAndGet();
+        LockSupport.unpark(writer);
+    }
+
+    public int getPending() { return pending.get(); }
+
+    public long getWritten() { return written.sum(); }
+
+    public long getBatches() { return batches.sum(); }
+
+    public long getFailed()  { return failed.sum(); }
+
+    // ── Writer thread ────────────────────────────────────────────────────────
+
+    private void writeLoop() {
+        try {
+            while (running || !queue.isEmpty()) {
+                if (queue.isEmpty()) {
+                    LockSupport.parkNanos(TimeUnit.SECONDS.toNanos(1));
+                    continue;
+                }
+                writeBatch();
+            }
+        } finally {
+            closeSegment();
+        }
+    }
+
+    private void writeBatch() {
+        int count = 0;
+        try {
+            SellRecord record;
+            while ((record = queue.poll()) != null) {
+                pending.decrementAndGet();
+                if (channel == null || segmentSize >= segmentBytes) {
+                    flushBuffer();
+                    rotate(record.timestamp());
+                }
+                encode(record);
+                count++;
+            }
+            flushBuffer();
+            channel.force(false);     // one fsync for the whole batch
+            written.add(count);
+            batches.increment();
+        } catch (IOException | RuntimeException e) {
+            failed.add(count);
+            buffer.clear();
+            closeSegment();           // start a fresh segment on the next batch
+            log.log(Level.WARNING, "SellJournal: failed to write " + count + " records", e);
+        }
+    }
+
+    private void encode(SellRecord record) throws IOException {
+        byte[] name = record.material().getBytes(StandardCharsets.UTF_8);
+        int payload = 8 + 16 + 4 + 4 + 8 + 2 + name.length;
+        if (buffer.remaining() < payload + 8) flushBuffer();
+
+        buffer.putInt(payload);
+        int payloadStart = buffer.position();
+        buffer.putLong(record.timestamp());
+        buffer.putLong(record.player().getMostSignificantBits());
+        buffer.putLong(record.player().getLeastSignificantBits());
+        buffer.putInt(record.amount());
+        buffer.putInt(record.unitPrice());
+        buffer.putLong(record.total());
+        buffer.putShort((short) name.length);
+        buffer.put(name);
+
+        crc.reset();
+        crc.update(buffer.duplicate().position(payloadStart).limit(buffer.position()));
+        buffer.putInt((int) crc.getValue());
+        segmentSize += payload + 8;
+    }
+
+    private void flushBuffer() throws IOException {
+        if (channel == null || buffer.position() == 0) return;
+        buffer.flip();
+        while (buffer.hasRemaining()) channel.write(buffer);
+        buffer.clear();
+    }
+
+    private void rotate(long firstTimestamp) throws IOException {
+        if (channel != null) {
+            channel.force(false);
+            closeSegment();
+        }
+
+        Path file = directory.resolve(String.format("%s%013d%s", PREFIX, firstTimestamp, SUFFIX));
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        segmentSize = channel.size();
+        if (segmentSize == 0) {
+            ByteBuffer header = ByteBuffer.allocate(4).putInt(MAGIC).flip();
+            while (header.hasRemaining()) channel.write(header);
+            segmentSize = 4;
+        }
+        pruneSegments();
+    }
+
+    private void closeSegment() {
+        if (channel == null) return;
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // Nothing useful to do — the next batch opens a new segment.
+        }
+        channel = null;
+    }
+
+    private void pruneSegments() throws IOException {
+        List<Path> segments = listSegments();
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            Files.deleteIfExists(segments.get(i));
+        }
+    }
+
+    // ── Query (any thread; blocking I/O — never call on the main thread) ─────
+
+    /**
+     * Returns the newest matching sales first, at most {@code limit} of them.
+     *
+     * @param player only this player's sales, or null for everyone
+     * @param from   inclusive lower timestamp bound (epoch millis)
+     * @param to     inclusive upper timestamp bound (epoch millis)
+     *
+     * Segments are walked newest first and skipped by file name when they lie
+     * wholly outside [from, to]; the scan stops once {@code limit} is reached.
+     * Sales still queued for the writer are not visible yet.
+     */
+    public List<SellRecord> query(UUID player, long from, long to, int limit) throws IOException {
+        List<SellRecord> newestFirst = new ArrayList<>();
+        List<Path> segments = listSegments();
+
+        for (int i = segments.size() - 1; i >= 0 && newestFirst.size() < limit; i--) {
+            long start = startOf(segments.get(i));
+            long end   = i + 1 < segments.size() ? startOf(segments.get(i + 1)) : Long.MAX_VALUE;
+            if (start - SEGMENT_SLACK_MILLIS > to) continue;
+            if (end != Long.MAX_VALUE && end + SEGMENT_SLACK_MILLIS < from) break;
+
+            Deque<SellRecord> matches = scan(segments.get(i), player, from, to, limit - newestFirst.size());
+            while (!matches.isEmpty()) newestFirst.add(matches.pollLast());
+        }
+        return newestFirst;
+    }
+
+    /** Keeps the last {@code keep} matches of one segment, oldest first. */
+    private static Deque<SellRecord> scan(Path segment, UUID player, long from, long to, int keep)
+            throws IOException {
+        Deque<SellRecord> matches = new ArrayDeque<>();
+        byte[] payload = new byte[MAX_PAYLOAD];
+        CRC32 check = new CRC32();
+
+        try (InputStream raw = Files.newInputStream(segment);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(raw, BUFFER_BYTES))) {
+            if (in.readInt() != MAGIC) return matches;
+
+            while (true) {
+                int length = in.readInt();
+                if (length <= 0 || length > MAX_PAYLOAD) break;
+                in.readFully(payload, 0, length);
+                int expected = in.readInt();
+                check.reset();
+                check.update(payload, 0, length);
+                if ((int) check.getValue() != expected) break;
+
+                ByteBuffer record = ByteBuffer.wrap(payload, 0, length);
+                long timestamp = record.getLong();
+                long most  = record.getLong();
+                long least = record.getLong();
+                if (timestamp < from || timestamp > to) continue;
+                if (player != null && (player.getMostSignificantBits() != most
+                        || player.getLeastSignificantBits() != least)) continue;
+
+                int  amount = record.getInt();
+                int  unit   = record.getInt();
+                long total  = record.getLong();
+                byte[] name = new byte[record.getShort()];
+                record.get(name);
+
+                matches.addLast(new SellRecord(timestamp, new UUID(most, least),
+                        new String(name, StandardCharsets.UTF_8), amount, unit, total));
+                if (matches.size() > keep) matches.pollFirst();
+            }
+        } catch (EOFException endOfSegment) {
+            // Clean end, or a record torn by a crash — either way, stop here.
+        }
+        return matches;
+    }
+
+    private List<Path> listSegments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        if (!Files.isDirectory(directory)) return segments;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            for (Path file : stream) {
+                if (startOf(file) >= 0) segments.add(file);
+            }
+        }
+        Collections.sort(segments);   // zero-padded timestamps sort chronologically
+        return segments;
+    }
+
+    private static long startOf(Path segment) {
+        String name = segment.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package me.abdoabk.worth_items.journal;
+
+import java.util.UUID;
+
+/**
+ * One journaled sale line — a single material sold by a single player.
+ *
+ * The material is kept by name rather than ordinal so segments written on one
+ * server version still read correctly after an upgrade.
+ */
+public record SellRecord(long timestamp, UUID player, String material,
+                         int amount, int unitPrice, long total) {}
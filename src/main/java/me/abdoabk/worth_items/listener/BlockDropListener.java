@@ -1,5 +1,7 @@
 package me.abdoabk.worth_items.listener;
 
+import me.abdoabk.worth_items.metrics.HotPath;
+import me.abdoabk.worth_items.metrics.WorthMetrics;
 import me.abdoabk.worth_items.pricing.PriceService;
 import me.abdoabk.worth_items.util.ConfigUtil;
 import me.abdoabk.worth_items.util.ItemUtil;
@@ -19,25 +21,45 @@ public class BlockDropListener implements Listener {
 
     private final PriceService prices;
     private final ConfigUtil   config;
+    private final WorthMetrics metrics;
+    private final LoadShedder  shedder;
 
-    public BlockDropListener(PriceService prices, ConfigUtil config) {
-        this.prices = prices;
-        this.config = config;
+    public BlockDropListener(PriceService prices, ConfigUtil config, WorthMetrics metrics,
+                             LoadShedder shedder) {
+        this.prices  = prices;
+        this.config  = config;
+        this.metrics = metrics;
+        this.shedder = shedder;
     }
 
     @EventHandler(ignoreCancelled = true)
     public void onBlockDrop(BlockDropItemEvent event) {
-        for (Item entity : event.getItems()) {
-            ItemStack stack = entity.getItemStack();
+        if (!shedder.allowBlockDropLore()) return;   // shed: drops get tagged on pickup instead
 
-            if (ItemUtil.hasWorth(stack)) continue;
-            if (config.isBlacklisted(stack.getType().name())) continue;
+        long start = metrics.start();
+        long shed  = shedder.begin();
+        try {
+            for (Item entity : event.getItems()) {
+                ItemStack stack = entity.getItemStack();
 
-            int price = prices.getPrice(stack.getType());
-            if (price <= 0) continue;
+                if (ItemUtil.hasWorth(stack) || config.isBlacklisted(stack.getType().name())) {
+                    metrics.recordLore(HotPath.BLOCK_DROP, false);
+                    continue;
+                }
 
-            ItemUtil.applyPriceLore(stack, price, config.getCurrencySymbol());
-            entity.setItemStack(stack); // push the mutation back to the entity
+                int price = prices.getPrice(stack.getType());
+                if (price <= 0) {
+                    metrics.recordLore(HotPath.BLOCK_DROP, false);
+                    continue;
+                }
+
+                ItemUtil.applyPriceLore(stack, price, config.getCurrencySymbol());
+                entity.setItemStack(stack); // push the mutation back to the entity
+                metrics.recordLore(HotPath.BLOCK_DROP, true);
+            }
+        } finally {
+            shedder.end(shed);
+            metrics.stop(HotPath.BLOCK_DROP, start);
         }
     }
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
 package me.abdoabk.worth_items.listener;
 
+import me.abdoabk.worth_items.metrics.HotPath;
+import me.abdoabk.worth_items.metrics.WorthMetrics;
+import me.abdoabk.worth_items.placeholder.PlayerWorthCache;
 import me.abdoabk.worth_items.pricing.PriceService;
 import me.abdoabk.worth_items.util.ConfigUtil;
 import me.abdoabk.worth_items.util.ItemUtil;
@@ -23,11 +26,18 @@ public class InventoryListener implements Listener {
     private final Plugin plugin;
     private final PriceService priceService;
     private final ConfigUtil configUtil;
+    private final WorthMetrics metrics;
+    private final PlayerWorthCache worthCache;
+    private final LoadShedder shedder;
 
-    public InventoryListener(Plugin plugin, PriceService priceService, ConfigUtil configUtil) {
+    public InventoryListener(Plugin plugin, PriceService priceService, ConfigUtil configUtil,
+                             WorthMetrics metrics, PlayerWorthCache worthCache, LoadShedder shedder) {
         this.plugin = plugin;
         this.priceService = priceService;
         this.configUtil = configUtil;
+        this.metrics = metrics;
+        this.worthCache = worthCache;
+        this.shedder = shedder;
     }
 
     /* ───────────────────────── PICKUP ───────────────────────── */
@@ -36,11 +46,18 @@ public class InventoryListener implements Listener {
     public void onPickup(EntityPickupItemEvent event) {
         if (!(event.getEntity() instanceof Player player)) return;
 
-        ItemStack item = event.getItem().getItemStack();
-        applyWorth(item);
-        event.getItem().setItemStack(item);
-
-        scheduleSync(player, item.getType());
+        long start = metrics.start();
+        long shed  = shedder.begin();
+        try {
+            ItemStack item = event.getItem().getItemStack();
+            applyWorth(item, HotPath.PICKUP);
+            event.getItem().setItemStack(item);
+
+            scheduleSync(player, item.getType());
+        } finally {
+            shedder.end(shed);
+            metrics.stop(HotPath.PICKUP, start);
+        }
     }
 
     /* ───────────────────────── CRAFT ───────────────────────── */
@@ -49,13 +66,17 @@ public class InventoryListener implements Listener {
     public void onCraft(CraftItemEvent event) {
         if (!(event.getWhoClicked() instanceof Player player)) return;
 
-        ItemStack result = event.getInventory().getResult();
-        Material type = result != null ? result.getType() : null;
+        long start = metrics.start();
+        long shed  = shedder.begin();
+        try {
+            ItemStack result = event.getInventory().getResult();
+            Material type = result != null ? result.getType() : null;
 
-        plugin.getServer().getScheduler().runTask(plugin, () -> {
-            tagAll(player);
-            if (type != null) consolidate(player, type);
-        });
+            scheduleSync(player, type);
+        } finally {
+            shedder.end(shed);
+            metrics.stop(HotPath.CRAFT, start);
+        }
     }
 
     /* ───────────────────────── CREATIVE MODE FIX ───────────────────────── */
@@ -79,10 +100,15 @@ public class InventoryListener implements Listener {
                 return;
         }
 
-        // Wait 1 tick until Bukkit finishes cloning the creative item
-        plugin.getServer().getScheduler().runTask(plugin, () -> {
-            tagAll(player);
-        });
+        long start = metrics.start();
+        long shed  = shedder.begin();
+        try {
+            // Wait 1 tick until Bukkit finishes cloning the creative item
+            scheduleSync(player, null);
+        } finally {
+            shedder.end(shed);
+            metrics.stop(HotPath.CREATIVE_CLICK, start);
+        }
     }
 
     /* ───────────────────────── CONTAINERS ───────────────────────── */
@@ -97,33 +123,78 @@ public class InventoryListener implements Listener {
         ItemStack item = event.getCurrentItem();
         if (item == null || item.getType().isAir()) return;
 
-        applyWorth(item);
-        scheduleSync(player, item.getType());
+        long start = metrics.start();
+        long shed  = shedder.begin();
+        try {
+            applyWorth(item, HotPath.CONTAINER_CLICK);
+            scheduleSync(player, item.getType());
+        } finally {
+            shedder.end(shed);
+            metrics.stop(HotPath.CONTAINER_CLICK, start);
+        }
     }
 
     /* ───────────────────────── SLOT SWITCH ───────────────────────── */
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onHeld(PlayerItemHeldEvent event) {
-        Player player = event.getPlayer();
-        ItemStack item = player.getInventory().getItem(event.getNewSlot());
-        applyWorth(item);
-
-        plugin.getServer().getScheduler().runTask(plugin, () -> tagAll(player));
+        long start = metrics.start();
+        long shed  = shedder.begin();
+        try {
+            Player player = event.getPlayer();
+            ItemStack item = player.getInventory().getItem(event.getNewSlot());
+            applyWorth(item, HotPath.HELD);
+
+            scheduleSync(player, null);
+        } finally {
+            shedder.end(shed);
+            metrics.stop(HotPath.HELD, start);
+        }
     }
 
     /* ───────────────────────── HELPERS ───────────────────────── */
 
     private void scheduleSync(Player player, Material type) {
         plugin.getServer().getScheduler().runTask(plugin, () -> {
-            tagAll(player);
-            if (type != null) consolidate(player, type);
+            long start = metrics.start();
+            long shed  = shedder.begin();
+            try {
+                // Next tick, so the change has landed before placeholders recompute.
+                worthCache.invalidate(player);
+                if (shedder.allowTagAll()) {
+                    tagAll(player);
+                } else {
+                    shedder.defer(player);
+                }
+                if (type != null && shedder.allowConsolidate()) consolidate(player, type);
+            } finally {
+                shedder.end(shed);
+                metrics.stop(HotPath.INVENTORY_SYNC, start);
+            }
         });
     }
 
+    /** Runs a tagAll that {@link LoadShedder} deferred; called by its drain, which does its own timing. */
+    public void tagDeferred(Player player) {
+        long start = metrics.start();
+        try {
+            tagAll(player);
+        } finally {
+            metrics.stop(HotPath.INVENTORY_SYNC, start);
+        }
+    }
+
     private void tagAll(Player player) {
-        for (ItemStack item : player.getInventory().getContents()) {
-            applyWorth(item);
+        tagAll(player.getInventory().getContents());
+    }
+
+    /**
+     * The whole-inventory pass behind every inventory sync, counted under
+     * INVENTORY_SYNC. Public so InventoryBenchmark times this exact path.
+     */
+    public void tagAll(ItemStack[] items) {
+        for (ItemStack item : items) {
+            applyWorth(item, HotPath.INVENTORY_SYNC);
         }
     }
 
@@ -144,6 +215,7 @@ public class InventoryListener implements Listener {
 
         if (template == null || total == 0) return;
 
+        metrics.recordConsolidate();
         player.getInventory().remove(material);
 
         int max = material.getMaxStackSize();
@@ -155,15 +227,23 @@ public class InventoryListener implements Listener {
         }
     }
 
-    private void applyWorth(ItemStack item) {
+    /** Tags one stack; {@code path} is the listener entry point it is counted under. */
+    private void applyWorth(ItemStack item, HotPath path) {
         if (item == null || item.getType().isAir()) return;
-        if (!configUtil.isLoreEnabled()) return;
-        if (configUtil.isBlacklisted(item.getType().name())) return;
-        if (ItemUtil.hasWorth(item)) return;
+        if (!configUtil.isLoreEnabled()
+                || configUtil.isBlacklisted(item.getType().name())
+                || ItemUtil.hasWorth(item)) {
+            metrics.recordLore(path, false);
+            return;
+        }
 
         int price = priceService.getPrice(item.getType());
-        if (price <= 0) return;
+        if (price <= 0) {
+            metrics.recordLore(path, false);
+            return;
+        }
 
         ItemUtil.applyPriceLore(item, price, configUtil.getCurrencySymbol());
+        metrics.recordLore(path, true);
     }
 }
@@ -0,0 +1,206 @@
+package me.abdoabk.worth_items.listener;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * LoadShedder — watchdog over WorthItems' own time per tick.
+ *
+ * The listeners bracket their work with {@link #begin()} / {@link #end(long)};
+ * once per tick the accumulated time is compared against the budget. After
+ * {@code escalateTicks} consecutive ticks over budget the level goes up one
+ * stage, shedding cosmetic work only:
+ *
+ *   SKIP_CONSOLIDATE   — InventoryListener stops merging restacked items
+ *   DEFER_TAG_ALL      — whole-inventory tagging is queued per player and
+ *                        drained later, inside the budget
+ *   NO_BLOCK_DROP_LORE — block drops are left untagged (they are tagged on pickup)
+ *
+ * Recovery is one stage at a time, after {@code recoverTicks} consecutive ticks
+ * under {@code recoverPercent} of the budget, so a server hovering at the budget
+ * doesn't flap. Prices, sales and the worth tracker are never shed — only lore.
+ *
+ * Main thread only, except {@link #getLevel()}.
+ */
+public final class LoadShedder {
+
+    public enum Level { NORMAL, SKIP_CONSOLIDATE, DEFER_TAG_ALL, NO_BLOCK_DROP_LORE }
+
+    public record Transition(long at, Level from, Level to, long tickNanos) {}
+
+    private static final Level[] LEVELS = Level.values();
+    private static final int HISTORY = 8;
+
+    private final JavaPlugin plugin;
+    private final Set<UUID> deferred = new LinkedHashSet<>();
+    private final ArrayDeque<Transition> history = new ArrayDeque<>(HISTORY);
+    private Consumer<Player> deferredTagger;
+    private BukkitTask task;
+
+    private boolean enabled;
+    private long budgetNanos;
+    private long recoverNanos;
+    private int  escalateTicks;
+    private int  recoverTicks;
+
+    private volatile Level level = Level.NORMAL;
+    private long spent;           // this tick
+    private long lastTickNanos;
+    private long peakTickNanos;
+    private int  overStreak;
+    private int  underStreak;
+    private long shedTicks;
+
+    public LoadShedder(JavaPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * (Re)applies the settings; called at startup and on reload. Disabling
+     * drops straight back to NORMAL.
+     */
+    public void configure(boolean enabled, long budgetNanos, int recoverPercent,
+                          int escalateTicks, int recoverTicks) {
+        this.enabled       = enabled;
+        this.budgetNanos   = Math.max(1, budgetNanos);
+        this.recoverNanos  = this.budgetNanos * Math.max(0, Math.min(100, recoverPercent)) / 100;
+        this.escalateTicks = Math.max(1, escalateTicks);
+        this.recoverTicks  = Math.max(1, recoverTicks);
+        if (!enabled && level != Level.NORMAL) transition(Level.NORMAL, 0);
+    }
+
+    // ── Lifecycle ────────────────────────────────────────────────────────────
+
+    /** Starts the per-tick check; {@code deferredTagger} re-tags a player whose tagAll was deferred. */
+    public void start(Consumer<Player> deferredTagger) {
+        this.deferredTagger = deferredTagger;
+        task = new BukkitRunnable() {
+            @Override
+            public void run() {
+                onTick();
+            }
+        }.runTaskTimer(plugin, 1L, 1L);
+    }
+
+    public void shutdown() {
+        if (task != null) task.cancel();
+        deferred.clear();
+    }
+
+    // ── Hot path ─────────────────────────────────────────────────────────────
+
+    /** Start timestamp for {@link #end}, or 0 when shedding is off. */
+    public long begin() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public void end(long start) {
+        if (start != 0L) spent += System.nanoTime() - start;
+    }
+
+    public boolean allowConsolidate() {
+        return level.ordinal() < Level.SKIP_CONSOLIDATE.ordinal();
+    }
+
+    public boolean allowTagAll() {
+        return level.ordinal() < Level.DEFER_TAG_ALL.ordinal();
+    }
+
+    public boolean allowBlockDropLore() {
+        return level.ordinal() < Level.NO_BLOCK_DROP_LORE.ordinal();
+    }
+
+    /** Queues a player's tagAll until load allows it. Repeat calls collapse into one. */
+    public void defer(Player player) {
+        deferred.add(player.getUniqueId());
+    }
+
+    // ── Watchdog ─────────────────────────────────────────────────────────────
+
+    private void onTick() {
+        if (allowTagAll()) drainDeferred();
+
+        long tick = spent;
+        spent = 0;
+        lastTickNanos = tick;
+        peakTickNanos = Math.max(peakTickNanos, tick);
+        if (!enabled) return;
+        if (level != Level.NORMAL) shedTicks++;
+
+        if (tick > budgetNanos) {
+            underStreak = 0;
+            if (++overStreak >= escalateTicks && level.ordinal() < LEVELS.length - 1) {
+                transition(LEVELS[level.ordinal() + 1], tick);
+            }
+        } else {
+            overStreak = 0;
+            if (tick > recoverNanos) {
+                underStreak = 0;
+            } else if (++underStreak >= recoverTicks && level != Level.NORMAL) {
+                transition(LEVELS[level.ordinal() - 1], tick);
+            }
+        }
+    }
+
+    /** Re-tags deferred players while this tick still has budget left. The drain counts as spent time. */
+    private void drainDeferred() {
+        if (deferred.isEmpty() || deferredTagger == null) return;
+        long start = System.nanoTime();
+        Iterator<UUID> it = deferred.iterator();
+        while (it.hasNext() && spent + (System.nanoTime() - start) < budgetNanos) {
+            Player player = Bukkit.getPlayer(it.next());
+            it.remove();
+            if (player != null) deferredTagger.accept(player);
+        }
+        spent += System.nanoTime() - start;
+    }
+
+    private void transition(Level to, long tickNanos) {
+        Level from = level;
+        level = to;
+        overStreak = underStreak = 0;
+        if (history.size() == HISTORY) history.removeFirst();
+        history.addLast(new Transition(System.currentTimeMillis(), from, to, tickNanos));
+
+        String tick = String.format("%.2f ms", tickNanos / 1_000_000.0);
+        if (to.ordinal() > from.ordinal()) {
+            plugin.getLogger().warning("Load shedding: " + from + " → " + to + " (last tick " + tick
+                    + ", budget " + String.format("%.2f ms", budgetNanos / 1_000_000.0) + ")");
+        } else {
+            plugin.getLogger().info("Load shedding: " + from + " → " + to + " (last tick " + tick + ")");
+        }
+    }
+
+    // ── Reading ──────────────────────────────────────────────────────────────
+
+    /** Current stage. Safe from any thread. */
+    public Level getLevel() { return level; }
+
+    public boolean isEnabled() { return enabled; }
+
+    public long getBudgetNanos() { return budgetNanos; }
+
+    public long getLastTickNanos() { return lastTickNanos; }
+
+    public long getPeakTickNanos() { return peakTickNanos; }
+
+    /** Ticks spent above NORMAL since startup. */
+    public long getShedTicks() { return shedTicks; }
+
+    public int getDeferredCount() { return deferred.size(); }
+
+    /** The most recent transitions, oldest first. */
+    public List<Transition> getHistory() { return new ArrayList<>(history); }
+}
@@ -0,0 +1,28 @@
+package me.abdoabk.worth_items.metrics;
+
+/**
+ * Code paths instrumented by {@link WorthMetrics}.
+ * The label is what /worth stats prints.
+ */
+public enum HotPath {
+    PICKUP          ("inv.pickup"),
+    CRAFT           ("inv.craft"),
+    CREATIVE_CLICK  ("inv.creative-click"),
+    CONTAINER_CLICK ("inv.container-click"),
+    HELD            ("inv.held"),
+    INVENTORY_SYNC  ("inv.sync-task"),
+    BLOCK_DROP      ("block.drop"),
+    GET_PRICE       ("price.get"),
+    APPLY_LORE      ("lore.apply"),
+    ECONOMY         ("vault.economy");
+
+    private final String label;
+
+    HotPath(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+}
@@ -0,0 +1,83 @@
+package me.abdoabk.worth_items.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * LatencyHistogram — lock-free, fixed-size histogram of nanosecond latencies.
+ *
+ * Buckets are log-linear: each power of two is split into 4 sub-buckets,
+ * so any recorded value is reported with at most ~25% error.
+ * Recording is a couple of atomic increments — no locks, no allocation.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS  = 2;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT     = 64 * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong      count   = new AtomicLong();
+    private final AtomicLong      max     = new AtomicLong();
+
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        buckets.incrementAndGet(indexOf(nanos));
+        count.incrementAndGet();
+
+        long current;
+        while (nanos > (current = max.get())) {
+            if (max.compareAndSet(current, nanos)) break;
+        }
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the upper bound of the bucket containing the given percentile.
+     *
+     * @param percentile value in (0, 100]
+     */
+    public long getPercentile(double percentile) {
+        long total = count.get();
+        if (total == 0) return 0;
+
+        long target = Math.max(1, (long) Math.ceil(total * (percentile / 100.0)));
+        long seen   = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= target) return Math.min(upperBoundOf(i), max.get());
+        }
+        return max.get();
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) buckets.set(i, 0);
+        count.set(0);
+        max.set(0);
+    }
+
+    // ── Bucket maths ─────────────────────────────────────────────────────────
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) return (int) value;
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);           // >= SUB_BUCKET_BITS
+        int sub       = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + sub;
+    }
+
+    private static long upperBoundOf(int index) {
+        if (index < SUB_BUCKET_COUNT) return index;
+        int magnitude = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        int sub       = index % SUB_BUCKET_COUNT;
+        long base     = 1L << magnitude;
+        long step     = 1L << (magnitude - SUB_BUCKET_BITS);
+        return base + (sub + 1) * step - 1;
+    }
+}
@@ -0,0 +1,49 @@
+package me.abdoabk.worth_items.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * ProviderStats — every call into one economy provider, on whichever thread
+ * made it: count, failures (calls that threw) and latency.
+ *
+ * Always on — two LongAdder increments and a histogram record per call,
+ * next to a provider round trip — so the Economy MBeans report real traffic
+ * whether sales deposit synchronously or through the AsyncEconomy.
+ */
+public final class ProviderStats {
+
+    private final LongAdder calls    = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /** Counts a call and returns its start timestamp for {@link #end}. */
+    public long begin() {
+        calls.increment();
+        return System.nanoTime();
+    }
+
+    public void end(long start, boolean failed) {
+        latency.record(System.nanoTime() - start);
+        if (failed) failures.increment();
+    }
+
+    /** Runs a provider call between {@link #begin} and {@link #end}; a throw counts as a failure. */
+    public <T> T time(Supplier<T> call) {
+        long start = begin();
+        boolean failed = true;
+        try {
+            T result = call.get();
+            failed = false;
+            return result;
+        } finally {
+            end(start, failed);
+        }
+    }
+
+    public long getCalls()    { return calls.sum(); }
+
+    public long getFailures() { return failures.sum(); }
+
+    public LatencyHistogram getLatency() { return latency; }
+}
@@ -0,0 +1,74 @@
+package me.abdoabk.worth_items.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * StartupTimeline — how long each phase of enabling the plugin took.
+ *
+ * Phases inside onEnable are marked back to back with {@link #mark}; warm-up
+ * phases deferred past startup (first tick onward, some off the main thread)
+ * are recorded with {@link #record} as they finish. Shown by /worth stats and
+ * kept across /worth stats reset.
+ */
+public final class StartupTimeline {
+
+    public record Phase(String name, long nanos, boolean deferred) {}
+
+    private final List<Phase> phases = new CopyOnWriteArrayList<>();
+    private long startedAt;
+    private long lastMark;
+    private volatile long enableNanos = -1;
+
+    /** Starts the clock. Call first thing in onEnable. */
+    public void begin() {
+        phases.clear();
+        enableNanos = -1;
+        startedAt = lastMark = System.nanoTime();
+    }
+
+    /** Ends a synchronous phase: everything since the previous mark (or begin). */
+    public void mark(String phase) {
+        long now = System.nanoTime();
+        phases.add(new Phase(phase, now - lastMark, false));
+        lastMark = now;
+    }
+
+    /** Stops the clock on onEnable itself. */
+    public void finishEnable() {
+        enableNanos = System.nanoTime() - startedAt;
+    }
+
+    /** Records a deferred warm-up phase. Any thread. */
+    public void record(String phase, long nanos) {
+        phases.add(new Phase(phase, nanos, true));
+    }
+
+    /** Total time spent inside onEnable, or -1 while it is still running. */
+    public long getEnableNanos() {
+        return enableNanos;
+    }
+
+    public List<Phase> getPhases(boolean deferred) {
+        List<Phase> matching = new ArrayList<>();
+        for (Phase phase : phases) {
+            if (phase.deferred() == deferred) matching.add(phase);
+        }
+        return matching;
+    }
+
+    /** "core 0.4 ms, pricing 1.2 ms, …" for log lines. */
+    public String summary(boolean deferred) {
+        StringBuilder out = new StringBuilder();
+        for (Phase phase : getPhases(deferred)) {
+            if (!out.isEmpty()) out.append(", ");
+            out.append(phase.name()).append(' ').append(millis(phase.nanos()));
+        }
+        return out.toString();
+    }
+
+    public static String millis(long nanos) {
+        return String.format("%.1f ms", nanos / 1_000_000.0);
+    }
+}
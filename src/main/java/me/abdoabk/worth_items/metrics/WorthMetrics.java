@@ -0,0 +1,145 @@
+package me.abdoabk.worth_items.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WorthMetrics — call counts and latency histograms for the plugin's hot paths.
+ *
+ * Usage on a hot path:
+ *   long start = metrics.start();
+ *   try { ... } finally { metrics.stop(HotPath.PICKUP, start); }
+ *
+ * When disabled, start() returns 0 and stop() returns immediately, so the
+ * only cost left on the hot path is one volatile read.
+ *
+ * Counters (balance and container-memo lookups, lore applied/skipped,
+ * consolidations, reloads) are always on — a LongAdder increment each — so the JMX beans
+ * report them whether or not the latency histograms are enabled.
+ */
+public final class WorthMetrics {
+
+    private static final HotPath[] PATHS = HotPath.values();
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[PATHS.length];
+    private final LongAdder balanceHits   = new LongAdder();
+    private final LongAdder balanceMisses = new LongAdder();
+    private final LongAdder containerHits   = new LongAdder();
+    private final LongAdder containerMisses = new LongAdder();
+    private final LongAdder[] loreApplied = new LongAdder[PATHS.length];
+    private final LongAdder[] loreSkipped = new LongAdder[PATHS.length];
+    private final LongAdder consolidations = new LongAdder();
+    private final LongAdder reloads        = new LongAdder();
+    private final LongAdder reloadNanos    = new LongAdder();
+    private volatile long lastReloadNanos  = -1;
+    private final StartupTimeline startup = new StartupTimeline();
+    private volatile boolean enabled;
+
+    public WorthMetrics() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i]  = new LatencyHistogram();
+            loreApplied[i] = new LongAdder();
+            loreSkipped[i] = new LongAdder();
+        }
+    }
+
+    public boolean isEnabled() { return enabled; }
+
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    // ── Recording ────────────────────────────────────────────────────────────
+
+    /** Returns a start timestamp, or 0 when metrics are disabled. */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /** Records the time elapsed since {@link #start()}. No-op if start was 0. */
+    public void stop(HotPath path, long start) {
+        if (start == 0L) return;
+        histograms[path.ordinal()].record(System.nanoTime() - start);
+    }
+
+    /** Counts a balance read served from the balance cache (hit) or the provider (miss). */
+    public void recordBalanceLookup(boolean hit) {
+        (hit ? balanceHits : balanceMisses).increment();
+    }
+
+    /** Counts a container item whose contents came from the ContainerValuator memo (hit) or a decode (miss). */
+    public void recordContainerLookup(boolean hit) {
+        (hit ? containerHits : containerMisses).increment();
+    }
+
+    /** Counts an item a listener looked at: lore applied, or skipped (tagged, blacklisted, unpriced, disabled). */
+    public void recordLore(HotPath path, boolean applied) {
+        (applied ? loreApplied : loreSkipped)[path.ordinal()].increment();
+    }
+
+    /** Counts one InventoryListener stack consolidation. */
+    public void recordConsolidate() {
+        consolidations.increment();
+    }
+
+    /** Records a completed /worth reload. Not cleared by {@link #reset()}. */
+    public void recordReload(long nanos) {
+        reloads.increment();
+        reloadNanos.add(nanos);
+        lastReloadNanos = nanos;
+    }
+
+    // ── Reading ──────────────────────────────────────────────────────────────
+
+    public LatencyHistogram histogram(HotPath path) {
+        return histograms[path.ordinal()];
+    }
+
+    /** Per-phase durations of the last enable and warm-up; not cleared by {@link #reset()}. */
+    public StartupTimeline startup() {
+        return startup;
+    }
+
+    public long getLoreApplied(HotPath path) { return loreApplied[path.ordinal()].sum(); }
+
+    public long getLoreSkipped(HotPath path) { return loreSkipped[path.ordinal()].sum(); }
+
+    public long getConsolidations() { return consolidations.sum(); }
+
+    public long getReloads() { return reloads.sum(); }
+
+    public long getTotalReloadNanos() { return reloadNanos.sum(); }
+
+    /** Duration of the last reload, or -1 if there hasn't been one. */
+    public long getLastReloadNanos() { return lastReloadNanos; }
+
+    public long getBalanceHits()   { return balanceHits.sum(); }
+
+    public long getBalanceMisses() { return balanceMisses.sum(); }
+
+    /** Hit ratio in [0, 1], or -1 when nothing has been recorded. */
+    public double getBalanceHitRatio() {
+        long hits  = balanceHits.sum();
+        long total = hits + balanceMisses.sum();
+        return total == 0 ? -1 : (double) hits / total;
+    }
+
+    public long getContainerHits()   { return containerHits.sum(); }
+
+    public long getContainerMisses() { return containerMisses.sum(); }
+
+    /** Hit ratio in [0, 1], or -1 when nothing has been recorded. */
+    public double getContainerHitRatio() {
+        long hits  = containerHits.sum();
+        long total = hits + containerMisses.sum();
+        return total == 0 ? -1 : (double) hits / total;
+    }
+
+    public void reset() {
+        for (LatencyHistogram histogram : histograms) histogram.reset();
+        for (LongAdder counter : loreApplied) counter.reset();
+        for (LongAdder counter : loreSkipped) counter.reset();
+        consolidations.reset();
+        balanceHits.reset();
+        balanceMisses.reset();
+        containerHits.reset();
+        containerMisses.reset();
+    }
+}
@@ -0,0 +1,33 @@
+package me.abdoabk.worth_items.metrics.jmx;
+
+/**
+ * me.abdoabk.worthitems:type=Cache — the compiled price table, the balance
+ * cache and the ContainerValuator memo (decoded shulker/bundle contents).
+ * Ratios are -1 until there has been a lookup.
+ */
+public interface CacheMXBean {
+
+    long getBalanceHits();
+
+    long getBalanceMisses();
+
+    double getBalanceHitRatio();
+
+    long getContainerHits();
+
+    long getContainerMisses();
+
+    double getContainerHitRatio();
+
+    /** Container items currently memoized (at most 1024). */
+    int getContainerMemoSize();
+
+    /** Items with a non-zero price in the table being served (0 before the first compile). */
+    int getPricedItems();
+
+    /** False while a table restored from price-table.bin is served ahead of the first compile. */
+    boolean isWarm();
+
+    /** Source ids of the last compile, highest priority first. */
+    String[] getSourceChain();
+}
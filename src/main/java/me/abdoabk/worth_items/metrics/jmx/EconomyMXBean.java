@@ -0,0 +1,34 @@
+package me.abdoabk.worth_items.metrics.jmx;
+
+/**
+ * me.abdoabk.worthitems:type=Economy,name=&lt;provider&gt; — one per provider
+ * (vault, essentials).
+ *
+ * Calls, failures (calls that threw) and latencies cover every provider call,
+ * synchronous or through the AsyncEconomy; latencies are the provider call
+ * itself, in microseconds. AsyncCalls, timeouts, rejected, in-flight and the
+ * circuit state describe the AsyncEconomy only.
+ */
+public interface EconomyMXBean {
+
+    long getCalls();
+
+    long getFailures();
+
+    long getAsyncCalls();
+
+    long getTimeouts();
+
+    long getRejected();
+
+    int getInFlight();
+
+    /** CLOSED, OPEN or HALF_OPEN. */
+    String getCircuitState();
+
+    double getLatencyP50Micros();
+
+    double getLatencyP99Micros();
+
+    double getLatencyMaxMicros();
+}
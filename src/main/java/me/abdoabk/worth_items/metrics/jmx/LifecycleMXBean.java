@@ -0,0 +1,22 @@
+package me.abdoabk.worth_items.metrics.jmx;
+
+/**
+ * me.abdoabk.worthitems:type=Lifecycle — startup, reload and Essentials sync
+ * timings. Durations are -1 until the thing they time has happened once.
+ */
+public interface LifecycleMXBean {
+
+    double getStartupEnableMillis();
+
+    long getReloadCount();
+
+    double getLastReloadMillis();
+
+    double getTotalReloadMillis();
+
+    long getEssentialsSyncCount();
+
+    double getLastEssentialsSyncMillis();
+
+    int getLastEssentialsSyncPushed();
+}
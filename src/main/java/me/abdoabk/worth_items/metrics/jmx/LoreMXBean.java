@@ -0,0 +1,35 @@
+package me.abdoabk.worth_items.metrics.jmx;
+
+/**
+ * me.abdoabk.worthitems:type=Lore — items each listener tagged with worth lore
+ * (applied) or looked at and left alone (skipped: already tagged, blacklisted,
+ * unpriced or lore disabled), plus stack consolidations.
+ */
+public interface LoreMXBean {
+
+    long getPickupApplied();
+
+    long getPickupSkipped();
+
+    long getContainerClickApplied();
+
+    long getContainerClickSkipped();
+
+    long getHeldApplied();
+
+    long getHeldSkipped();
+
+    long getInventorySyncApplied();
+
+    long getInventorySyncSkipped();
+
+    long getBlockDropApplied();
+
+    long getBlockDropSkipped();
+
+    long getTotalApplied();
+
+    long getTotalSkipped();
+
+    long getConsolidations();
+}
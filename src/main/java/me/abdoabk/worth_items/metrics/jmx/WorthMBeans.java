@@ -0,0 +1,232 @@
+package me.abdoabk.worth_items.metrics.jmx;
+
+import me.abdoabk.worth_items.api.AsyncEconomy;
+import me.abdoabk.worth_items.api.EssentialsBridge;
+import me.abdoabk.worth_items.api.VaultBridge;
+import me.abdoabk.worth_items.metrics.HotPath;
+import me.abdoabk.worth_items.metrics.LatencyHistogram;
+import me.abdoabk.worth_items.metrics.ProviderStats;
+import me.abdoabk.worth_items.metrics.WorthMetrics;
+import me.abdoabk.worth_items.pricing.ContainerValuator;
+import me.abdoabk.worth_items.pricing.PriceService;
+import me.abdoabk.worth_items.pricing.PriceSnapshot;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+
+/**
+ * WorthMBeans — publishes WorthMetrics and the components' own counters on the
+ * platform MBean server, under the me.abdoabk.worthitems domain:
+ *
+ *   type=Cache                    {@link CacheMXBean}
+ *   type=Lore                     {@link LoreMXBean}
+ *   type=Economy,name=vault       {@link EconomyMXBean}
+ *   type=Economy,name=essentials  {@link EconomyMXBean}
+ *   type=Lifecycle                {@link LifecycleMXBean}
+ *
+ * Every attribute is read straight from a LongAdder, histogram or volatile
+ * field, so JMX clients can poll from their own thread without touching
+ * Bukkit. Nothing is sampled on a timer; the beans cost nothing until read.
+ *
+ * {@link #dump()} renders every attribute as text, for hosts where JMX isn't
+ * reachable (see metrics.jmx-dump-seconds).
+ */
+public final class WorthMBeans {
+
+    public static final String DOMAIN = "me.abdoabk.worthitems";
+
+    private final JavaPlugin plugin;
+    private final Map<ObjectName, StandardMBean> beans = new LinkedHashMap<>();
+    private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    private BukkitTask dumpTask;
+
+    public WorthMBeans(JavaPlugin plugin, WorthMetrics metrics, PriceService priceService,
+                       ContainerValuator containers, VaultBridge vault, EssentialsBridge essentials) {
+        this.plugin = plugin;
+        put("type=Cache", new StandardMBean(new Cache(metrics, priceService, containers),
+                CacheMXBean.class, true));
+        put("type=Lore", new StandardMBean(new Lore(metrics), LoreMXBean.class, true));
+        put("type=Economy,name=vault",
+                new StandardMBean(new Economy(vault.getProviderStats(), vault.async()), EconomyMXBean.class, true));
+        put("type=Economy,name=essentials",
+                new StandardMBean(new Economy(essentials.getProviderStats(), essentials.async()),
+                        EconomyMXBean.class, true));
+        put("type=Lifecycle",
+                new StandardMBean(new Lifecycle(metrics, essentials), LifecycleMXBean.class, true));
+    }
+
+    // ── Registration ─────────────────────────────────────────────────────────
+
+    /**
+     * Registers every bean. A bean left behind by a previous instance (plugin
+     * reloaders, /reload) is replaced rather than failing the registration.
+     */
+    public void register() {
+        int registered = 0;
+        for (Map.Entry<ObjectName, StandardMBean> bean : beans.entrySet()) {
+            try {
+                if (server.isRegistered(bean.getKey())) server.unregisterMBean(bean.getKey());
+                server.registerMBean(bean.getValue(), bean.getKey());
+                registered++;
+            } catch (JMException e) {
+                plugin.getLogger().log(Level.WARNING, "Could not register MBean " + bean.getKey(), e);
+            }
+        }
+        plugin.getLogger().info("JMX: registered " + registered + " MBeans under " + DOMAIN + ".");
+    }
+
+    /** Logs {@link #dump()} every {@code periodTicks} from an async task (0 = off). */
+    public void startDump(long periodTicks) {
+        if (dumpTask != null) dumpTask.cancel();
+        dumpTask = null;
+        if (periodTicks <= 0) return;
+        dumpTask = plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin,
+                () -> plugin.getLogger().info("Metrics:\n" + dump()), periodTicks, periodTicks);
+    }
+
+    public void unregister() {
+        if (dumpTask != null) dumpTask.cancel();
+        dumpTask = null;
+        for (ObjectName name : beans.keySet()) {
+            try {
+                if (server.isRegistered(name)) server.unregisterMBean(name);
+            } catch (JMException e) {
+                plugin.getLogger().log(Level.FINE, "Could not unregister MBean " + name, e);
+            }
+        }
+    }
+
+    // ── Dump ─────────────────────────────────────────────────────────────────
+
+    /** One line per bean: its key properties followed by every attribute as name=value. */
+    public String dump() {
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<ObjectName, StandardMBean> bean : beans.entrySet()) {
+            StringBuilder line = new StringBuilder("  ").append(bean.getKey().getKeyPropertyListString());
+            for (MBeanAttributeInfo attribute : bean.getValue().getMBeanInfo().getAttributes()) {
+                line.append(' ').append(attribute.getName()).append('=');
+                try {
+                    line.append(format(bean.getValue().getAttribute(attribute.getName())));
+                } catch (JMException e) {
+                    line.append('?');
+                }
+            }
+            lines.add(line.toString());
+        }
+        return String.join("\n", lines);
+    }
+
+    private void put(String properties, StandardMBean bean) {
+        try {
+            beans.put(new ObjectName(DOMAIN + ":" + properties), bean);
+        } catch (JMException e) {
+            throw new IllegalArgumentException("Bad MBean name " + properties, e);
+        }
+    }
+
+    private static String format(Object value) {
+        if (value instanceof Object[] array) return Arrays.toString(array);
+        if (value instanceof Double number) return String.format("%.3f", number);
+        return String.valueOf(value);
+    }
+
+    private static double millis(long nanos) {
+        return nanos < 0 ? -1 : nanos / 1_000_000.0;
+    }
+
+    // ── Beans ────────────────────────────────────────────────────────────────
+
+    private record Cache(WorthMetrics metrics, PriceService prices, ContainerValuator containers)
+            implements CacheMXBean {
+        @Override public long getBalanceHits()        { return metrics.getBalanceHits(); }
+        @Override public long getBalanceMisses()      { return metrics.getBalanceMisses(); }
+        @Override public double getBalanceHitRatio()  { return metrics.getBalanceHitRatio(); }
+        @Override public long getContainerHits()      { return metrics.getContainerHits(); }
+        @Override public long getContainerMisses()    { return metrics.getContainerMisses(); }
+        @Override public double getContainerHitRatio() { return metrics.getContainerHitRatio(); }
+        @Override public int getContainerMemoSize()   { return containers.getMemoSize(); }
+        @Override public boolean isWarm()             { return prices.isWarm(); }
+        @Override public String[] getSourceChain()    { return prices.getCompiledChain().toArray(String[]::new); }
+
+        @Override
+        public int getPricedItems() {
+            PriceSnapshot table = prices.currentSnapshot();
+            if (table == null) return 0;
+            int priced = 0;
+            for (int i = 0; i < table.size(); i++) {
+                if (table.getPrice(i) > 0) priced++;
+            }
+            return priced;
+        }
+    }
+
+    private record Lore(WorthMetrics metrics) implements LoreMXBean {
+        private static final HotPath[] PATHS = {
+                HotPath.PICKUP, HotPath.CONTAINER_CLICK, HotPath.HELD, HotPath.INVENTORY_SYNC, HotPath.BLOCK_DROP };
+
+        @Override public long getPickupApplied()         { return metrics.getLoreApplied(HotPath.PICKUP); }
+        @Override public long getPickupSkipped()         { return metrics.getLoreSkipped(HotPath.PICKUP); }
+        @Override public long getContainerClickApplied() { return metrics.getLoreApplied(HotPath.CONTAINER_CLICK); }
+        @Override public long getContainerClickSkipped() { return metrics.getLoreSkipped(HotPath.CONTAINER_CLICK); }
+        @Override public long getHeldApplied()           { return metrics.getLoreApplied(HotPath.HELD); }
+        @Override public long getHeldSkipped()           { return metrics.getLoreSkipped(HotPath.HELD); }
+        @Override public long getInventorySyncApplied()  { return metrics.getLoreApplied(HotPath.INVENTORY_SYNC); }
+        @Override public long getInventorySyncSkipped()  { return metrics.getLoreSkipped(HotPath.INVENTORY_SYNC); }
+        @Override public long getBlockDropApplied()      { return metrics.getLoreApplied(HotPath.BLOCK_DROP); }
+        @Override public long getBlockDropSkipped()      { return metrics.getLoreSkipped(HotPath.BLOCK_DROP); }
+        @Override public long getConsolidations()        { return metrics.getConsolidations(); }
+
+        @Override
+        public long getTotalApplied() {
+            long total = 0;
+            for (HotPath path : PATHS) total += metrics.getLoreApplied(path);
+            return total;
+        }
+
+        @Override
+        public long getTotalSkipped() {
+            long total = 0;
+            for (HotPath path : PATHS) total += metrics.getLoreSkipped(path);
+            return total;
+        }
+    }
+
+    private record Economy(ProviderStats provider, AsyncEconomy async) implements EconomyMXBean {
+        @Override public long getCalls()                { return provider.getCalls(); }
+        @Override public long getFailures()             { return provider.getFailures(); }
+        @Override public long getAsyncCalls()           { return async.getCalls(); }
+        @Override public long getTimeouts()             { return async.getTimeouts(); }
+        @Override public long getRejected()             { return async.getRejected(); }
+        @Override public int getInFlight()              { return async.getInFlight(); }
+        @Override public String getCircuitState()       { return async.getState().name(); }
+        @Override public double getLatencyP50Micros()   { return micros(provider.getLatency(), 50); }
+        @Override public double getLatencyP99Micros()   { return micros(provider.getLatency(), 99); }
+        @Override public double getLatencyMaxMicros()   { return provider.getLatency().getMax() / 1_000.0; }
+
+        private static double micros(LatencyHistogram histogram, double percentile) {
+            return histogram.getPercentile(percentile) / 1_000.0;
+        }
+    }
+
+    private record Lifecycle(WorthMetrics metrics, EssentialsBridge essentials) implements LifecycleMXBean {
+        @Override public double getStartupEnableMillis()     { return millis(metrics.startup().getEnableNanos()); }
+        @Override public long getReloadCount()               { return metrics.getReloads(); }
+        @Override public double getLastReloadMillis()        { return millis(metrics.getLastReloadNanos()); }
+        @Override public double getTotalReloadMillis()       { return millis(metrics.getTotalReloadNanos()); }
+        @Override public long getEssentialsSyncCount()       { return essentials.getSyncCount(); }
+        @Override public double getLastEssentialsSyncMillis() { return millis(essentials.getLastSyncNanos()); }
+        @Override public int getLastEssentialsSyncPushed()   { return essentials.getLastSyncPushed(); }
+    }
+}
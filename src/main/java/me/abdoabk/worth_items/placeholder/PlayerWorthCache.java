@@ -0,0 +1,102 @@
+package me.abdoabk.worth_items.placeholder;
+
+import me.abdoabk.worth_items.pricing.BulkValuator;
+import me.abdoabk.worth_items.pricing.PriceService;
+import me.abdoabk.worth_items.pricing.PriceSnapshot;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PlayerWorthCache — per-player held-item worth for placeholders.
+ * (Inventory totals come from the InventoryWorthTracker.)
+ *
+ * A fresh entry is a single map read, from any thread. Entries are marked
+ * dirty by the inventory changes InventoryListener handles, by price changes,
+ * and by age (max-age covers changes no listened-to event reports, e.g. /give
+ * or dropping items). A dirty entry is recomputed on the main thread: inline
+ * when read there, otherwise on the next tick while the caller gets the
+ * previous value.
+ */
+public final class PlayerWorthCache implements Listener {
+
+    /** Values as of {@code computedAt}. */
+    public record Values(long hand, long computedAt) {
+        static final Values EMPTY = new Values(0, 0);
+    }
+
+    private final JavaPlugin plugin;
+    private final PriceService priceService;
+    private final long maxAgeMillis;
+
+    private final Map<UUID, Values> values = new ConcurrentHashMap<>();
+    private final Set<UUID> dirty      = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> refreshing = ConcurrentHashMap.newKeySet();
+
+    public PlayerWorthCache(JavaPlugin plugin, PriceService priceService, long maxAgeMillis) {
+        this.plugin       = plugin;
+        this.priceService = priceService;
+        this.maxAgeMillis = maxAgeMillis;
+
+        priceService.changes().subscribe(diff -> invalidateAll());
+    }
+
+    /** Current values for an online player. Never blocks; may lag one tick off the main thread. */
+    public Values get(Player player) {
+        UUID uuid = player.getUniqueId();
+        Values cached = values.get(uuid);
+        if (cached != null && !dirty.contains(uuid)
+                && System.currentTimeMillis() - cached.computedAt() < maxAgeMillis) {
+            return cached;
+        }
+
+        if (Bukkit.isPrimaryThread()) return refresh(player);
+
+        if (refreshing.add(uuid) && plugin.isEnabled()) {
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                refreshing.remove(uuid);
+                if (player.isOnline()) refresh(player);
+            });
+        }
+        return cached != null ? cached : Values.EMPTY;
+    }
+
+    /** Marks a player's values stale. Call after their inventory changes. */
+    public void invalidate(Player player) {
+        dirty.add(player.getUniqueId());
+    }
+
+    public void invalidateAll() {
+        dirty.addAll(values.keySet());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        UUID uuid = event.getPlayer().getUniqueId();
+        values.remove(uuid);
+        dirty.remove(uuid);
+    }
+
+    // ── Private helpers ──────────────────────────────────────────────────────
+
+    private Values refresh(Player player) {
+        UUID uuid = player.getUniqueId();
+        dirty.remove(uuid);   // before reading, so a change during the read re-dirties it
+
+        PriceSnapshot prices = priceService.snapshot();
+        long hand = BulkValuator.stackValue(player.getInventory().getItemInMainHand(), prices);
+
+        Values fresh = new Values(hand, System.currentTimeMillis());
+        values.put(uuid, fresh);
+        return fresh;
+    }
+}
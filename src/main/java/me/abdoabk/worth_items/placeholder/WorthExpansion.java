@@ -0,0 +1,41 @@
+package me.abdoabk.worth_items.placeholder;
+
+import me.clip.placeholderapi.expansion.PlaceholderExpansion;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * PlaceholderAPI expansion — %worth_...% placeholders.
+ *
+ * Only loaded when PlaceholderAPI is installed; all logic lives in
+ * {@link WorthPlaceholders}.
+ */
+public class WorthExpansion extends PlaceholderExpansion {
+
+    private final JavaPlugin plugin;
+    private final WorthPlaceholders placeholders;
+
+    public WorthExpansion(JavaPlugin plugin, WorthPlaceholders placeholders) {
+        this.plugin       = plugin;
+        this.placeholders = placeholders;
+    }
+
+    @Override
+    public @NotNull String getIdentifier() { return "worth"; }
+
+    @Override
+    public @NotNull String getAuthor() { return String.join(", ", plugin.getDescription().getAuthors()); }
+
+    @Override
+    public @NotNull String getVersion() { return plugin.getDescription().getVersion(); }
+
+    /** Keep the expansion registered across /papi reload — it belongs to this plugin. */
+    @Override
+    public boolean persist() { return true; }
+
+    @Override
+    public String onRequest(OfflinePlayer player, @NotNull String params) {
+        return placeholders.resolve(player, params);
+    }
+}
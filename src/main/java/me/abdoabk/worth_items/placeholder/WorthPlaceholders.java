@@ -0,0 +1,66 @@
+package me.abdoabk.worth_items.placeholder;
+
+import me.abdoabk.worth_items.pricing.PriceService;
+import me.abdoabk.worth_items.tracker.InventoryWorthTracker;
+import me.abdoabk.worth_items.util.ConfigUtil;
+import org.bukkit.Material;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WorthPlaceholders — resolves the text after "worth_" in a placeholder.
+ *
+ *   hand, hand_formatted             — held stack (container contents included)
+ *   inventory, inventory_formatted   — inventory + ender chest
+ *   price_&lt;material&gt;, price_&lt;material&gt;_formatted — unit price of any item
+ *
+ * Has no PlaceholderAPI dependency — {@link WorthExpansion} is a thin adapter —
+ * so it can be driven directly (or through a stub expansion) without PAPI.
+ * Safe to call from any thread; held-item values come from {@link PlayerWorthCache},
+ * inventory totals from the {@link InventoryWorthTracker}.
+ */
+public final class WorthPlaceholders {
+
+    private static final String FORMATTED = "_formatted";
+    private static final String PRICE     = "price_";
+
+    private final PlayerWorthCache cache;
+    private final InventoryWorthTracker tracker;
+    private final PriceService priceService;
+    private final ConfigUtil configUtil;
+    private final Map<String, Material> materials = new ConcurrentHashMap<>();
+
+    public WorthPlaceholders(PlayerWorthCache cache, InventoryWorthTracker tracker,
+                             PriceService priceService, ConfigUtil configUtil) {
+        this.cache        = cache;
+        this.tracker      = tracker;
+        this.priceService = priceService;
+        this.configUtil   = configUtil;
+    }
+
+    /** Returns the placeholder text, or null if {@code params} isn't one of ours. */
+    public String resolve(OfflinePlayer player, String params) {
+        String key = params.toLowerCase();
+        boolean formatted = key.endsWith(FORMATTED);
+        if (formatted) key = key.substring(0, key.length() - FORMATTED.length());
+
+        long value;
+        if (key.startsWith(PRICE)) {
+            Material material = materials.computeIfAbsent(key.substring(PRICE.length()), Material::matchMaterial);
+            if (material == null) return null;
+            value = priceService.snapshot().getPrice(material);
+        } else if (key.equals("hand")) {
+            Player online = player != null ? player.getPlayer() : null;
+            value = online == null ? 0 : cache.get(online).hand();
+        } else if (key.equals("inventory")) {
+            value = player == null ? 0 : tracker.getTotal(player.getUniqueId());
+        } else {
+            return null;
+        }
+
+        return formatted ? configUtil.getCurrencySymbol() + String.format("%,d", value) : Long.toString(value);
+    }
+}
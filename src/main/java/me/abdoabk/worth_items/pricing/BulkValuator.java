@@ -0,0 +1,106 @@
+package me.abdoabk.worth_items.pricing;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * BulkValuator — one-pass valuation of many stacks against one {@link PriceSnapshot}.
+ *
+ * The per-item loop does no allocation for ordinary stacks: a null/air check,
+ * an ordinal array read for the price and another for "is this a container".
+ * Only shulker boxes and bundles that actually hold items allocate, because
+ * reading their contents goes through ItemMeta.
+ *
+ * Unlike {@link ContainerValuator} this keeps no memo, so it is safe to call
+ * from any thread on stacks the caller owns (e.g. copies).
+ */
+public final class BulkValuator {
+
+    private static volatile boolean[] containers;
+
+    private BulkValuator() {}
+
+    /** Grand total of the stacks, including anything stored inside containers. */
+    public static long value(ItemStack[] items, PriceSnapshot prices) {
+        return valueInto(items, prices, null);
+    }
+
+    /**
+     * Adds each stack's worth to {@code breakdown[material.ordinal()]} (nested
+     * contents are credited to their own material) and returns the total.
+     *
+     * @param breakdown caller-owned array of at least {@link PriceSnapshot#size()}
+     *                  entries, or null for the total only. Not cleared first,
+     *                  so several calls can accumulate into one array.
+     */
+    public static long valueInto(ItemStack[] items, PriceSnapshot prices, long[] breakdown) {
+        if (items == null) return 0;
+        if (breakdown != null && breakdown.length < prices.size()) {
+            throw new IllegalArgumentException("breakdown needs " + prices.size()
+                    + " entries, got " + breakdown.length);
+        }
+
+        boolean[] isContainer = containers();
+        long total = 0;
+        for (ItemStack item : items) {
+            if (item == null) continue;
+            int ordinal = item.getType().ordinal();
+            long value  = (long) prices.getPrice(ordinal) * item.getAmount();
+            if (breakdown != null) breakdown[ordinal] += value;
+            total += value;
+
+            if (isContainer[ordinal]) {
+                total += nested(item, item.getAmount(), 0, prices, breakdown);
+            }
+        }
+        return total;
+    }
+
+    /** Worth of one stack, including anything stored inside it. */
+    public static long stackValue(ItemStack item, PriceSnapshot prices) {
+        if (item == null) return 0;
+        int ordinal = item.getType().ordinal();
+        long value  = (long) prices.getPrice(ordinal) * item.getAmount();
+        if (containers()[ordinal]) value += nested(item, item.getAmount(), 0, prices, null);
+        return value;
+    }
+
+    /** Worth of a per-material count array (indexed by Material ordinal). */
+    public static long value(long[] counts, PriceSnapshot prices) {
+        return prices.getValue(counts);
+    }
+
+    // ── Private helpers ──────────────────────────────────────────────────────
+
+    private static long nested(ItemStack item, long multiplier, int depth,
+                               PriceSnapshot prices, long[] breakdown) {
+        if (depth >= ContainerValuator.MAX_DEPTH) return 0;
+        ItemStack[] inner = ContainerValuator.directContents(item);
+        if (inner == null) return 0;
+
+        long total = 0;
+        for (ItemStack child : inner) {
+            if (child == null || child.getType().isAir()) continue;
+            int ordinal  = child.getType().ordinal();
+            long amount  = multiplier * child.getAmount();
+            long value   = amount * prices.getPrice(ordinal);
+            if (breakdown != null) breakdown[ordinal] += value;
+            total += value + nested(child, amount, depth + 1, prices, breakdown);
+        }
+        return total;
+    }
+
+    /** Container flags by ordinal — built once, so the hot loop avoids tag lookups. */
+    private static boolean[] containers() {
+        boolean[] flags = containers;
+        if (flags != null) return flags;
+
+        Material[] materials = Material.values();
+        flags = new boolean[materials.length];
+        for (Material material : materials) {
+            if (!material.isLegacy()) flags[material.ordinal()] = ContainerValuator.isContainer(material);
+        }
+        containers = flags;
+        return flags;
+    }
+}
@@ -0,0 +1,41 @@
+package me.abdoabk.worth_items.pricing;
+
+import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.plugin.java.JavaPlugin;
+
+/**
+ * Prices from the special-items section of config.yml.
+ *
+ * This is the only source consulted for blacklisted materials, so an explicit
+ * override still beats the blacklist as it always has.
+ */
+public class ConfigOverrideSource implements PriceSource {
+
+    public static final String ID = "config";
+
+    private final JavaPlugin plugin;
+    private ConfigurationSection section;
+
+    public ConfigOverrideSource(JavaPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public String getId() { return ID; }
+
+    @Override
+    public int getDefaultPriority() { return 400; }
+
+    @Override
+    public void prepare() {
+        // Read once per compile — config is reloaded before every recompile.
+        section = plugin.getConfig().getConfigurationSection("special-items");
+    }
+
+    @Override
+    public int resolve(Material material, Lookup lookup) {
+        if (section == null || !section.contains(material.name())) return NO_PRICE;
+        return Math.max(0, section.getInt(material.name()));
+    }
+}
@@ -0,0 +1,250 @@
+package me.abdoabk.worth_items.pricing;
+
+import me.abdoabk.worth_items.metrics.WorthMetrics;
+import org.bukkit.Material;
+import org.bukkit.Tag;
+import org.bukkit.block.ShulkerBox;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.BlockStateMeta;
+import org.bukkit.inventory.meta.BundleMeta;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ContainerValuator — values items including everything stored inside them.
+ *
+ * Shulker boxes (BlockStateMeta contents) and bundles (BundleMeta items) are
+ * opened recursively, so a shulker full of diamonds is worth its diamonds.
+ *
+ * Decoding a shulker's block state copies its whole inventory, so decoded
+ * contents are memoized per content fingerprint: a 64-bit hash of the type and
+ * the item's serialized component data (ItemMeta#getAsString), which never
+ * builds the block state. FIX: the memo used to be keyed by the ItemStack,
+ * whose hashCode/equals compare full ItemMeta — the decode it was meant to
+ * skip, plus a clone per miss. The memo stores material counts, not prices,
+ * so it stays valid across /worth reload. Hits and misses are counted in
+ * {@link WorthMetrics} (/worth stats, the Cache MBean).
+ *
+ * Values are summed in long, like {@link BulkValuator} — an ender chest of
+ * full shulkers at high prices overflows an int.
+ *
+ * NOTE: Not thread-safe — all access must occur on the main server thread.
+ * Off-thread callers (e.g. scan jobs working on copied stacks) should use the
+ * static {@link #decodeInto} which bypasses the memo.
+ */
+public class ContainerValuator {
+
+    /** Bundles can nest bundles; stop descending after this many levels. */
+    public static final int MAX_DEPTH = 4;
+
+    private static final int MEMO_CAPACITY = 1024;
+
+    private final PriceService priceService;
+    private final WorthMetrics metrics;
+    private volatile int memoSize;       // for readers off the main thread
+
+    private final Map<Long, Contents> memo =
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Contents> eldest) {
+                    return size() > MEMO_CAPACITY;
+                }
+            };
+
+    public ContainerValuator(PriceService priceService, WorthMetrics metrics) {
+        this.priceService = priceService;
+        this.metrics      = metrics;
+    }
+
+    // ── Valuation ────────────────────────────────────────────────────────────
+
+    /** Worth of a stack, including the worth of anything stored inside it. */
+    public long getValue(ItemStack item) {
+        if (item == null || item.getType().isAir()) return 0;
+
+        long amount = item.getAmount();
+        long value  = priceService.getPrice(item.getType()) * amount;
+
+        Contents contents = contentsOf(item);
+        for (int i = 0; i < contents.size(); i++) {
+            value += priceService.getPrice(contents.materials[i]) * contents.amounts[i] * amount;
+        }
+        return value;
+    }
+
+    public long getValue(ItemStack[] items) {
+        if (items == null) return 0;
+        long total = 0;
+        for (ItemStack item : items) total += getValue(item);
+        return total;
+    }
+
+    /**
+     * Adds the stack and everything inside it to a per-material count map.
+     * Used by commands that list a breakdown by material.
+     */
+    public void countInto(ItemStack item, Map<Material, Integer> totals) {
+        if (item == null || item.getType().isAir()) return;
+
+        int amount = item.getAmount();
+        totals.merge(item.getType(), amount, ContainerValuator::saturatedSum);
+
+        Contents contents = contentsOf(item);
+        for (int i = 0; i < contents.size(); i++) {
+            int count = (int) Math.min(Integer.MAX_VALUE, contents.amounts[i] * amount);
+            totals.merge(contents.materials[i], count, ContainerValuator::saturatedSum);
+        }
+    }
+
+    public void countInto(ItemStack[] items, Map<Material, Integer> totals) {
+        if (items == null) return;
+        for (ItemStack item : items) countInto(item, totals);
+    }
+
+    /** Counts are shown, not summed into money — cap them rather than wrap negative. */
+    private static int saturatedSum(int a, int b) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) a + b);
+    }
+
+    /** Drops all memoized contents. */
+    public void clear() {
+        memo.clear();
+        memoSize = 0;
+    }
+
+    /** Containers currently memoized. Safe from any thread. */
+    public int getMemoSize() {
+        return memoSize;
+    }
+
+    // ── Decoding ─────────────────────────────────────────────────────────────
+
+    /** Returns true if this material can carry other items (shulker box or bundle). */
+    public static boolean isContainer(Material type) {
+        return Tag.SHULKER_BOXES.isTagged(type)
+                || type == Material.BUNDLE || type.name().endsWith("_BUNDLE");
+    }
+
+    /**
+     * Returns the items stored directly inside a container item,
+     * or null if it is not a container or is empty.
+     */
+    public static ItemStack[] directContents(ItemStack item) {
+        if (item == null || !item.hasItemMeta() || !isContainer(item.getType())) return null;
+        ItemMeta meta = item.getItemMeta();
+
+        if (meta instanceof BlockStateMeta stateMeta && stateMeta.hasBlockState()
+                && stateMeta.getBlockState() instanceof ShulkerBox box) {
+            return box.getInventory().getContents();
+        }
+        if (meta instanceof BundleMeta bundle && bundle.hasItems()) {
+            List<ItemStack> items = bundle.getItems();
+            return items.toArray(new ItemStack[0]);
+        }
+        return null;
+    }
+
+    /**
+     * Adds everything nested inside {@code item} (not the item itself) to
+     * {@code counts}, indexed by Material ordinal and scaled by {@code multiplier},
+     * and returns the worth of what was added.
+     * Does not use the memo, so it is safe on copied stacks off the main thread.
+     */
+    public static long decodeInto(ItemStack item, long multiplier, int depth,
+                                  long[] counts, PriceSnapshot prices) {
+        if (depth >= MAX_DEPTH) return 0;
+        ItemStack[] inner = directContents(item);
+        if (inner == null) return 0;
+
+        long value = 0;
+        for (ItemStack child : inner) {
+            if (child == null || child.getType().isAir()) continue;
+            long amount = multiplier * child.getAmount();
+            counts[child.getType().ordinal()] += amount;
+            value += amount * prices.getPrice(child.getType());
+            value += decodeInto(child, amount, depth + 1, counts, prices);
+        }
+        return value;
+    }
+
+    // ── Memo ─────────────────────────────────────────────────────────────────
+
+    private Contents contentsOf(ItemStack item) {
+        if (!item.hasItemMeta() || !isContainer(item.getType())) return Contents.EMPTY;
+
+        long key = fingerprint(item);
+        Contents cached = memo.get(key);
+        metrics.recordContainerLookup(cached != null);
+        if (cached != null) return cached;
+
+        Map<Material, Long> counts = new EnumMap<>(Material.class);
+        collect(item, 1, 0, counts);
+        Contents contents = Contents.of(counts);
+        memo.put(key, contents);
+        memoSize = memo.size();
+        return contents;
+    }
+
+    /**
+     * 64-bit FNV-1a over the type and the serialized component data. Amount
+     * isn't part of the meta, so every stack size of one box shares an entry.
+     */
+    static long fingerprint(ItemStack item) {
+        long hash = 0xcbf29ce484222325L ^ item.getType().ordinal();
+        hash *= 0x100000001b3L;
+        String data = item.getItemMeta().getAsString();
+        for (int i = 0; i < data.length(); i++) {
+            hash ^= data.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static void collect(ItemStack item, long multiplier, int depth,
+                                Map<Material, Long> counts) {
+        if (depth >= MAX_DEPTH) return;
+        ItemStack[] inner = directContents(item);
+        if (inner == null) return;
+
+        for (ItemStack child : inner) {
+            if (child == null || child.getType().isAir()) continue;
+            long amount = multiplier * child.getAmount();
+            counts.merge(child.getType(), amount, Long::sum);
+            collect(child, amount, depth + 1, counts);
+        }
+    }
+
+    /** Flattened material counts for one container item. */
+    private static final class Contents {
+        static final Contents EMPTY = new Contents(new Material[0], new long[0]);
+
+        final Material[] materials;
+        final long[]     amounts;
+
+        private Contents(Material[] materials, long[] amounts) {
+            this.materials = materials;
+            this.amounts   = amounts;
+        }
+
+        static Contents of(Map<Material, Long> counts) {
+            if (counts.isEmpty()) return EMPTY;
+            Material[] materials = new Material[counts.size()];
+            long[] amounts = new long[counts.size()];
+            int i = 0;
+            for (Map.Entry<Material, Long> entry : counts.entrySet()) {
+                materials[i] = entry.getKey();
+                amounts[i]   = entry.getValue();
+                i++;
+            }
+            return new Contents(materials, amounts);
+        }
+
+        int size() {
+            return materials.length;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package me.abdoabk.worth_items.pricing;
+
+import me.abdoabk.worth_items.event.PriceChangeEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * PriceChangeBus — delivers price changes as one coalesced {@link PriceDiff}.
+ *
+ * {@link #publish} only records the tables; delivery happens on the next
+ * tick, so several publishes in the same tick (a reload followed by a source
+ * registration, say) merge into a single diff from the first old table to
+ * the last new one. Each delivery fires a {@link PriceChangeEvent} and calls
+ * the main-thread subscribers, then hands the same diff to the async
+ * subscribers on a Bukkit async task.
+ *
+ * publish() MUST be called on the main thread; subscribe from anywhere.
+ */
+public final class PriceChangeBus {
+
+    /** Returned by subscribe — cancel it to stop receiving diffs. */
+    public interface Subscription {
+        void cancel();
+    }
+
+    private final JavaPlugin plugin;
+    private final List<Consumer<PriceDiff>> syncSubscribers  = new CopyOnWriteArrayList<>();
+    private final List<Consumer<PriceDiff>> asyncSubscribers = new CopyOnWriteArrayList<>();
+
+    // Pending publish — main thread only.
+    private PriceSnapshot pendingFrom;
+    private PriceSnapshot pendingTo;
+
+    public PriceChangeBus(JavaPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /** Diffs are delivered on the main thread. */
+    public Subscription subscribe(Consumer<PriceDiff> subscriber) {
+        syncSubscribers.add(subscriber);
+        return () -> syncSubscribers.remove(subscriber);
+    }
+
+    /** Diffs are delivered on a Bukkit async worker — don't touch the world from here. */
+    public Subscription subscribeAsync(Consumer<PriceDiff> subscriber) {
+        asyncSubscribers.add(subscriber);
+        return () -> asyncSubscribers.remove(subscriber);
+    }
+
+    /** Records a table change; the coalesced diff goes out next tick. */
+    public void publish(PriceSnapshot from, PriceSnapshot to) {
+        if (from == null || from == to) return;
+        boolean scheduled = pendingFrom != null;
+        if (!scheduled) pendingFrom = from;
+        pendingTo = to;
+        if (!scheduled && plugin.isEnabled()) Bukkit.getScheduler().runTask(plugin, this::deliver);
+    }
+
+    // ── Private helpers ──────────────────────────────────────────────────────
+
+    private void deliver() {
+        PriceDiff diff = PriceDiff.between(pendingFrom, pendingTo);
+        pendingFrom = pendingTo = null;
+        if (diff.isEmpty()) return;
+
+        Bukkit.getPluginManager().callEvent(new PriceChangeEvent(diff));
+        for (Consumer<PriceDiff> subscriber : syncSubscribers) notify(subscriber, diff);
+
+        if (!asyncSubscribers.isEmpty()) {
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+                for (Consumer<PriceDiff> subscriber : asyncSubscribers) notify(subscriber, diff);
+            });
+        }
+    }
+
+    private void notify(Consumer<PriceDiff> subscriber, PriceDiff diff) {
+        try {
+            subscriber.accept(diff);
+        } catch (RuntimeException e) {
+            plugin.getLogger().log(Level.WARNING, "PriceChangeBus: subscriber failed", e);
+        }
+    }
+}
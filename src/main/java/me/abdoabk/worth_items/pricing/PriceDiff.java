@@ -0,0 +1,67 @@
+package me.abdoabk.worth_items.pricing;
+
+import org.bukkit.Material;
+
+import java.util.Arrays;
+
+/**
+ * PriceDiff — the materials whose price changed between two price tables.
+ *
+ * Immutable and thread-safe. Stored as parallel primitive arrays so a diff of
+ * a handful of materials stays a handful of ints; consumers iterate
+ * {@code 0..size()-1} and do O(changed) work instead of rescanning every price.
+ */
+public final class PriceDiff {
+
+    private static final Material[] MATERIALS = Material.values();
+
+    private final int[] ordinals;
+    private final int[] oldPrices;
+    private final int[] newPrices;
+    private final PriceSnapshot current;
+
+    private PriceDiff(int[] ordinals, int[] oldPrices, int[] newPrices, PriceSnapshot current) {
+        this.ordinals  = ordinals;
+        this.oldPrices = oldPrices;
+        this.newPrices = newPrices;
+        this.current   = current;
+    }
+
+    /** Every material whose price differs between {@code from} and {@code to}. */
+    public static PriceDiff between(PriceSnapshot from, PriceSnapshot to) {
+        int n = Math.min(from.size(), to.size());
+        int[] ordinals = new int[16];
+        int[] before   = new int[16];
+        int[] after    = new int[16];
+        int count = 0;
+
+        for (int i = 0; i < n; i++) {
+            int oldPrice = from.getPrice(i), newPrice = to.getPrice(i);
+            if (oldPrice == newPrice) continue;
+            if (count == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, count * 2);
+                before   = Arrays.copyOf(before, count * 2);
+                after    = Arrays.copyOf(after, count * 2);
+            }
+            ordinals[count] = i;
+            before[count]   = oldPrice;
+            after[count]    = newPrice;
+            count++;
+        }
+        return new PriceDiff(Arrays.copyOf(ordinals, count), Arrays.copyOf(before, count),
+                Arrays.copyOf(after, count), to);
+    }
+
+    public int size() { return ordinals.length; }
+
+    public boolean isEmpty() { return ordinals.length == 0; }
+
+    public Material getMaterial(int index) { return MATERIALS[ordinals[index]]; }
+
+    public int getOldPrice(int index) { return oldPrices[index]; }
+
+    public int getNewPrice(int index) { return newPrices[index]; }
+
+    /** The full price table after this change, for consumers that need context. */
+    public PriceSnapshot getCurrent() { return current; }
+}
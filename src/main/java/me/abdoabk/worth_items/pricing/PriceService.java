@@ -1,63 +1,201 @@
 package me.abdoabk.worth_items.pricing;
 
+import me.abdoabk.worth_items.metrics.HotPath;
+import me.abdoabk.worth_items.metrics.WorthMetrics;
 import org.bukkit.Material;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitRunnable;
 
-import java.util.Random;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * PriceService — Central pricing engine.
  *
- * Priority order:
- *   1. Special-item override from config.yml
- *   2. Blacklist → always 0
- *   3. Cached price (generated previously this session / loaded from prices.yml)
- *   4. Tier-based seeded generation → stored in cache
+ * Prices come from a chain of {@link PriceSource}s, asked in priority order
+ * (configurable under price-sources in config.yml):
+ *   1. config    — special-items override from config.yml
+ *   2. essentials — EssentialsX worth.yml (when Essentials is installed)
+ *   3. recipe / external sources registered through the API
+ *   4. tier      — seeded generation, cached in the price storage (prices.yml by default)
+ * Blacklisted materials are worth 0 unless the config source prices them.
  *
- * FIX 1: Config is read live via plugin.getConfig() so reloadConfig() is respected.
- * FIX 2: blacklist is no longer cached at construction — it's read fresh each call.
- * FIX 3: Random is seeded per-material so prices are stable across reload cycles.
+ * The chain is compiled once into a {@link PriceSnapshot} at startup and on
+ * reload (or when a source is registered), so getPrice is an array read and
+ * no external plugin is queried on the hot path.
+ *
+ * Every compile that changes prices publishes a coalesced {@link PriceDiff}
+ * through {@link #changes()} (and a PriceChangeEvent).
+ *
+ * At startup the table persisted by the previous run can be {@link #restore restored}
+ * and served until the deferred first compile replaces it; that compile then
+ * publishes whatever changed since, like any other. Warm-up uses
+ * {@link #compileSliced}, which spreads the source chain over several ticks.
+ *
+ * FIX 1: Config is re-read on every compile, so reloadConfig() is respected.
+ * FIX 2: blacklist is no longer cached at construction — it's read fresh each compile.
  */
 public class PriceService {
 
     private final JavaPlugin plugin;
     private final PriceStorage storage;
-    private final TierResolver tierResolver;
+    private final WorthMetrics metrics;
+    private final Map<String, PriceSource> sources = new LinkedHashMap<>();
+    private final PriceChangeBus changes;
+
+    // The table being served and the source behind each price, swapped together.
+    private volatile Compiled compiled;
+    private volatile List<String> compiledChain = List.of();
+    private volatile boolean warm;     // compiled holds the live chain, not a restored table
+    private PriceSnapshot published;   // survives reload() so the next compile can diff against it
+    private long compileCount;         // main thread only; lets a sliced compile see it was overtaken
+    private int  sourcesVersion;       // main thread only; bumped when a source or its prices change
+    private static volatile PriceSnapshot EMPTY;   // served off-thread until the first compile
+
+    public PriceService(JavaPlugin plugin, PriceStorage storage, TierResolver tierResolver,
+                        WorthMetrics metrics) {
+        this.plugin  = plugin;
+        this.storage = storage;
+        this.metrics = metrics;
+        this.changes = new PriceChangeBus(plugin);
 
-    public PriceService(JavaPlugin plugin, PriceStorage storage, TierResolver tierResolver) {
-        this.plugin       = plugin;
-        this.storage      = storage;
-        this.tierResolver = tierResolver;
+        addSource(new ConfigOverrideSource(plugin));
+        addSource(new RecipeSource());
+        addSource(new TierSource(plugin, storage, tierResolver));
     }
 
     /**
      * Returns the sell price for a material.
-     * Result is deterministic after the first call (cached in PriceStorage).
+     * A plain table read once the chain has been compiled. Before the first
+     * compile, only the main thread compiles; other threads get 0.
      */
     public int getPrice(Material material) {
-        // 1. Special override (always wins)
-        int override = getSpecialOverride(material);
-        if (override >= 0) return override;
-
-        // 2. Blacklist
-        if (isBlacklisted(material)) return 0;
-
-        // 3. Cache hit
-        if (storage.has(material)) return storage.get(material);
-
-        // 4. Generate, store, and return
-        int price = generatePrice(material);
-        storage.set(material, price);
-        return price;
+        long start = metrics.start();
+        try {
+            return snapshot().getPrice(material);
+        } finally {
+            metrics.stop(HotPath.GET_PRICE, start);
+        }
     }
 
     /**
-     * Clears the price cache so prices re-derive on the next request.
+     * Clears the price cache so prices re-derive on the next compile.
      * Called by fullReload() — config is reloaded externally before this.
+     *
+     * FIX: the live table is kept until the next {@link #compile()} replaces
+     * it; clearing it left off-thread readers (scans, placeholders, JMX, the
+     * API) with an all-zero table until the recompile finished.
      */
     public void reload() {
         storage.clearCache();
+        warm = false;
+    }
+
+    /**
+     * Serves a table persisted by a previous run until the first {@link #compile()}.
+     * Ignored once anything has been compiled. MUST be called on the main thread.
+     */
+    public void restore(PriceSnapshot table) {
+        if (table == null || compiled != null) return;
+        compiled  = new Compiled(table, null);
+        published = table;
+    }
+
+    /** False while serving a restored table that the source chain hasn't confirmed yet. */
+    public boolean isWarm() {
+        return warm;
+    }
+
+    /**
+     * Returns the compiled, immutable, thread-safe table of every item price.
+     * Compiled lazily on the main thread and served until the next compile replaces it.
+     *
+     * FIX: sources call Bukkit and other plugins and compile() publishes on the
+     * main-thread bus, so a caller on another thread that arrives before the
+     * first compile (first boot, no persisted table) gets an all-zero table
+     * instead of compiling there.
+     */
+    public PriceSnapshot snapshot() {
+        Compiled current = compiled;
+        if (current != null) return current.prices();
+        if (!plugin.getServer().isPrimaryThread()) return empty();
+        return compile();
+    }
+
+    /**
+     * The table currently served, or null if nothing has been compiled or restored.
+     * Never compiles, so unlike {@link #snapshot()} it is safe from any thread.
+     */
+    public PriceSnapshot currentSnapshot() {
+        Compiled current = compiled;
+        return current == null ? null : current.prices();
+    }
+
+    /** Source ids of the last compile, in the order they were consulted. Safe from any thread. */
+    public List<String> getCompiledChain() {
+        return compiledChain;
+    }
+
+    /** Subscription point for price change diffs. */
+    public PriceChangeBus changes() {
+        return changes;
+    }
+
+    // ── Sources ──────────────────────────────────────────────────────────────
+
+    /**
+     * Adds (or replaces, by id) a price source. If prices are already compiled
+     * the table is rebuilt immediately. MUST be called on the main thread.
+     */
+    public void registerSource(PriceSource source) {
+        addSource(source);
+        recompile();
+    }
+
+    /** Removes a registered source by id and recompiles. The tier source can't be removed. */
+    public boolean unregisterSource(String id) {
+        if (TierSource.ID.equals(id) || sources.remove(id) == null) return false;
+        recompile();
+        return true;
+    }
+
+    /**
+     * Call when a source's prices change. Recompiles now once warm; before
+     * that, a {@link #compileSliced} in progress starts over so it sees the
+     * change. MUST be called on the main thread.
+     */
+    public void recompile() {
+        sourcesVersion++;
+        if (warm) compile();
+    }
+
+    /** Id of the source that priced this material, or null if nothing did (or not compiled yet, off the main thread). */
+    public String getSourceOf(Material material) {
+        if (!warm && plugin.getServer().isPrimaryThread()) compile();
+        Compiled current = compiled;
+        return current == null || current.winners() == null ? null : current.winners()[material.ordinal()];
+    }
+
+    /** Enabled sources in the order they are consulted. */
+    public List<PriceSource> getChain() {
+        List<PriceSource> chain = new ArrayList<>();
+        for (PriceSource source : sources.values()) {
+            if (priorityOf(source) >= 0) chain.add(source);
+        }
+        chain.sort(Comparator.comparingInt(this::priorityOf).reversed());
+        return chain;
+    }
+
+    public int priorityOf(PriceSource source) {
+        return plugin.getConfig().getInt("price-sources." + source.getId(), source.getDefaultPriority());
     }
 
     /** Returns true if this material has a manual override in config.yml. */
@@ -72,51 +210,151 @@ public class PriceService {
         return plugin.getConfig().getStringList("blacklist").contains(material.name());
     }
 
-    // ── Private helpers ──────────────────────────────────────────────────────
+    // ── Compilation ──────────────────────────────────────────────────────────
 
-    private int getSpecialOverride(Material material) {
-        ConfigurationSection section = plugin.getConfig().getConfigurationSection("special-items");
-        if (section == null || !section.contains(material.name())) return -1;
-        return section.getInt(material.name());
-    }
-
-    private int generatePrice(Material material) {
-        Tier tier    = tierResolver.resolve(material);
-        String key   = tier.name().toLowerCase();
-
-        int min = plugin.getConfig().getInt("tiers." + key + ".min", defaultMin(tier));
-        int max = plugin.getConfig().getInt("tiers." + key + ".max", defaultMax(tier));
-
-        if (min >= max) return min;
-
-        // FIX: Seed the RNG with (configSeed XOR material ordinal) so that:
-        //  - Prices are stable between reloads for the same seed.
-        //  - Different materials always get different values.
-        //  - Server admins can change "price-seed" to shuffle all prices intentionally.
-        long seed = plugin.getConfig().getLong("price-seed", 0xDEADBEEFL) ^ material.ordinal();
-        int range = max - min + 1;
-        return min + (int) (new Random(seed).nextInt(range));
-    }
-
-    private int defaultMin(Tier tier) {
-        return switch (tier) {
-            case JUNK      -> 0;
-            case COMMON    -> 5;
-            case UNCOMMON  -> 15;
-            case RARE      -> 40;
-            case EPIC      -> 120;
-            case LEGENDARY -> 400;
-        };
-    }
-
-    private int defaultMax(Tier tier) {
-        return switch (tier) {
-            case JUNK      -> 5;
-            case COMMON    -> 15;
-            case UNCOMMON  -> 40;
-            case RARE      -> 120;
-            case EPIC      -> 400;
-            case LEGENDARY -> 3000;
-        };
-    }
-}
\ No newline at end of file
+    /**
+     * Resolves every item through the source chain into a fresh table.
+     * MUST be called on the main thread.
+     */
+    public PriceSnapshot compile() {
+        Compiler compiler = newCompiler();
+        for (Material material : Material.values()) {
+            if (isPriced(material)) compiler.priceOf(material);
+        }
+        return publish(compiler);
+    }
+
+    /**
+     * As {@link #compile()}, but resolves at most {@code perTick} materials per
+     * tick into a scratch table and swaps it in once complete; the current
+     * (restored) table is served until then. Used at warm-up so the source
+     * chain — recipes, Essentials, tier generation — doesn't land on one tick.
+     * Starts over if a source changes meanwhile; if a full compile() finishes
+     * first, completes with that table instead. MUST be called on the main thread.
+     */
+    public CompletableFuture<PriceSnapshot> compileSliced(int perTick) {
+        CompletableFuture<PriceSnapshot> done = new CompletableFuture<>();
+        long overtakenAt = compileCount + 1;
+        Material[] materials = Material.values();
+        int budget = Math.max(1, perTick);
+
+        new BukkitRunnable() {
+            Compiler compiler;
+            int version;
+            int next;
+
+            @Override
+            public void run() {
+                try {
+                    if (compileCount >= overtakenAt) {          // someone compiled in full meanwhile
+                        cancel();
+                        done.complete(snapshot());
+                        return;
+                    }
+                    if (compiler == null || version != sourcesVersion) {
+                        version  = sourcesVersion;
+                        compiler = newCompiler();
+                        next     = 0;
+                    }
+                    for (int resolved = 0; next < materials.length && resolved < budget; next++) {
+                        if (!isPriced(materials[next])) continue;
+                        compiler.priceOf(materials[next]);
+                        resolved++;
+                    }
+                    if (next >= materials.length) {
+                        cancel();
+                        done.complete(publish(compiler));
+                    }
+                } catch (RuntimeException e) {
+                    cancel();
+                    done.completeExceptionally(e);
+                }
+            }
+        }.runTaskTimer(plugin, 0L, 1L);
+        return done;
+    }
+
+    private Compiler newCompiler() {
+        List<PriceSource> chain = getChain();
+        for (PriceSource source : chain) source.prepare();
+        return new Compiler(chain, new HashSet<>(plugin.getConfig().getStringList("blacklist")));
+    }
+
+    private static boolean isPriced(Material material) {
+        return !material.isLegacy() && material.isItem() && !material.isAir();
+    }
+
+    /** Finishes a compile pass and makes its table the live one. */
+    private PriceSnapshot publish(Compiler compiler) {
+        List<PriceSource> chain = compiler.chain;
+        compileCount++;
+        for (int i = 0; i < compiler.prices.length; i++) {
+            if (compiler.prices[i] < 0) compiler.prices[i] = 0;
+        }
+        PriceSnapshot table = new PriceSnapshot(compiler.prices);
+        compiled = new Compiled(table, compiler.winners);    // one swap: readers never see a gap
+        warm     = true;
+        compiledChain = chain.stream().map(PriceSource::getId).toList();
+
+        changes.publish(published, table);
+        published = table;
+        return table;
+    }
+
+    private static PriceSnapshot empty() {
+        PriceSnapshot table = EMPTY;
+        if (table == null) EMPTY = table = new PriceSnapshot(new int[Material.values().length]);
+        return table;
+    }
+
+    private void addSource(PriceSource source) {
+        sources.put(source.getId(), source);
+    }
+
+    /** A served table and its winning source ids (null for a restored table). */
+    private record Compiled(PriceSnapshot prices, String[] winners) {}
+
+    /** One compile pass — memoizes resolved prices and guards recipe cycles. */
+    private static final class Compiler implements PriceSource.Lookup {
+        private static final int UNRESOLVED = Integer.MIN_VALUE;
+
+        final int[] prices;
+        final String[] winners;
+        final boolean[] resolving;
+        final List<PriceSource> chain;
+        final Set<String> blacklist;
+
+        Compiler(List<PriceSource> chain, Set<String> blacklist) {
+            int size = Material.values().length;
+            this.prices    = new int[size];
+            this.winners   = new String[size];
+            this.resolving = new boolean[size];
+            this.chain     = chain;
+            this.blacklist = blacklist;
+            Arrays.fill(prices, UNRESOLVED);
+        }
+
+        @Override
+        public int priceOf(Material material) {
+            int ordinal = material.ordinal();
+            if (prices[ordinal] != UNRESOLVED) return prices[ordinal];
+            if (resolving[ordinal]) return PriceSource.NO_PRICE;   // cycle
+
+            resolving[ordinal] = true;
+            boolean blacklisted = blacklist.contains(material.name());
+            int price = 0;
+            for (PriceSource source : chain) {
+                if (blacklisted && !ConfigOverrideSource.ID.equals(source.getId())) continue;
+                int resolved = source.resolve(material, this);
+                if (resolved >= 0) {
+                    price = resolved;
+                    winners[ordinal] = source.getId();
+                    break;
+                }
+            }
+            resolving[ordinal] = false;
+            prices[ordinal] = price;
+            return price;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package me.abdoabk.worth_items.pricing;
+
+import org.bukkit.Material;
+
+/**
+ * PriceSnapshot — immutable price table indexed by Material ordinal.
+ *
+ * Built on the main thread by {@link PriceService#snapshot()}, then safe to
+ * read from any thread. Lookups are a plain array read with no config access.
+ */
+public final class PriceSnapshot {
+
+    private final int[] prices;
+
+    PriceSnapshot(int[] prices) {
+        this.prices = prices;
+    }
+
+    public int getPrice(Material material) {
+        return prices[material.ordinal()];
+    }
+
+    public int getPrice(int ordinal) {
+        return prices[ordinal];
+    }
+
+    /** Number of entries — equal to Material.values().length. */
+    public int size() {
+        return prices.length;
+    }
+
+    /** Total worth of a per-ordinal material count array. */
+    public long getValue(long[] counts) {
+        long total = 0;
+        int n = Math.min(counts.length, prices.length);
+        for (int i = 0; i < n; i++) {
+            if (counts[i] != 0) total += counts[i] * prices[i];
+        }
+        return total;
+    }
+}
@@ -0,0 +1,45 @@
+package me.abdoabk.worth_items.pricing;
+
+import org.bukkit.Material;
+
+/**
+ * PriceSource — one link in the price resolution chain.
+ *
+ * {@link PriceService} asks each enabled source in priority order (highest
+ * first) and the first one that returns a price wins. Sources are only
+ * consulted while the price table is compiled (startup, /worth reload, or
+ * when a source is registered), never on the hot path — so they may do
+ * slow things such as querying another plugin.
+ *
+ * Priorities come from the {@code price-sources} section of config.yml,
+ * keyed by {@link #getId()}; a negative priority disables the source.
+ * Compilation always runs on the main thread.
+ */
+public interface PriceSource {
+
+    /** Returned by {@link #resolve} when this source has no opinion on a material. */
+    int NO_PRICE = -1;
+
+    /** Stable key used under {@code price-sources} in config.yml and shown in /worth. */
+    String getId();
+
+    /** Priority used when config.yml does not set one. Negative = disabled. */
+    int getDefaultPriority();
+
+    /** Called once at the start of every compile, before any {@link #resolve} call. */
+    default void prepare() {}
+
+    /**
+     * Returns the price of {@code material}, or {@link #NO_PRICE}.
+     *
+     * @param lookup resolves other materials through the full chain — used by
+     *               sources that derive a price from ingredients. Returns
+     *               {@link #NO_PRICE} for a material already being resolved.
+     */
+    int resolve(Material material, Lookup lookup);
+
+    @FunctionalInterface
+    interface Lookup {
+        int priceOf(Material material);
+    }
+}
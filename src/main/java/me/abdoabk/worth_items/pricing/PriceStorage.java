@@ -1,85 +1,281 @@
 package me.abdoabk.worth_items.pricing;
 
+import me.abdoabk.worth_items.pricing.storage.PriceBackend;
+import me.abdoabk.worth_items.pricing.storage.YamlPriceBackend;
 import org.bukkit.Material;
-import org.bukkit.configuration.file.FileConfiguration;
-import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
 import java.util.logging.Level;
 
 /**
- * In-memory price cache backed by prices.yml.
+ * In-memory price cache backed by a {@link PriceBackend} (prices.yml by default,
+ * or an embedded SQLite/H2 file — storage.backend in config.yml).
  *
  * NOTE: Not thread-safe — all access must occur on the main server thread.
  * (EnumMap does not support concurrent modification.)
- * Prices survive restarts because they are persisted to prices.yml on shutdown
- * and re-loaded on startup.
+ * Prices survive restarts because they are persisted through the backend and
+ * re-loaded on startup.
+ *
+ * Every backend call runs on one storage thread ("WorthItems-Storage"), in
+ * submission order, so a clear queued by reload can never land after the
+ * writes that follow it. The backend is read on that thread as soon as this
+ * is constructed; the first compile only waits if that read hasn't finished.
+ * Writes are deltas: only prices generated since the last persist are upserted.
+ *
+ * The last compiled table is also kept in price-table.bin so startup can serve
+ * prices straight away ({@link #loadSnapshot}) while the real compile is
+ * deferred to warm-up. Files are replaced atomically, so a crash mid-write
+ * keeps the old one.
  */
 public class PriceStorage {
 
+    private static final int SNAPSHOT_MAGIC = 0x57505431;   // "WPT1"
+
     private final JavaPlugin plugin;
+    private final PriceBackend backend;
+    private final ExecutorService io = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "WorthItems-Storage");
+        thread.setDaemon(true);
+        return thread;
+    });
     private final Map<Material, Integer> cache = new EnumMap<>(Material.class);
-    private File pricesFile;
-    private FileConfiguration pricesConfig;
+    private final Map<Material, Integer> dirty = new EnumMap<>(Material.class);   // not yet upserted
+    private Future<Map<Material, Integer>> loading;
+    private boolean loaded;
 
     public PriceStorage(JavaPlugin plugin) {
-        this.plugin = plugin;
-        loadFromDisk();
+        this(plugin, new YamlPriceBackend(new File(plugin.getDataFolder(), "prices.yml")));
+    }
+
+    public PriceStorage(JavaPlugin plugin, PriceBackend backend) {
+        this.plugin  = plugin;
+        this.backend = backend;
+        this.loading = io.submit(backend::loadAll);
+    }
+
+    public PriceBackend getBackend() {
+        return backend;
     }
 
     public boolean has(Material material) {
+        ensureLoaded();
         return cache.containsKey(material);
     }
 
     public int get(Material material) {
+        ensureLoaded();
         return cache.getOrDefault(material, 0);
     }
 
     public void set(Material material, int price) {
+        ensureLoaded();
         cache.put(material, price);
-        pricesConfig.set(material.name(), price);
+        dirty.put(material, price);
     }
 
-    public void saveToDisk() {
+    /** Prices held in memory, and how many of them are not persisted yet. */
+    public int getCachedCount()  { return cache.size(); }
+
+    public int getPendingCount() { return dirty.size(); }
+
+    /**
+     * Writes any unsaved prices, closes the backend and stops the storage thread,
+     * waiting up to 10 s. Called from onDisable, where blocking is expected.
+     */
+    public void close() {
+        Map<Material, Integer> changes = takeDirty();
+        io.execute(() -> {
+            try {
+                if (changes != null) backend.upsert(changes);
+                backend.close();
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.WARNING, "Could not save prices to " + backend.describe(), e);
+            }
+        });
+        io.shutdown();
         try {
-            pricesConfig.save(pricesFile);
-        } catch (IOException e) {
-            plugin.getLogger().log(Level.WARNING, "Could not save prices.yml", e);
+            if (!io.awaitTermination(10, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Price storage did not finish writing within 10 s.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
     }
 
     /**
-     * Clears the in-memory cache and deletes prices.yml.
+     * Clears the in-memory cache and the backend.
      * Prices will be regenerated (with the same seed, so identical values)
      * on the next getPrice() call.
      */
     public void clearCache() {
+        if (loading != null) loading.cancel(false);
+        loading = null;
+        loaded  = true;
         cache.clear();
-        pricesConfig = new YamlConfiguration();
-        if (pricesFile.exists()) pricesFile.delete();
+        dirty.clear();
+        io.execute(() -> {
+            try {
+                backend.clear();
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.WARNING, "Could not clear " + backend.describe(), e);
+            }
+        });
+    }
+
+    /**
+     * Copies every stored price into {@code target} (cleared first), then closes it.
+     * Unsaved prices are written to the current backend first, so nothing is lost.
+     * MUST be called on the main thread; the copy runs on the storage thread.
+     *
+     * @return a future with the number of prices copied
+     */
+    public CompletableFuture<Integer> migrateTo(PriceBackend target) {
+        Map<Material, Integer> changes = takeDirty();
+        return CompletableFuture.supplyAsync(() -> {
+            try (target) {
+                if (changes != null) backend.upsert(changes);
+                Map<Material, Integer> all = backend.loadAll();
+                target.clear();
+                target.upsert(all);
+                return all.size();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, io);
+    }
+
+    // ── Compiled table ───────────────────────────────────────────────────────
+
+    /**
+     * Upserts the prices generated since the last persist and rewrites
+     * price-table.bin, on the storage thread.
+     * The pending prices are taken here, so this MUST be called on the main thread.
+     *
+     * @param onDone receives the time the write took, in nanoseconds (may be null)
+     */
+    public void persistAsync(PriceSnapshot table, LongConsumer onDone) {
+        Map<Material, Integer> changes = takeDirty();
+        io.execute(() -> {
+            long start = System.nanoTime();
+            try {
+                if (changes != null) backend.upsert(changes);
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.WARNING, "Could not save prices to " + backend.describe(), e);
+            }
+            try {
+                replace(snapshotPath(), tmp -> writeSnapshot(tmp, table));
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.WARNING, "Could not save the price table", e);
+            }
+            if (onDone != null) onDone.accept(System.nanoTime() - start);
+        });
+    }
+
+    /**
+     * Reads the table written by the last {@link #persistAsync}, or null if there
+     * is none (first start) or it can't be read. Materials are stored by name,
+     * so a table from another server version still loads; unknown names are skipped.
+     */
+    public PriceSnapshot loadSnapshot() {
+        Path path = snapshotPath();
+        if (!Files.isRegularFile(path)) return null;
+
+        int[] prices = new int[Material.values().length];
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) return null;
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                Material material = Material.getMaterial(in.readUTF());
+                int price = in.readInt();
+                if (material != null) prices[material.ordinal()] = price;
+            }
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Ignoring unreadable price-table.bin", e);
+            return null;
+        }
+        return new PriceSnapshot(prices);
     }
 
     // ── Private ──────────────────────────────────────────────────────────────
 
-    private void loadFromDisk() {
-        pricesFile = new File(plugin.getDataFolder(), "prices.yml");
-        if (!pricesFile.exists()) {
-            pricesConfig = new YamlConfiguration();
-            return;
+    /** Waits for the read started at construction, if it is still running. */
+    private void ensureLoaded() {
+        if (loaded) return;
+        loaded = true;
+        try {
+            cache.putAll(loading.get());
+            plugin.getLogger().info("Loaded " + cache.size() + " cached prices from " + backend.describe());
+        } catch (ExecutionException e) {
+            plugin.getLogger().log(Level.WARNING, "Could not load prices from " + backend.describe()
+                    + " — generating them again", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
-        pricesConfig = YamlConfiguration.loadConfiguration(pricesFile);
-        for (String key : pricesConfig.getKeys(false)) {
-            try {
-                Material mat = Material.valueOf(key);
-                cache.put(mat, pricesConfig.getInt(key));
-            } catch (IllegalArgumentException ignored) {
-                // Unknown material name in prices.yml — skip silently.
+        loading = null;
+    }
+
+    /** Pending upserts, handed off to the storage thread; null if there are none. */
+    private Map<Material, Integer> takeDirty() {
+        if (dirty.isEmpty()) return null;
+        Map<Material, Integer> changes = new EnumMap<>(dirty);
+        dirty.clear();
+        return changes;
+    }
+
+    private Path snapshotPath() {
+        return plugin.getDataFolder().toPath().resolve("price-table.bin");
+    }
+
+    private static void writeSnapshot(Path file, PriceSnapshot table) throws IOException {
+        Material[] materials = Material.values();
+        int count = 0;
+        for (int i = 0; i < table.size(); i++) {
+            if (table.getPrice(i) != 0) count++;
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(count);
+            for (int i = 0; i < table.size(); i++) {
+                if (table.getPrice(i) == 0) continue;
+                out.writeUTF(materials[i].name());
+                out.writeInt(table.getPrice(i));
             }
         }
-        plugin.getLogger().info("Loaded " + cache.size() + " cached prices from prices.yml");
     }
-}
\ No newline at end of file
+
+    /** Writes to a sibling temp file, then moves it over {@code target}. */
+    private static void replace(Path target, FileWriter writer) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        writer.write(tmp);
+        try {
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @FunctionalInterface
+    private interface FileWriter {
+        void write(Path file) throws IOException;
+    }
+}
@@ -0,0 +1,126 @@
+package me.abdoabk.worth_items.pricing;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.Recipe;
+import org.bukkit.inventory.RecipeChoice;
+import org.bukkit.inventory.ShapedRecipe;
+import org.bukkit.inventory.ShapelessRecipe;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prices crafted items from the cost of their ingredients.
+ *
+ * For every crafting recipe that produces a material, the ingredient prices
+ * (cheapest option per slot, resolved through the full chain) are summed and
+ * divided by the result amount; the cheapest recipe wins. Recipes that loop
+ * back to the item being priced (ingot ↔ block) are ignored.
+ *
+ * Disabled by default — enable it under price-sources in config.yml.
+ */
+public class RecipeSource implements PriceSource {
+
+    public static final String ID = "recipe";
+
+    /** Ingredient slots of one recipe, each a list of acceptable materials. */
+    private record Ingredients(List<Material[]> slots, int resultAmount) {}
+
+    private final Map<Material, List<Ingredients>> recipes = new EnumMap<>(Material.class);
+
+    @Override
+    public String getId() { return ID; }
+
+    @Override
+    public int getDefaultPriority() { return -1; }
+
+    @Override
+    public void prepare() {
+        // Recipes can be added by other plugins at any time — re-index per compile.
+        recipes.clear();
+        Iterator<Recipe> iterator = Bukkit.recipeIterator();
+        while (iterator.hasNext()) {
+            Recipe recipe = iterator.next();
+            ItemStack result = recipe.getResult();
+            if (result.getType().isAir() || result.getAmount() <= 0) continue;
+
+            List<Material[]> slots = slotsOf(recipe);
+            if (slots == null || slots.isEmpty()) continue;
+            recipes.computeIfAbsent(result.getType(), k -> new ArrayList<>())
+                    .add(new Ingredients(slots, result.getAmount()));
+        }
+    }
+
+    @Override
+    public int resolve(Material material, Lookup lookup) {
+        List<Ingredients> candidates = recipes.get(material);
+        if (candidates == null) return NO_PRICE;
+
+        long best = Long.MAX_VALUE;
+        for (Ingredients recipe : candidates) {
+            long cost = costOf(recipe, lookup);
+            if (cost < 0) continue;
+            long each = cost == 0 ? 0 : Math.max(1, cost / recipe.resultAmount());
+            best = Math.min(best, each);
+        }
+        return best == Long.MAX_VALUE ? NO_PRICE : (int) Math.min(Integer.MAX_VALUE, best);
+    }
+
+    // ── Private helpers ──────────────────────────────────────────────────────
+
+    private static long costOf(Ingredients recipe, Lookup lookup) {
+        long cost = 0;
+        for (Material[] options : recipe.slots()) {
+            int cheapest = -1;
+            for (Material option : options) {
+                int price = lookup.priceOf(option);
+                if (price >= 0 && (cheapest < 0 || price < cheapest)) cheapest = price;
+            }
+            if (cheapest < 0) return -1;
+            cost += cheapest;
+        }
+        return cost;
+    }
+
+    /** Flattens a recipe into ingredient slots, or null for recipe types we can't price. */
+    private static List<Material[]> slotsOf(Recipe recipe) {
+        List<Material[]> slots = new ArrayList<>();
+        if (recipe instanceof ShapedRecipe shaped) {
+            Map<Character, RecipeChoice> choices = shaped.getChoiceMap();
+            for (String row : shaped.getShape()) {
+                for (char key : row.toCharArray()) {
+                    RecipeChoice choice = choices.get(key);
+                    if (choice == null) continue;
+                    Material[] options = optionsOf(choice);
+                    if (options == null) return null;
+                    slots.add(options);
+                }
+            }
+            return slots;
+        }
+        if (recipe instanceof ShapelessRecipe shapeless) {
+            for (RecipeChoice choice : shapeless.getChoiceList()) {
+                Material[] options = optionsOf(choice);
+                if (options == null) return null;
+                slots.add(options);
+            }
+            return slots;
+        }
+        return null;
+    }
+
+    private static Material[] optionsOf(RecipeChoice choice) {
+        if (choice instanceof RecipeChoice.MaterialChoice materials) {
+            return materials.getChoices().toArray(new Material[0]);
+        }
+        if (choice instanceof RecipeChoice.ExactChoice exact) {
+            return exact.getChoices().stream().map(ItemStack::getType).toArray(Material[]::new);
+        }
+        return null;
+    }
+}
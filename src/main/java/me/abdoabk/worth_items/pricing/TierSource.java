@@ -0,0 +1,86 @@
+package me.abdoabk.worth_items.pricing;
+
+import org.bukkit.Material;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.Random;
+
+/**
+ * Tier-based seeded generation — the fallback that prices everything.
+ *
+ * Generated prices are cached in {@link PriceStorage} and persisted through
+ * its backend (prices.yml by default), so they stay stable across restarts.
+ *
+ * FIX: Random is seeded per-material so prices are stable across reload cycles.
+ */
+public class TierSource implements PriceSource {
+
+    public static final String ID = "tier";
+
+    private final JavaPlugin plugin;
+    private final PriceStorage storage;
+    private final TierResolver tierResolver;
+
+    public TierSource(JavaPlugin plugin, PriceStorage storage, TierResolver tierResolver) {
+        this.plugin       = plugin;
+        this.storage      = storage;
+        this.tierResolver = tierResolver;
+    }
+
+    @Override
+    public String getId() { return ID; }
+
+    @Override
+    public int getDefaultPriority() { return 0; }
+
+    @Override
+    public int resolve(Material material, Lookup lookup) {
+        if (storage.has(material)) return storage.get(material);
+
+        int price = generatePrice(material);
+        storage.set(material, price);
+        return price;
+    }
+
+    // ── Private helpers ──────────────────────────────────────────────────────
+
+    private int generatePrice(Material material) {
+        Tier tier    = tierResolver.resolve(material);
+        String key   = tier.name().toLowerCase();
+
+        int min = plugin.getConfig().getInt("tiers." + key + ".min", defaultMin(tier));
+        int max = plugin.getConfig().getInt("tiers." + key + ".max", defaultMax(tier));
+
+        if (min >= max) return min;
+
+        // FIX: Seed the RNG with (configSeed XOR material ordinal) so that:
+        //  - Prices are stable between reloads for the same seed.
+        //  - Different materials always get different values.
+        //  - Server admins can change "price-seed" to shuffle all prices intentionally.
+        long seed = plugin.getConfig().getLong("price-seed", 0xDEADBEEFL) ^ material.ordinal();
+        int range = max - min + 1;
+        return min + (int) (new Random(seed).nextInt(range));
+    }
+
+    private int defaultMin(Tier tier) {
+        return switch (tier) {
+            case JUNK      -> 0;
+            case COMMON    -> 5;
+            case UNCOMMON  -> 15;
+            case RARE      -> 40;
+            case EPIC      -> 120;
+            case LEGENDARY -> 400;
+        };
+    }
+
+    private int defaultMax(Tier tier) {
+        return switch (tier) {
+            case JUNK      -> 5;
+            case COMMON    -> 15;
+            case UNCOMMON  -> 40;
+            case RARE      -> 120;
+            case EPIC      -> 400;
+            case LEGENDARY -> 3000;
+        };
+    }
+}
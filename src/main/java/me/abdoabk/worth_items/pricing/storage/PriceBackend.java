@@ -0,0 +1,38 @@
+package me.abdoabk.worth_items.pricing.storage;
+
+import org.bukkit.Material;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * PriceBackend — where {@link me.abdoabk.worth_items.pricing.PriceStorage}
+ * persists generated prices.
+ *
+ * Every method blocks on I/O. PriceStorage only calls them from its own
+ * storage thread, one at a time, so implementations need no locking and
+ * never run on the main thread.
+ *
+ * Built-in backends: yaml (prices.yml, the default), sqlite and h2 — see
+ * {@link PriceBackends}.
+ */
+public interface PriceBackend extends AutoCloseable {
+
+    /** Id used in config.yml (storage.backend) and /worth storage. */
+    String getId();
+
+    /** Human-readable location, e.g. the file name. */
+    String describe();
+
+    /** Every stored price. Names no longer known to this server version are skipped. */
+    Map<Material, Integer> loadAll() throws IOException;
+
+    /** Inserts or replaces each entry, in as few round trips as the backend allows. */
+    void upsert(Map<Material, Integer> prices) throws IOException;
+
+    /** Removes every stored price. */
+    void clear() throws IOException;
+
+    @Override
+    void close() throws IOException;
+}
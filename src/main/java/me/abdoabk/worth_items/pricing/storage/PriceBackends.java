@@ -0,0 +1,29 @@
+package me.abdoabk.worth_items.pricing.storage;
+
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * Creates the built-in {@link PriceBackend}s by their config.yml id.
+ */
+public final class PriceBackends {
+
+    /** Ids accepted by storage.backend and /worth storage migrate. */
+    public static final List<String> IDS = List.of(
+            YamlPriceBackend.ID, SqlPriceBackend.Dialect.SQLITE.id(), SqlPriceBackend.Dialect.H2.id());
+
+    private PriceBackends() {}
+
+    /** The backend with this id, or null if the id is unknown. Nothing is opened yet. */
+    public static PriceBackend create(String id, JavaPlugin plugin, int batchSize) {
+        File dataFolder = plugin.getDataFolder();
+        return switch (id.toLowerCase()) {
+            case YamlPriceBackend.ID -> new YamlPriceBackend(new File(dataFolder, "prices.yml"));
+            case "sqlite"            -> new SqlPriceBackend(SqlPriceBackend.Dialect.SQLITE, dataFolder, batchSize);
+            case "h2"                -> new SqlPriceBackend(SqlPriceBackend.Dialect.H2, dataFolder, batchSize);
+            default                  -> null;
+        };
+    }
+}
@@ -0,0 +1,189 @@
+package me.abdoabk.worth_items.pricing.storage;
+
+import org.bukkit.Material;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * SqlPriceBackend — prices in an embedded database file, one row per material:
+ *
+ *   worth_prices(material VARCHAR(64) PRIMARY KEY, price INT, updated_at BIGINT)
+ *
+ * updated_at is epoch millis, so external readers (a web panel) can poll for
+ * changes. Upserts go through one prepared statement, sent in batches of
+ * {@code batchSize} inside a single transaction.
+ *
+ * The file is opened so other processes can read it while the server runs:
+ * SQLite in WAL mode, H2 with AUTO_SERVER. Drivers are not shaded — plugin.yml
+ * lists them under libraries and the server downloads them on first start.
+ */
+public final class SqlPriceBackend implements PriceBackend {
+
+    public enum Dialect {
+        SQLITE("sqlite", "org.sqlite.JDBC", "prices.db",
+                "INSERT INTO worth_prices (material, price, updated_at) VALUES (?, ?, ?)"
+                        + " ON CONFLICT (material) DO UPDATE SET price = excluded.price, updated_at = excluded.updated_at"),
+        H2("h2", "org.h2.Driver", "prices.mv.db",
+                "MERGE INTO worth_prices (material, price, updated_at) KEY (material) VALUES (?, ?, ?)");
+
+        private final String id;
+        private final String driver;
+        private final String fileName;
+        private final String upsert;
+
+        Dialect(String id, String driver, String fileName, String upsert) {
+            this.id       = id;
+            this.driver   = driver;
+            this.fileName = fileName;
+            this.upsert   = upsert;
+        }
+
+        public String id() { return id; }
+
+        public String fileName() { return fileName; }
+
+        String url(File dataFolder) {
+            File file = new File(dataFolder, fileName).getAbsoluteFile();
+            return switch (this) {
+                case SQLITE -> "jdbc:sqlite:" + file.getPath();
+                // H2 appends .mv.db itself.
+                case H2     -> "jdbc:h2:file:" + file.getPath().substring(0, file.getPath().length() - 6)
+                               + ";AUTO_SERVER=TRUE";
+            };
+        }
+    }
+
+    private static final String CREATE =
+            "CREATE TABLE IF NOT EXISTS worth_prices ("
+                    + "material VARCHAR(64) NOT NULL PRIMARY KEY, "
+                    + "price INT NOT NULL, "
+                    + "updated_at BIGINT NOT NULL)";
+
+    private final Dialect dialect;
+    private final File dataFolder;
+    private final int batchSize;
+    private Connection connection;
+
+    public SqlPriceBackend(Dialect dialect, File dataFolder, int batchSize) {
+        this.dialect    = dialect;
+        this.dataFolder = dataFolder;
+        this.batchSize  = Math.max(1, batchSize);
+    }
+
+    @Override
+    public String getId() { return dialect.id(); }
+
+    @Override
+    public String describe() { return dialect.fileName(); }
+
+    @Override
+    public Map<Material, Integer> loadAll() throws IOException {
+        Map<Material, Integer> prices = new EnumMap<>(Material.class);
+        try (Statement statement = connection().createStatement();
+             ResultSet rows = statement.executeQuery("SELECT material, price FROM worth_prices")) {
+            while (rows.next()) {
+                Material material = Material.getMaterial(rows.getString(1));
+                if (material != null) prices.put(material, rows.getInt(2));
+            }
+        } catch (SQLException e) {
+            throw new IOException("Could not read prices from " + dialect.fileName(), e);
+        }
+        return prices;
+    }
+
+    @Override
+    public void upsert(Map<Material, Integer> prices) throws IOException {
+        if (prices.isEmpty()) return;
+        Connection db = connection();
+        long now = System.currentTimeMillis();
+        try (PreparedStatement statement = db.prepareStatement(dialect.upsert)) {
+            int pending = 0;
+            for (Map.Entry<Material, Integer> entry : prices.entrySet()) {
+                statement.setString(1, entry.getKey().name());
+                statement.setInt(2, entry.getValue());
+                statement.setLong(3, now);
+                statement.addBatch();
+                if (++pending == batchSize) {
+                    statement.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) statement.executeBatch();
+            db.commit();
+        } catch (SQLException e) {
+            rollback(db);
+            throw new IOException("Could not write prices to " + dialect.fileName(), e);
+        }
+    }
+
+    @Override
+    public void clear() throws IOException {
+        Connection db = connection();
+        try (Statement statement = db.createStatement()) {
+            statement.executeUpdate("DELETE FROM worth_prices");
+            db.commit();
+        } catch (SQLException e) {
+            rollback(db);
+            throw new IOException("Could not clear " + dialect.fileName(), e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (connection == null) return;
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new IOException("Could not close " + dialect.fileName(), e);
+        } finally {
+            connection = null;
+        }
+    }
+
+    // ── Private ──────────────────────────────────────────────────────────────
+
+    /** Opened on first use, on the storage thread, and kept for the backend's lifetime. */
+    private Connection connection() throws IOException {
+        if (connection != null) return connection;
+
+        Driver driver;
+        try {
+            driver = (Driver) Class.forName(dialect.driver).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new IOException("JDBC driver " + dialect.driver + " is not available"
+                    + " (it is normally downloaded from plugin.yml libraries)", e);
+        }
+
+        try {
+            dataFolder.mkdirs();
+            Connection db = driver.connect(dialect.url(dataFolder), new Properties());
+            try (Statement statement = db.createStatement()) {
+                if (dialect == Dialect.SQLITE) statement.execute("PRAGMA journal_mode=WAL");
+                statement.execute(CREATE);
+            }
+            db.setAutoCommit(false);
+            connection = db;
+            return db;
+        } catch (SQLException e) {
+            throw new IOException("Could not open " + dialect.fileName(), e);
+        }
+    }
+
+    private static void rollback(Connection db) {
+        try {
+            db.rollback();
+        } catch (SQLException ignored) {
+            // The original failure is what gets reported.
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package me.abdoabk.worth_items.pricing.storage;
+
+import org.bukkit.Material;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * YamlPriceBackend — the default backend: MATERIAL: price pairs in prices.yml.
+ *
+ * The whole file is rewritten on every upsert (to a temp file, then moved over
+ * prices.yml), so a crash mid-write keeps the previous file.
+ */
+public final class YamlPriceBackend implements PriceBackend {
+
+    public static final String ID = "yaml";
+
+    private final File file;
+    private YamlConfiguration yaml;
+
+    public YamlPriceBackend(File file) {
+        this.file = file;
+    }
+
+    @Override
+    public String getId() { return ID; }
+
+    @Override
+    public String describe() { return file.getName(); }
+
+    @Override
+    public Map<Material, Integer> loadAll() throws IOException {
+        Map<Material, Integer> prices = new EnumMap<>(Material.class);
+        for (String key : yaml().getKeys(false)) {
+            Material material = Material.getMaterial(key);
+            if (material != null) prices.put(material, yaml.getInt(key));   // unknown names: skip silently
+        }
+        return prices;
+    }
+
+    @Override
+    public void upsert(Map<Material, Integer> prices) throws IOException {
+        YamlConfiguration target = yaml();
+        prices.forEach((material, price) -> target.set(material.name(), price));
+        save(target);
+    }
+
+    @Override
+    public void clear() throws IOException {
+        yaml = new YamlConfiguration();
+        Files.deleteIfExists(file.toPath());
+    }
+
+    @Override
+    public void close() {
+        yaml = null;
+    }
+
+    private YamlConfiguration yaml() throws IOException {
+        if (yaml != null) return yaml;
+        YamlConfiguration loaded = new YamlConfiguration();
+        if (file.exists()) {
+            try {
+                loaded.load(file);
+            } catch (InvalidConfigurationException e) {
+                throw new IOException("prices.yml is not valid YAML", e);
+            }
+        }
+        yaml = loaded;
+        return loaded;
+    }
+
+    private void save(YamlConfiguration target) throws IOException {
+        Path path = file.toPath();
+        Files.createDirectories(path.getParent());
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        target.save(tmp.toFile());
+        try {
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package me.abdoabk.worth_items.scan;
+
+import me.abdoabk.worth_items.pricing.ContainerValuator;
+import me.abdoabk.worth_items.pricing.PriceSnapshot;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Container;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AreaValuationJob — values every placed block (and optionally container
+ * contents) in a square around a location, off the main thread.
+ *
+ * On the main thread, {@link #start} only takes ChunkSnapshots of the loaded
+ * chunks in range and, if asked, copies container inventories. Worker threads
+ * then walk the snapshots and count blocks into one primitive per-ordinal
+ * counter array per thread; the arrays are merged once at the end.
+ * Unloaded chunks are skipped rather than loaded.
+ */
+public final class AreaValuationJob {
+
+    public record Result(long totalValue, long blockValue, long containerValue,
+                         long[] counts, int chunksScanned, int chunksSkipped) {}
+
+    private record ChunkWork(ChunkSnapshot snapshot, int minX, int maxX, int minZ, int maxZ,
+                             List<ItemStack[]> containers) {}
+
+    private final PriceSnapshot prices;
+    private final int minY;
+    private final int maxY;
+    private final ExecutorService workers;
+    private final ConcurrentLinkedQueue<long[]> threadCounts = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<long[]> counts;
+
+    private final CompletableFuture<Result> result = new CompletableFuture<>();
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final LongAdder blockValue     = new LongAdder();
+    private final LongAdder containerValue = new LongAdder();
+    private int total;
+    private int skipped;
+
+    private AreaValuationJob(PriceSnapshot prices, World world, int threads) {
+        this.prices = prices;
+        this.minY   = world.getMinHeight();
+        this.maxY   = world.getMaxHeight();
+        this.counts = ThreadLocal.withInitial(() -> {
+            long[] array = new long[prices.size()];
+            threadCounts.add(array);
+            return array;
+        });
+
+        AtomicInteger threadIds = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "WorthItems-Area-" + threadIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Snapshots the loaded chunks within {@code radius} blocks of {@code center}
+     * and schedules the count. MUST be called on the main thread.
+     */
+    public static AreaValuationJob start(Location center, int radius, boolean includeContainers,
+                                         PriceSnapshot prices, int threads) {
+        World world = center.getWorld();
+        AreaValuationJob job = new AreaValuationJob(prices, world, Math.max(1, threads));
+
+        int minX = center.getBlockX() - radius, maxX = center.getBlockX() + radius;
+        int minZ = center.getBlockZ() - radius, maxZ = center.getBlockZ() + radius;
+
+        List<ChunkWork> work = new ArrayList<>();
+        for (int cx = minX >> 4; cx <= maxX >> 4; cx++) {
+            for (int cz = minZ >> 4; cz <= maxZ >> 4; cz++) {
+                if (!world.isChunkLoaded(cx, cz)) {
+                    job.skipped++;
+                    continue;
+                }
+                Chunk chunk = world.getChunkAt(cx, cz);
+                int baseX = cx << 4, baseZ = cz << 4;
+
+                List<ItemStack[]> containers = List.of();
+                if (includeContainers) {
+                    containers = new ArrayList<>();
+                    for (BlockState state : chunk.getTileEntities()) {
+                        if (!(state instanceof Container container)) continue;
+                        int x = state.getX(), z = state.getZ();
+                        if (x < minX || x > maxX || z < minZ || z > maxZ) continue;
+                        containers.add(copyOf(container.getSnapshotInventory().getContents()));
+                    }
+                }
+
+                work.add(new ChunkWork(chunk.getChunkSnapshot(false, false, false),
+                        Math.max(minX, baseX) - baseX, Math.min(maxX, baseX + 15) - baseX,
+                        Math.max(minZ, baseZ) - baseZ, Math.min(maxZ, baseZ + 15) - baseZ,
+                        containers));
+            }
+        }
+
+        job.total = work.size();
+        job.run(work);
+        return job;
+    }
+
+    // ── Progress & control ───────────────────────────────────────────────────
+
+    /** Completes on a worker thread once every chunk has been counted. */
+    public CompletableFuture<Result> getResult() { return result; }
+
+    public int getCompleted() { return completed.get(); }
+
+    public int getTotal() { return total; }
+
+    /** Running value of the chunks counted so far — streams up as the job progresses. */
+    public long getPartialValue() { return blockValue.sum() + containerValue.sum(); }
+
+    public boolean isDone() { return result.isDone(); }
+
+    public void cancel() {
+        if (!cancelled.compareAndSet(false, true)) return;
+        workers.shutdownNow();
+        result.completeExceptionally(new CancellationException("Area valuation cancelled"));
+    }
+
+    // ── Worker side ──────────────────────────────────────────────────────────
+
+    private void run(List<ChunkWork> work) {
+        List<CompletableFuture<Void>> tasks = new ArrayList<>(work.size());
+        for (ChunkWork chunk : work) {
+            tasks.add(CompletableFuture.runAsync(() -> count(chunk), workers));
+        }
+
+        CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).whenComplete((ignored, error) -> {
+            workers.shutdown();
+            if (cancelled.get()) return;
+            if (error != null) {
+                result.completeExceptionally(error);
+                return;
+            }
+
+            long[] merged = new long[prices.size()];
+            for (long[] partial : threadCounts) {
+                for (int i = 0; i < merged.length; i++) merged[i] += partial[i];
+            }
+            result.complete(new Result(getPartialValue(), blockValue.sum(), containerValue.sum(),
+                    merged, total, skipped));
+        });
+    }
+
+    private void count(ChunkWork work) {
+        if (cancelled.get()) return;
+        long[] local = counts.get();
+        ChunkSnapshot snapshot = work.snapshot();
+        long value = 0;
+
+        for (int x = work.minX(); x <= work.maxX(); x++) {
+            for (int z = work.minZ(); z <= work.maxZ(); z++) {
+                for (int y = minY; y < maxY; y++) {
+                    int ordinal = snapshot.getBlockType(x, y, z).ordinal();
+                    local[ordinal]++;
+                    value += prices.getPrice(ordinal);
+                }
+            }
+        }
+        blockValue.add(value);
+
+        long stored = 0;
+        for (ItemStack[] contents : work.containers()) {
+            for (ItemStack item : contents) {
+                if (item == null || item.getType().isAir()) continue;
+                long amount = item.getAmount();
+                local[item.getType().ordinal()] += amount;
+                stored += amount * prices.getPrice(item.getType());
+                stored += ContainerValuator.decodeInto(item, amount, 0, local, prices);
+            }
+        }
+        containerValue.add(stored);
+        completed.incrementAndGet();
+    }
+
+    private static ItemStack[] copyOf(ItemStack[] contents) {
+        ItemStack[] copy = new ItemStack[contents.length];
+        for (int i = 0; i < contents.length; i++) {
+            copy[i] = contents[i] == null ? null : contents[i].clone();
+        }
+        return copy;
+    }
+}
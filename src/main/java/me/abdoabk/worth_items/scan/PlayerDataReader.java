@@ -0,0 +1,303 @@
+package me.abdoabk.worth_items.scan;
+
+import me.abdoabk.worth_items.pricing.ContainerValuator;
+import org.bukkit.Material;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * PlayerDataReader — streaming reader for world/playerdata/*.dat files.
+ *
+ * Walks the gzipped NBT once and only decodes what valuation needs: the
+ * Inventory and EnderItems lists, each item's id and count, and nested
+ * container contents. Every other tag is skipped by length without being
+ * materialised, so reading a player costs little more than inflating the file.
+ *
+ * Understands both the 1.20.5+ item format (count + components) and the
+ * older one (Count + tag.BlockEntityTag.Items) for files of players who have
+ * not logged in since the upgrade.
+ *
+ * Container contents are tallied into per-thread scratch arrays, one per
+ * nesting level, reused across items and files. Only the entries an item
+ * touched are cleared afterwards, so a shulker costs its own contents rather
+ * than a fresh array of every Material.
+ *
+ * Thread-safe: holds an immutable id → Material map and per-thread scratch.
+ */
+public final class PlayerDataReader {
+
+    private static final byte TAG_END        = 0;
+    private static final byte TAG_BYTE       = 1;
+    private static final byte TAG_SHORT      = 2;
+    private static final byte TAG_INT        = 3;
+    private static final byte TAG_LONG       = 4;
+    private static final byte TAG_FLOAT      = 5;
+    private static final byte TAG_DOUBLE     = 6;
+    private static final byte TAG_BYTE_ARRAY = 7;
+    private static final byte TAG_STRING     = 8;
+    private static final byte TAG_LIST       = 9;
+    private static final byte TAG_COMPOUND   = 10;
+    private static final byte TAG_INT_ARRAY  = 11;
+    private static final byte TAG_LONG_ARRAY = 12;
+
+    private final Map<String, Material> materialsById;
+    private final ThreadLocal<Tally[]> scratch;
+
+    /** MUST be constructed on the main thread — reads Material keys. */
+    public PlayerDataReader() {
+        Material[] materials = Material.values();
+        Map<String, Material> byId = new HashMap<>(materials.length * 2);
+        for (Material material : materials) {
+            if (material.isLegacy() || !material.isItem() || material.isAir()) continue;
+            byId.put(material.getKey().toString(), material);
+        }
+        this.materialsById = byId;
+        int materialCount = materials.length;
+        this.scratch = ThreadLocal.withInitial(() -> {
+            Tally[] levels = new Tally[ContainerValuator.MAX_DEPTH];
+            for (int i = 0; i < levels.length; i++) levels[i] = new Tally(materialCount);
+            return levels;
+        });
+    }
+
+    /**
+     * Adds every item in the player's inventory and ender chest — including
+     * container contents — to {@code counts}, indexed by Material ordinal.
+     */
+    public void readInto(Path file, long[] counts) throws IOException {
+        for (Tally level : scratch.get()) level.clear();    // a previous file may have failed mid-item
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(file)), 16 * 1024))) {
+
+            if (in.readByte() != TAG_COMPOUND) {
+                throw new IOException("Not an NBT compound: " + file.getFileName());
+            }
+            in.skipNBytes(in.readUnsignedShort());    // root name
+
+            byte type;
+            while ((type = in.readByte()) != TAG_END) {
+                String name = in.readUTF();
+                if (type == TAG_LIST && (name.equals("Inventory") || name.equals("EnderItems"))) {
+                    readItemList(in, 0, Tally.wrap(counts));
+                } else {
+                    skip(in, type);
+                }
+            }
+        }
+    }
+
+    // ── Items ────────────────────────────────────────────────────────────────
+
+    private void readItemList(DataInputStream in, int depth, Tally counts) throws IOException {
+        byte elementType = in.readByte();
+        int length = in.readInt();
+        for (int i = 0; i < length; i++) {
+            if (elementType == TAG_COMPOUND) readItem(in, depth, counts);
+            else skip(in, elementType);
+        }
+    }
+
+    /** Reads one item compound and adds it, scaled by its count, to counts. */
+    private void readItem(DataInputStream in, int depth, Tally counts) throws IOException {
+        Material material = null;
+        long count = 1;
+        Tally nested = null;    // contents of this item, per single item
+
+        byte type;
+        while ((type = in.readByte()) != TAG_END) {
+            String name = in.readUTF();
+            switch (name) {
+                case "id" -> {
+                    if (type == TAG_STRING) material = materialsById.get(in.readUTF());
+                    else skip(in, type);
+                }
+                case "count", "Count" -> count = readNumber(in, type);
+                case "components" -> {
+                    if (type == TAG_COMPOUND && depth < ContainerValuator.MAX_DEPTH) {
+                        if (nested == null) nested = scratch.get()[depth];
+                        readComponents(in, depth, nested);
+                    } else {
+                        skip(in, type);
+                    }
+                }
+                case "tag" -> {
+                    if (type == TAG_COMPOUND && depth < ContainerValuator.MAX_DEPTH) {
+                        if (nested == null) nested = scratch.get()[depth];
+                        readLegacyTag(in, depth, nested);
+                    } else {
+                        skip(in, type);
+                    }
+                }
+                default -> skip(in, type);
+            }
+        }
+
+        if (material != null) counts.add(material.ordinal(), count);
+        if (nested != null) nested.drainInto(counts, count);
+    }
+
+    /** 1.20.5+: components."minecraft:container" and components."minecraft:bundle_contents". */
+    private void readComponents(DataInputStream in, int depth, Tally nested) throws IOException {
+        byte type;
+        while ((type = in.readByte()) != TAG_END) {
+            String name = in.readUTF();
+            if (type == TAG_LIST && name.equals("minecraft:container")) {
+                byte elementType = in.readByte();
+                int length = in.readInt();
+                for (int i = 0; i < length; i++) {
+                    if (elementType == TAG_COMPOUND) readSlotEntry(in, depth, nested);
+                    else skip(in, elementType);
+                }
+            } else if (type == TAG_LIST && name.equals("minecraft:bundle_contents")) {
+                readItemList(in, depth + 1, nested);
+            } else {
+                skip(in, type);
+            }
+        }
+    }
+
+    /** One entry of minecraft:container — { slot: int, item: {...} }. */
+    private void readSlotEntry(DataInputStream in, int depth, Tally nested) throws IOException {
+        byte type;
+        while ((type = in.readByte()) != TAG_END) {
+            String name = in.readUTF();
+            if (type == TAG_COMPOUND && name.equals("item")) readItem(in, depth + 1, nested);
+            else skip(in, type);
+        }
+    }
+
+    /** Pre-1.20.5: tag.BlockEntityTag.Items. */
+    private void readLegacyTag(DataInputStream in, int depth, Tally nested) throws IOException {
+        byte type;
+        while ((type = in.readByte()) != TAG_END) {
+            String name = in.readUTF();
+            if (type == TAG_COMPOUND && name.equals("BlockEntityTag")) {
+                byte inner;
+                while ((inner = in.readByte()) != TAG_END) {
+                    String innerName = in.readUTF();
+                    if (inner == TAG_LIST && innerName.equals("Items")) readItemList(in, depth + 1, nested);
+                    else skip(in, inner);
+                }
+            } else {
+                skip(in, type);
+            }
+        }
+    }
+
+    // ── Tally ────────────────────────────────────────────────────────────────
+
+    /**
+     * Per-ordinal counts plus the ordinals that went non-zero, so a drain
+     * visits only those. The top level wraps the caller's array untracked.
+     */
+    private static final class Tally {
+        private final long[] counts;
+        private int[] touched;
+        private int size;
+
+        Tally(int materialCount) {
+            this.counts  = new long[materialCount];
+            this.touched = new int[16];
+        }
+
+        private Tally(long[] counts) {
+            this.counts = counts;
+        }
+
+        static Tally wrap(long[] counts) {
+            return new Tally(counts);
+        }
+
+        void add(int ordinal, long amount) {
+            if (touched != null && counts[ordinal] == 0) {
+                if (size == touched.length) touched = Arrays.copyOf(touched, size * 2);
+                touched[size++] = ordinal;
+            }
+            counts[ordinal] += amount;
+        }
+
+        /** Adds every count, times {@code scale}, to {@code target} and clears this tally. */
+        void drainInto(Tally target, long scale) {
+            for (int i = 0; i < size; i++) {
+                int ordinal = touched[i];
+                long amount = counts[ordinal];
+                if (amount != 0) {
+                    target.add(ordinal, amount * scale);
+                    counts[ordinal] = 0;
+                }
+            }
+            size = 0;
+        }
+
+        void clear() {
+            for (int i = 0; i < size; i++) counts[touched[i]] = 0;
+            size = 0;
+        }
+    }
+
+    // ── Primitives ───────────────────────────────────────────────────────────
+
+    private static long readNumber(DataInputStream in, byte type) throws IOException {
+        return switch (type) {
+            case TAG_BYTE  -> in.readByte();
+            case TAG_SHORT -> in.readShort();
+            case TAG_INT   -> in.readInt();
+            case TAG_LONG  -> in.readLong();
+            default -> {
+                skip(in, type);
+                yield 1;
+            }
+        };
+    }
+
+    private static void skip(DataInputStream in, byte type) throws IOException {
+        switch (type) {
+            case TAG_END        -> { }
+            case TAG_BYTE       -> in.skipNBytes(1);
+            case TAG_SHORT      -> in.skipNBytes(2);
+            case TAG_INT, TAG_FLOAT   -> in.skipNBytes(4);
+            case TAG_LONG, TAG_DOUBLE -> in.skipNBytes(8);
+            case TAG_BYTE_ARRAY -> in.skipNBytes(in.readInt());
+            case TAG_STRING     -> in.skipNBytes(in.readUnsignedShort());
+            case TAG_INT_ARRAY  -> in.skipNBytes(4L * in.readInt());
+            case TAG_LONG_ARRAY -> in.skipNBytes(8L * in.readInt());
+            case TAG_LIST -> {
+                byte elementType = in.readByte();
+                int length = in.readInt();
+                int fixed = fixedSize(elementType);
+                if (fixed >= 0) {
+                    in.skipNBytes((long) fixed * length);
+                } else {
+                    for (int i = 0; i < length; i++) skip(in, elementType);
+                }
+            }
+            case TAG_COMPOUND -> {
+                byte inner;
+                while ((inner = in.readByte()) != TAG_END) {
+                    in.skipNBytes(in.readUnsignedShort());
+                    skip(in, inner);
+                }
+            }
+            default -> throw new IOException("Unknown NBT tag type " + type);
+        }
+    }
+
+    private static int fixedSize(byte type) {
+        return switch (type) {
+            case TAG_END             -> 0;
+            case TAG_BYTE            -> 1;
+            case TAG_SHORT           -> 2;
+            case TAG_INT, TAG_FLOAT  -> 4;
+            case TAG_LONG, TAG_DOUBLE -> 8;
+            default -> -1;
+        };
+    }
+}
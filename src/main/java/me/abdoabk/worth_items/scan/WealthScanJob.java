@@ -0,0 +1,204 @@
+package me.abdoabk.worth_items.scan;
+
+import me.abdoabk.worth_items.pricing.ContainerValuator;
+import me.abdoabk.worth_items.pricing.PriceSnapshot;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+/**
+ * WealthScanJob — values every player's items, online and offline, off the main thread.
+ *
+ * On the main thread, {@link #start} only copies online inventories and ender
+ * chests and takes a {@link PriceSnapshot}. Everything else — listing
+ * playerdata/, parsing .dat files with {@link PlayerDataReader}, opening
+ * containers and summing values — runs on a private worker pool.
+ *
+ * Offline files belonging to online players are skipped: the live inventory wins.
+ */
+public final class WealthScanJob {
+
+    public record Entry(UUID uuid, long value, boolean online) {}
+
+    private record OnlineSnapshot(UUID uuid, ItemStack[] items) {}
+
+    private final JavaPlugin plugin;
+    private final PriceSnapshot prices;
+    private final PlayerDataReader reader;
+    private final ExecutorService workers;
+    private final ThreadLocal<long[]> countBuffers;
+
+    private final ConcurrentLinkedQueue<Entry> entries = new ConcurrentLinkedQueue<>();
+    private final CompletableFuture<List<Entry>> result = new CompletableFuture<>();
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger failed    = new AtomicInteger();
+    private volatile int total = -1;
+    private final long startedAt = System.currentTimeMillis();
+
+    private WealthScanJob(JavaPlugin plugin, PriceSnapshot prices, int threads) {
+        this.plugin  = plugin;
+        this.prices  = prices;
+        this.reader  = new PlayerDataReader();
+        this.countBuffers = ThreadLocal.withInitial(() -> new long[prices.size()]);
+
+        AtomicInteger threadIds = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "WorthItems-Scan-" + threadIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Snapshots online players and schedules the scan.
+     * MUST be called on the main thread; returns as soon as the copies are taken.
+     */
+    public static WealthScanJob start(JavaPlugin plugin, PriceSnapshot prices, int threads) {
+        WealthScanJob job = new WealthScanJob(plugin, prices, Math.max(1, threads));
+
+        List<OnlineSnapshot> online = new ArrayList<>();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            ItemStack[] inventory = player.getInventory().getContents();
+            ItemStack[] enderChest = player.getEnderChest().getContents();
+            ItemStack[] copy = new ItemStack[inventory.length + enderChest.length];
+            for (int i = 0; i < inventory.length; i++) {
+                copy[i] = inventory[i] == null ? null : inventory[i].clone();
+            }
+            for (int i = 0; i < enderChest.length; i++) {
+                copy[inventory.length + i] = enderChest[i] == null ? null : enderChest[i].clone();
+            }
+            online.add(new OnlineSnapshot(player.getUniqueId(), copy));
+        }
+
+        Path playerData = Bukkit.getWorlds().get(0).getWorldFolder().toPath().resolve("playerdata");
+        job.workers.execute(() -> job.run(online, playerData));
+        return job;
+    }
+
+    // ── Progress & control ───────────────────────────────────────────────────
+
+    /** Completes with entries ranked by value, highest first. */
+    public CompletableFuture<List<Entry>> getResult() { return result; }
+
+    public int getCompleted() { return completed.get(); }
+
+    /** Total players to scan, or -1 while playerdata/ is still being listed. */
+    public int getTotal() { return total; }
+
+    public int getFailed() { return failed.get(); }
+
+    public long getElapsedMillis() { return System.currentTimeMillis() - startedAt; }
+
+    public boolean isDone() { return result.isDone(); }
+
+    public void cancel() {
+        if (!cancelled.compareAndSet(false, true)) return;
+        workers.shutdownNow();
+        result.completeExceptionally(new CancellationException("Wealth scan cancelled"));
+    }
+
+    // ── Worker side ──────────────────────────────────────────────────────────
+
+    private void run(List<OnlineSnapshot> online, Path playerData) {
+        try {
+            Set<UUID> onlineIds = new HashSet<>();
+            for (OnlineSnapshot snapshot : online) onlineIds.add(snapshot.uuid());
+
+            List<Path> files = new ArrayList<>();
+            if (Files.isDirectory(playerData)) {
+                try (DirectoryStream<Path> stream = Files.newDirectoryStream(playerData, "*.dat")) {
+                    for (Path file : stream) {
+                        UUID uuid = uuidOf(file);
+                        if (uuid != null && !onlineIds.contains(uuid)) files.add(file);
+                    }
+                }
+            }
+            total = online.size() + files.size();
+
+            List<CompletableFuture<Void>> tasks = new ArrayList<>(total);
+            for (OnlineSnapshot snapshot : online) {
+                tasks.add(CompletableFuture.runAsync(() -> valueOnline(snapshot), workers));
+            }
+            for (Path file : files) {
+                tasks.add(CompletableFuture.runAsync(() -> valueOffline(file), workers));
+            }
+
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).whenComplete((ignored, error) -> {
+                workers.shutdown();
+                if (cancelled.get()) return;
+                if (error != null) {
+                    result.completeExceptionally(error);
+                    return;
+                }
+                List<Entry> ranked = new ArrayList<>(entries);
+                ranked.sort(Comparator.comparingLong(Entry::value).reversed());
+                result.complete(ranked);
+            });
+        } catch (Exception e) {
+            workers.shutdown();
+            if (!cancelled.get()) result.completeExceptionally(e);
+        }
+    }
+
+    private void valueOnline(OnlineSnapshot snapshot) {
+        if (cancelled.get()) return;
+        long[] counts = clearedBuffer();
+        for (ItemStack item : snapshot.items()) {
+            if (item == null || item.getType().isAir()) continue;
+            counts[item.getType().ordinal()] += item.getAmount();
+            ContainerValuator.decodeInto(item, item.getAmount(), 0, counts, prices);
+        }
+        entries.add(new Entry(snapshot.uuid(), prices.getValue(counts), true));
+        completed.incrementAndGet();
+    }
+
+    private void valueOffline(Path file) {
+        if (cancelled.get()) return;
+        long[] counts = clearedBuffer();
+        try {
+            reader.readInto(file, counts);
+            entries.add(new Entry(uuidOf(file), prices.getValue(counts), false));
+        } catch (IOException | RuntimeException e) {
+            failed.incrementAndGet();
+            plugin.getLogger().log(Level.FINE, "WealthScan: could not read " + file.getFileName(), e);
+        }
+        completed.incrementAndGet();
+    }
+
+    private long[] clearedBuffer() {
+        long[] counts = countBuffers.get();
+        Arrays.fill(counts, 0L);
+        return counts;
+    }
+
+    private static UUID uuidOf(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return UUID.fromString(name.substring(0, name.length() - ".dat".length()));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
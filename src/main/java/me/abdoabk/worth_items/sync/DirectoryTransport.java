@@ -0,0 +1,160 @@
+package me.abdoabk.worth_items.sync;
+
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * DirectoryTransport — payloads as files in a folder every shard can reach
+ * (same host, or a network mount).
+ *
+ * Each publish writes &lt;millis&gt;-&lt;sequence&gt;-&lt;node&gt;.wps (temp file, then
+ * an atomic move, so readers never see half a file) and deletes all but the
+ * newest {@code keep} files. Readers poll the folder from an async task and
+ * deliver every file newer than the last one they saw — on startup that
+ * includes the files already there, so a restarted follower catches up from
+ * the most recent full table without waiting for the next one.
+ *
+ * FIX: writes go through one writer thread, in publish order. Readers only
+ * take names newer than the last one they saw, so a delta written by a
+ * separate async task could land after its successor and never be read.
+ */
+public final class DirectoryTransport implements PriceSyncTransport {
+
+    private static final String SUFFIX = ".wps";
+
+    private final JavaPlugin plugin;
+    private final Path directory;
+    private final long pollTicks;
+    private final int keep;
+    private final String nodeId;
+
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "WorthItems-PriceSync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private BukkitTask pollTask;
+    private String lastSeen = "";        // guarded by poll()
+    private long sequence;               // main thread only
+
+    public DirectoryTransport(JavaPlugin plugin, Path directory, long pollTicks, int keep, String nodeId) {
+        this.plugin    = plugin;
+        this.directory = directory;
+        this.pollTicks = Math.max(1, pollTicks);
+        this.keep      = Math.max(2, keep);
+        this.nodeId    = nodeId.replaceAll("[^A-Za-z0-9_.-]", "_");
+    }
+
+    @Override
+    public String getId() { return "directory"; }
+
+    @Override
+    public void start(Consumer<byte[]> receiver) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Price sync: cannot create " + directory, e);
+        }
+        pollTask = plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin,
+                () -> poll(receiver), 0L, pollTicks);
+    }
+
+    @Override
+    public void publish(byte[] payload) {
+        String name = String.format("%013d-%06d-%s", System.currentTimeMillis(), sequence++ % 1_000_000, nodeId);
+        try {
+            writer.execute(() -> write(name, payload));
+        } catch (RejectedExecutionException e) {
+            // Closed — the plugin is disabling.
+        }
+    }
+
+    @Override
+    public void close() {
+        if (pollTask != null) pollTask.cancel();
+        pollTask = null;
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(5, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Price sync: pending files were not written within 5 s.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ── Private ──────────────────────────────────────────────────────────────
+
+    /** Runs on the writer thread. */
+    private void write(String name, byte[] payload) {
+        try {
+            Files.createDirectories(directory);
+            Path tmp = directory.resolve(name + ".tmp");
+            Files.write(tmp, payload);
+            try {
+                Files.move(tmp, directory.resolve(name + SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.move(tmp, directory.resolve(name + SUFFIX), StandardCopyOption.REPLACE_EXISTING);
+            }
+            prune();
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Price sync: could not write to " + directory, e);
+        }
+    }
+
+    /** Synchronized because an async timer run can overlap the previous one on a slow mount. */
+    private synchronized void poll(Consumer<byte[]> receiver) {
+        List<String> names;
+        try {
+            names = list();
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.FINE, "Price sync: could not list " + directory, e);
+            return;
+        }
+        for (String name : names) {
+            if (name.compareTo(lastSeen) <= 0) continue;
+            lastSeen = name;
+            try {
+                receiver.accept(Files.readAllBytes(directory.resolve(name)));
+            } catch (NoSuchFileException e) {
+                // Pruned between listing and reading — a newer file supersedes it.
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.WARNING, "Price sync: could not read " + name, e);
+            }
+        }
+    }
+
+    private void prune() throws IOException {
+        List<String> names = list();
+        for (int i = 0; i < names.size() - keep; i++) {
+            Files.deleteIfExists(directory.resolve(names.get(i)));
+        }
+    }
+
+    /** Payload file names, oldest first. */
+    private List<String> list() throws IOException {
+        List<String> names = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) names.add(file.getFileName().toString());
+        }
+        Collections.sort(names);
+        return names;
+    }
+}
@@ -0,0 +1,49 @@
+package me.abdoabk.worth_items.sync;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * InMemoryTransport — nodes in one JVM sharing a {@link Hub}.
+ *
+ * Delivery is synchronous, on the publishing thread, to every other started
+ * member. For tests and simulations; not selectable from config.yml.
+ */
+public final class InMemoryTransport implements PriceSyncTransport {
+
+    /** The "network": every transport created with the same hub sees the others' payloads. */
+    public static final class Hub {
+        private final List<InMemoryTransport> members = new CopyOnWriteArrayList<>();
+    }
+
+    private final Hub hub;
+    private volatile Consumer<byte[]> receiver;
+
+    public InMemoryTransport(Hub hub) {
+        this.hub = hub;
+    }
+
+    @Override
+    public String getId() { return "memory"; }
+
+    @Override
+    public void start(Consumer<byte[]> receiver) {
+        this.receiver = receiver;
+        hub.members.add(this);
+    }
+
+    @Override
+    public void publish(byte[] payload) {
+        for (InMemoryTransport member : hub.members) {
+            Consumer<byte[]> target = member.receiver;
+            if (member != this && target != null) target.accept(payload.clone());
+        }
+    }
+
+    @Override
+    public void close() {
+        hub.members.remove(this);
+        receiver = null;
+    }
+}
@@ -0,0 +1,91 @@
+package me.abdoabk.worth_items.sync;
+
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.messaging.PluginMessageListener;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * PluginMessageTransport — payloads through the proxy with the BungeeCord
+ * "Forward" message (BungeeCord, Waterfall, and Velocity with
+ * bungee-plugin-message-channel enabled), to every other server.
+ *
+ * Plugin messages ride on a player connection: a publish with nobody online
+ * is dropped, and a shard with nobody online receives nothing. Both are
+ * covered by the publisher's periodic full table.
+ */
+public final class PluginMessageTransport implements PriceSyncTransport, PluginMessageListener {
+
+    private static final String CHANNEL    = "BungeeCord";
+    private static final String SUBCHANNEL = "WorthItemsSync";
+    private static final int    MAX_PAYLOAD = Short.MAX_VALUE;
+
+    private final JavaPlugin plugin;
+    private Consumer<byte[]> receiver;
+
+    public PluginMessageTransport(JavaPlugin plugin) {
+        this.plugin = plugin;
+        plugin.getServer().getMessenger().registerOutgoingPluginChannel(plugin, CHANNEL);
+    }
+
+    @Override
+    public String getId() { return "plugin-messaging"; }
+
+    @Override
+    public void start(Consumer<byte[]> receiver) {
+        this.receiver = receiver;
+        plugin.getServer().getMessenger().registerIncomingPluginChannel(plugin, CHANNEL, this);
+    }
+
+    @Override
+    public void publish(byte[] payload) {
+        if (payload.length > MAX_PAYLOAD) {
+            plugin.getLogger().warning("Price sync: payload of " + payload.length
+                    + " bytes is too large for plugin messaging — use the directory transport.");
+            return;
+        }
+        Iterator<? extends Player> online = plugin.getServer().getOnlinePlayers().iterator();
+        if (!online.hasNext()) return;    // no connection to send through
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(payload.length + 32);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF("Forward");
+            out.writeUTF("ALL");
+            out.writeUTF(SUBCHANNEL);
+            out.writeShort(payload.length);
+            out.write(payload);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);   // in-memory stream
+        }
+        online.next().sendPluginMessage(plugin, CHANNEL, bytes.toByteArray());
+    }
+
+    @Override
+    public void onPluginMessageReceived(String channel, Player player, byte[] message) {
+        if (!CHANNEL.equals(channel) || receiver == null) return;
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(message));
+            if (!SUBCHANNEL.equals(in.readUTF())) return;
+            byte[] payload = new byte[in.readUnsignedShort()];
+            in.readFully(payload);
+            receiver.accept(payload);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.FINE, "Price sync: malformed plugin message", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        plugin.getServer().getMessenger().unregisterIncomingPluginChannel(plugin, CHANNEL, this);
+        plugin.getServer().getMessenger().unregisterOutgoingPluginChannel(plugin, CHANNEL);
+        receiver = null;
+    }
+}
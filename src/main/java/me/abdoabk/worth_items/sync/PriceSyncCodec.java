@@ -0,0 +1,138 @@
+package me.abdoabk.worth_items.sync;
+
+import me.abdoabk.worth_items.pricing.PriceDiff;
+import me.abdoabk.worth_items.pricing.PriceSnapshot;
+import org.bukkit.Material;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Binary layout of a price-sync payload.
+ *
+ * Header: int magic, byte version, byte flags (bit 0 = full table),
+ * UTF origin, long epoch, long base epoch.
+ * Body (deflated): varint count, then count × (UTF material name, varint price).
+ * Trailer: int CRC32 of everything before it.
+ *
+ * Materials travel by name, so shards on different server versions can sync;
+ * a diff of a few prices is a few dozen bytes, a full table a few KB.
+ */
+public final class PriceSyncCodec {
+
+    private static final int  MAGIC   = 0x57505331;    // "WPS1"
+    private static final byte VERSION = 1;
+    private static final int  FLAG_FULL = 1;
+
+    private static final Material[] MATERIALS = Material.values();
+
+    private PriceSyncCodec() {}
+
+    /** Only the entries that changed in {@code diff}. */
+    public static byte[] encodeDiff(String origin, long epoch, long baseEpoch, PriceDiff diff) throws IOException {
+        Map<Material, Integer> prices = new EnumMap<>(Material.class);
+        for (int i = 0; i < diff.size(); i++) prices.put(diff.getMaterial(i), diff.getNewPrice(i));
+        return encode(origin, epoch, baseEpoch, false, prices);
+    }
+
+    /** Every item in {@code table}, worthless ones included, so zero overrides sync too. */
+    public static byte[] encodeFull(String origin, long epoch, PriceSnapshot table) throws IOException {
+        Map<Material, Integer> prices = new EnumMap<>(Material.class);
+        for (int i = 0; i < table.size(); i++) {
+            Material material = MATERIALS[i];
+            if (material.isLegacy() || !material.isItem() || material.isAir()) continue;
+            prices.put(material, table.getPrice(i));
+        }
+        return encode(origin, epoch, 0, true, prices);
+    }
+
+    public static PriceSyncMessage decode(byte[] payload) throws IOException {
+        if (payload.length < 4) throw new IOException("Truncated price-sync payload");
+        CRC32 crc = new CRC32();
+        crc.update(payload, 0, payload.length - 4);
+        DataInputStream trailer = new DataInputStream(
+                new ByteArrayInputStream(payload, payload.length - 4, 4));
+        if ((int) crc.getValue() != trailer.readInt()) throw new IOException("Price-sync payload checksum mismatch");
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload, 0, payload.length - 4));
+        if (in.readInt() != MAGIC) throw new IOException("Not a price-sync payload");
+        byte version = in.readByte();
+        if (version != VERSION) throw new IOException("Unsupported price-sync version " + version);
+        boolean full   = (in.readByte() & FLAG_FULL) != 0;
+        String origin  = in.readUTF();
+        long epoch     = in.readLong();
+        long baseEpoch = in.readLong();
+
+        DataInputStream body = new DataInputStream(new InflaterInputStream(in));
+        int count = (int) readVarInt(body);
+        Map<Material, Integer> prices = new EnumMap<>(Material.class);
+        int unknown = 0;
+        for (int i = 0; i < count; i++) {
+            Material material = Material.getMaterial(body.readUTF());
+            int price = (int) readVarInt(body);
+            if (material == null) {
+                unknown++;
+            } else {
+                prices.put(material, price);
+            }
+        }
+        return new PriceSyncMessage(origin, epoch, baseEpoch, full, prices, unknown);
+    }
+
+    // ── Private ──────────────────────────────────────────────────────────────
+
+    private static byte[] encode(String origin, long epoch, long baseEpoch, boolean full,
+                                 Map<Material, Integer> prices) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + prices.size() * 8);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeByte(full ? FLAG_FULL : 0);
+        out.writeUTF(origin);
+        out.writeLong(epoch);
+        out.writeLong(baseEpoch);
+
+        DeflaterOutputStream deflater = new DeflaterOutputStream(out);
+        DataOutputStream body = new DataOutputStream(deflater);
+        writeVarInt(body, prices.size());
+        for (Map.Entry<Material, Integer> entry : prices.entrySet()) {
+            body.writeUTF(entry.getKey().name());
+            writeVarInt(body, Math.max(0, entry.getValue()));
+        }
+        body.flush();
+        deflater.finish();
+
+        CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray());
+        out.writeInt((int) crc.getValue());
+        return bytes.toByteArray();
+    }
+
+    private static void writeVarInt(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarInt(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed varint");
+    }
+}
@@ -0,0 +1,21 @@
+package me.abdoabk.worth_items.sync;
+
+import org.bukkit.Material;
+
+import java.util.Map;
+
+/**
+ * One decoded price update.
+ *
+ * A full message carries the publisher's whole table and replaces whatever a
+ * follower had. A diff carries only changed entries and applies only on top
+ * of {@code baseEpoch} — the epoch the follower must currently be at.
+ *
+ * @param origin    node id of the publisher
+ * @param epoch     strictly increasing per publisher
+ * @param baseEpoch epoch this diff was taken against (0 for a full table)
+ * @param prices    material → price; materials unknown to this server are left out
+ * @param unknown   entries skipped because this server doesn't know the material
+ */
+public record PriceSyncMessage(String origin, long epoch, long baseEpoch, boolean full,
+                               Map<Material, Integer> prices, int unknown) {}
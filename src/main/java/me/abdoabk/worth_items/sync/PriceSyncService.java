@@ -0,0 +1,172 @@
+package me.abdoabk.worth_items.sync;
+
+import me.abdoabk.worth_items.pricing.PriceChangeBus;
+import me.abdoabk.worth_items.pricing.PriceDiff;
+import me.abdoabk.worth_items.pricing.PriceService;
+import me.abdoabk.worth_items.pricing.PriceSnapshot;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.logging.Level;
+
+/**
+ * PriceSyncService — keeps every shard on one shard's prices.
+ *
+ * The publisher sends each compiled {@link PriceDiff} (delivered coalesced by
+ * the PriceChangeBus, so a reload is one message) as epoch + changed entries,
+ * plus its whole table every {@code fullIntervalTicks} so followers that missed
+ * something, or just started, catch up.
+ *
+ * Followers decode off the main thread, then on the main thread:
+ *   - reject anything from themselves, or with an epoch not newer than theirs (stale);
+ *   - apply a diff only if its base epoch is exactly theirs — otherwise a message
+ *     was missed, and they wait for the next full table;
+ *   - apply the update to {@link SyncedPriceSource} in one swap and recompile,
+ *     so the new prices go live together, in one tick, with the usual change diff.
+ *
+ * Publisher epochs start from the wall clock and only ever increase, so a
+ * restarted publisher never reuses an epoch followers have already seen.
+ */
+public final class PriceSyncService {
+
+    public enum Role { OFF, PUBLISHER, FOLLOWER }
+
+    private final JavaPlugin plugin;
+    private final PriceService priceService;
+    private final PriceSyncTransport transport;
+    private final Role role;
+    private final String nodeId;
+    private final long fullIntervalTicks;
+    private final SyncedPriceSource source = new SyncedPriceSource();
+
+    private PriceChangeBus.Subscription subscription;
+    private BukkitTask fullTask;
+    private long epoch;             // main thread only
+    private long applied;
+    private long rejected;
+
+    public PriceSyncService(JavaPlugin plugin, PriceService priceService, PriceSyncTransport transport,
+                            Role role, String nodeId, long fullIntervalTicks) {
+        this.plugin            = plugin;
+        this.priceService      = priceService;
+        this.transport         = transport;
+        this.role              = role;
+        this.nodeId            = nodeId;
+        this.fullIntervalTicks = Math.max(20, fullIntervalTicks);
+    }
+
+    /** Parses price-sync.role; unknown values mean OFF. */
+    public static Role parseRole(String value) {
+        try {
+            return Role.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return Role.OFF;
+        }
+    }
+
+    // ── Lifecycle ────────────────────────────────────────────────────────────
+
+    /** Call in onEnable, before warm-up, so a follower's first compile already includes the sync source. */
+    public void start() {
+        switch (role) {
+            case PUBLISHER -> {
+                subscription = priceService.changes().subscribe(this::publishDiff);
+                // First full table once warm-up has compiled, then periodically.
+                fullTask = plugin.getServer().getScheduler().runTaskTimer(plugin,
+                        this::publishFull, 100L, fullIntervalTicks);
+            }
+            case FOLLOWER -> {
+                priceService.registerSource(source);
+                transport.start(this::receive);
+            }
+            case OFF -> { return; }
+        }
+        plugin.getLogger().info("Price sync: " + role.name().toLowerCase(Locale.ROOT) + " '" + nodeId
+                + "' over " + transport.getId() + ".");
+    }
+
+    public void shutdown() {
+        if (subscription != null) subscription.cancel();
+        if (fullTask != null) fullTask.cancel();
+        transport.close();
+    }
+
+    public Role getRole() { return role; }
+
+    public long getEpoch() { return epoch; }
+
+    public long getApplied() { return applied; }
+
+    public long getRejected() { return rejected; }
+
+    // ── Publisher ────────────────────────────────────────────────────────────
+
+    private void publishDiff(PriceDiff diff) {
+        if (epoch == 0) return;   // followers can't apply a diff before the first full table
+        long base = epoch;
+        long next = nextEpoch();
+        try {
+            transport.publish(PriceSyncCodec.encodeDiff(nodeId, next, base, diff));
+            epoch = next;
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Price sync: could not encode a price diff", e);
+        }
+    }
+
+    private void publishFull() {
+        PriceSnapshot table = priceService.currentSnapshot();
+        if (table == null || !priceService.isWarm()) return;
+        long next = nextEpoch();
+        try {
+            transport.publish(PriceSyncCodec.encodeFull(nodeId, next, table));
+            epoch = next;
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Price sync: could not encode the price table", e);
+        }
+    }
+
+    private long nextEpoch() {
+        return Math.max(epoch + 1, System.currentTimeMillis());
+    }
+
+    // ── Follower ─────────────────────────────────────────────────────────────
+
+    /** Transport thread: decode here, apply on the main thread. */
+    private void receive(byte[] payload) {
+        PriceSyncMessage message;
+        try {
+            message = PriceSyncCodec.decode(payload);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Price sync: dropped an unreadable payload", e);
+            return;
+        }
+        if (nodeId.equals(message.origin()) || !plugin.isEnabled()) return;
+        plugin.getServer().getScheduler().runTask(plugin, () -> apply(message));
+    }
+
+    private void apply(PriceSyncMessage message) {
+        if (message.epoch() <= epoch) {
+            rejected++;
+            plugin.getLogger().fine("Price sync: stale epoch " + message.epoch() + " (at " + epoch + ")");
+            return;
+        }
+        if (!message.full() && message.baseEpoch() != epoch) {
+            rejected++;
+            plugin.getLogger().fine("Price sync: diff " + message.epoch() + " is based on " + message.baseEpoch()
+                    + ", but this shard is at " + epoch + " — waiting for the next full table");
+            return;
+        }
+
+        boolean changed = source.apply(message);
+        epoch = message.epoch();
+        applied++;
+        if (!changed) return;      // the periodic full table, nothing new
+        priceService.recompile();          // or restarts warm-up's compile so it picks this up
+
+        plugin.getLogger().info("Price sync: applied " + (message.full() ? "full table" : "diff")
+                + " epoch " + epoch + " from '" + message.origin() + "' (" + message.prices().size() + " prices"
+                + (message.unknown() > 0 ? ", " + message.unknown() + " unknown materials skipped" : "") + ")");
+    }
+}
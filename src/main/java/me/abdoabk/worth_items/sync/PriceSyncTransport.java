@@ -0,0 +1,30 @@
+package me.abdoabk.worth_items.sync;
+
+import java.util.function.Consumer;
+
+/**
+ * PriceSyncTransport — moves encoded price updates between shards.
+ *
+ * Transports carry opaque byte payloads and make no ordering or delivery
+ * promises; {@link PriceSyncService} rejects stale and out-of-order epochs
+ * itself, and the publisher periodically resends the full table, so a lost
+ * payload only delays a follower.
+ *
+ * Built in: {@link PluginMessageTransport} (through the proxy),
+ * {@link DirectoryTransport} (a shared folder) and {@link InMemoryTransport}
+ * (same JVM, for tests and simulations).
+ */
+public interface PriceSyncTransport extends AutoCloseable {
+
+    /** Id used under price-sync.transport in config.yml. */
+    String getId();
+
+    /** Starts delivering payloads published by other nodes. {@code receiver} may be called on any thread. */
+    void start(Consumer<byte[]> receiver);
+
+    /** Sends a payload to every other node. Called on the main thread; must not block. */
+    void publish(byte[] payload);
+
+    @Override
+    void close();
+}
@@ -0,0 +1,50 @@
+package me.abdoabk.worth_items.sync;
+
+import me.abdoabk.worth_items.pricing.PriceSource;
+import org.bukkit.Material;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Prices received from the publishing shard, consulted ahead of every local
+ * source on a follower. Materials the publisher never sent fall through to
+ * the local chain.
+ *
+ * Updates build a new table and swap the reference, so a compile never sees
+ * half an update. Main thread only.
+ */
+public class SyncedPriceSource implements PriceSource {
+
+    public static final String ID = "sync";
+
+    private int[] table = empty();
+
+    @Override
+    public String getId() { return ID; }
+
+    @Override
+    public int getDefaultPriority() { return 1000; }
+
+    @Override
+    public int resolve(Material material, Lookup lookup) {
+        return table[material.ordinal()];
+    }
+
+    /** Replaces the table with a full message, or patches it with a diff. Returns false if nothing changed. */
+    boolean apply(PriceSyncMessage message) {
+        int[] next = message.full() ? empty() : table.clone();
+        for (Map.Entry<Material, Integer> entry : message.prices().entrySet()) {
+            next[entry.getKey().ordinal()] = entry.getValue();
+        }
+        if (Arrays.equals(next, table)) return false;
+        table = next;
+        return true;
+    }
+
+    private static int[] empty() {
+        int[] prices = new int[Material.values().length];
+        Arrays.fill(prices, NO_PRICE);
+        return prices;
+    }
+}
@@ -0,0 +1,26 @@
+package me.abdoabk.worth_items.trace;
+
+/**
+ * Event kinds captured by {@link TraceRecorder}, one per listener entry point.
+ *
+ * The code is what goes on disk — append new kinds at the end, never reorder.
+ */
+public enum TraceEventType {
+    PICKUP,             // EntityPickupItemEvent: material/amount of the picked-up stack
+    CRAFT,              // CraftItemEvent: material/amount of the result (AIR if none)
+    CONTAINER_CLICK,    // InventoryClickEvent in a non-player inventory: slot + clicked item
+    CREATIVE_CLICK,     // InventoryClickEvent placing an item in creative: slot + cursor item
+    HELD,               // PlayerItemHeldEvent: new slot + the item in it
+    BLOCK_DROP;         // BlockDropItemEvent: one per dropped stack, slot = its index (AIR if none)
+
+    private static final TraceEventType[] BY_CODE = values();
+
+    public int code() {
+        return ordinal();
+    }
+
+    /** Returns null for codes written by a newer version. */
+    public static TraceEventType byCode(int code) {
+        return code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
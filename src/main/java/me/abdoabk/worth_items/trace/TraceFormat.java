@@ -0,0 +1,47 @@
+package me.abdoabk.worth_items.trace;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * On-disk layout of a .wtr trace, shared by {@link TraceRecorder} and {@link TraceReader}.
+ *
+ * Header: int magic, short version, long startedAt (epoch millis), UTF server version.
+ * Then tagged entries, integers as unsigned varints:
+ *   PLAYER   index, long uuidMost, long uuidLeast   — before the player's first event
+ *   MATERIAL id, UTF name                          — before the material's first event
+ *   EVENT    byte type, tickDelta, player, slot + 1, material, amount
+ *   END      total ticks, long dropped events       — only on a clean stop
+ * Materials are stored by name so a trace can be replayed on another version.
+ */
+final class TraceFormat {
+
+    static final int   MAGIC   = 0x57545231;    // "WTR1"
+    static final short VERSION = 1;
+
+    static final int TAG_END      = 0;
+    static final int TAG_PLAYER   = 1;
+    static final int TAG_MATERIAL = 2;
+    static final int TAG_EVENT    = 3;
+
+    private TraceFormat() {}
+
+    static void writeVarInt(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarInt(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed varint");
+    }
+}
@@ -0,0 +1,125 @@
+package me.abdoabk.worth_items.trace;
+
+import org.bukkit.Material;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * TraceReader — streams the events of a .wtr file written by {@link TraceRecorder}.
+ *
+ * A trace cut short by a crash simply ends at the last complete entry;
+ * {@link #isComplete()} tells whether the END marker was reached.
+ */
+public final class TraceReader implements AutoCloseable {
+
+    private final DataInputStream in;
+    private final long startedAt;
+    private final String serverVersion;
+
+    private final List<UUID> players = new ArrayList<>();
+    private final Map<Integer, Material> materials = new HashMap<>();
+    private final Map<Integer, String> unknownMaterials = new HashMap<>();
+
+    private long tick;
+    private boolean complete;
+    private boolean finished;
+    private long dropped;
+
+    public TraceReader(Path file) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 64 * 1024));
+        try {
+            if (in.readInt() != TraceFormat.MAGIC) throw new IOException("Not a WorthItems trace: " + file);
+            short version = in.readShort();
+            if (version != TraceFormat.VERSION) throw new IOException("Unsupported trace version " + version);
+            this.startedAt     = in.readLong();
+            this.serverVersion = in.readUTF();
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /** Returns the next event, or null at the end of the trace. */
+    public TraceRecord next() throws IOException {
+        while (!finished) {
+            int tag;
+            try {
+                tag = in.readUnsignedByte();
+            } catch (EOFException e) {
+                finished = true;
+                return null;
+            }
+            try {
+                switch (tag) {
+                    case TraceFormat.TAG_PLAYER -> {
+                        TraceFormat.readVarInt(in);
+                        players.add(new UUID(in.readLong(), in.readLong()));
+                    }
+                    case TraceFormat.TAG_MATERIAL -> {
+                        int id = (int) TraceFormat.readVarInt(in);
+                        String name = in.readUTF();
+                        Material material = Material.matchMaterial(name);
+                        if (material != null) materials.put(id, material);
+                        else unknownMaterials.put(id, name);
+                    }
+                    case TraceFormat.TAG_EVENT -> {
+                        TraceEventType type = TraceEventType.byCode(in.readUnsignedByte());
+                        tick += TraceFormat.readVarInt(in);
+                        int player   = (int) TraceFormat.readVarInt(in);
+                        int slot     = (int) TraceFormat.readVarInt(in) - 1;
+                        int material = (int) TraceFormat.readVarInt(in);
+                        int amount   = (int) TraceFormat.readVarInt(in);
+                        if (type == null || player >= players.size()) throw new IOException("Corrupt trace event");
+                        return new TraceRecord(tick, type, player, players.get(player), slot,
+                                materials.get(material), amount);
+                    }
+                    case TraceFormat.TAG_END -> {
+                        tick = Math.max(tick, TraceFormat.readVarInt(in));
+                        dropped  = in.readLong();
+                        complete = true;
+                        finished = true;
+                    }
+                    default -> throw new IOException("Corrupt trace: unknown tag " + tag);
+                }
+            } catch (EOFException e) {
+                finished = true;        // torn tail after a crash
+            }
+        }
+        return null;
+    }
+
+    // ── Header & summary ─────────────────────────────────────────────────────
+
+    public long getStartedAt() { return startedAt; }
+
+    public String getServerVersion() { return serverVersion; }
+
+    /** Players seen so far, indexed as in {@link TraceRecord#player()}. */
+    public List<UUID> getPlayers() { return players; }
+
+    /** Last tick read; after the END marker, the recording's full length. */
+    public long getTick() { return tick; }
+
+    public boolean isComplete() { return complete; }
+
+    /** Events the recorder had to drop because its buffer was full (known once complete). */
+    public long getDropped() { return dropped; }
+
+    /** Material names in the trace that this server version doesn't know. */
+    public Map<Integer, String> getUnknownMaterials() { return unknownMaterials; }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
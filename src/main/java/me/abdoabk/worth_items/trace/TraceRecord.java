@@ -0,0 +1,16 @@
+package me.abdoabk.worth_items.trace;
+
+import org.bukkit.Material;
+
+import java.util.UUID;
+
+/**
+ * One traced event, as read back by {@link TraceReader}.
+ *
+ * @param tick     server tick relative to the start of the recording
+ * @param player   index of the player within this trace (0, 1, 2, … in order of first appearance)
+ * @param playerId the player's UUID
+ * @param material resolved by name in the running version; null if it no longer exists
+ */
+public record TraceRecord(long tick, TraceEventType type, int player, UUID playerId,
+                          int slot, Material material, int amount) {}
@@ -0,0 +1,341 @@
+package me.abdoabk.worth_items.trace;
+
+import org.bukkit.Bukkit;
+import org.bukkit.GameMode;
+import org.bukkit.Material;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockDropItemEvent;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.inventory.CraftItemEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * TraceRecorder — opt-in capture of the events WorthItems' listeners handle.
+ *
+ * While recording, each handled event is packed into two longs (tick, player,
+ * type, slot, material, amount) and put into a fixed-size single-producer ring
+ * buffer; that is all the main thread does. A background writer drains the
+ * ring into a compact binary .wtr file ({@link TraceFormat}). If the writer
+ * falls behind and the ring fills up, events are dropped and counted rather
+ * than blocking the server.
+ *
+ * Handlers run at MONITOR and mirror the conditions of InventoryListener and
+ * BlockDropListener, so a trace holds exactly the work those listeners saw.
+ * Replay it offline with the benchmarks module's TraceReplay.
+ *
+ * NOTE: start/stop and all event handlers run on the main thread.
+ */
+public final class TraceRecorder implements Listener, AutoCloseable {
+
+    private static final Material[] MATERIALS = Material.values();
+
+    private final JavaPlugin plugin;
+    private final Logger log;
+
+    // Ring buffer: slot i holds ring[2i], ring[2i + 1]. head is written by the
+    // main thread only, tail by the writer only.
+    private long[] ring;
+    private int mask;
+    private final AtomicLong head     = new AtomicLong();
+    private final AtomicLong tail     = new AtomicLong();
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong dropped  = new AtomicLong();
+
+    // Main-thread state.
+    private final Map<UUID, Integer> playerIndex = new HashMap<>();
+    private final List<UUID> players = new CopyOnWriteArrayList<>();
+    private volatile BukkitTask ticker;  // cancelled by the writer too if it fails
+    private long maxTicks;
+    private Path file;
+
+    private volatile long tick;
+    private volatile boolean recording;
+    private volatile Thread writer;
+
+    public TraceRecorder(JavaPlugin plugin) {
+        this.plugin = plugin;
+        this.log    = plugin.getLogger();
+    }
+
+    // ── Lifecycle ────────────────────────────────────────────────────────────
+
+    /**
+     * Starts recording into {@code file}.
+     *
+     * @param bufferEvents ring capacity in events (rounded up to a power of two)
+     * @param maxTicks     stop automatically after this many ticks (0 = until stopped)
+     * @return false if a recording is already running, or is still being written after an auto-stop
+     */
+    public boolean start(Path file, int bufferEvents, long maxTicks) throws IOException {
+        if (writer != null) return false;
+
+        Files.createDirectories(file.getParent());
+        DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024));
+        out.writeInt(TraceFormat.MAGIC);
+        out.writeShort(TraceFormat.VERSION);
+        out.writeLong(System.currentTimeMillis());
+        out.writeUTF(Bukkit.getVersion());
+
+        int capacity = Integer.highestOneBit(Math.max(1024, bufferEvents - 1)) << 1;
+        this.ring     = new long[capacity * 2];
+        this.mask     = capacity - 1;
+        this.maxTicks = maxTicks;
+        this.file     = file;
+        head.set(0);
+        tail.set(0);
+        recorded.set(0);
+        dropped.set(0);
+        playerIndex.clear();
+        players.clear();
+        tick = 0;
+
+        recording = true;
+        Thread thread = new Thread(() -> writeLoop(out), "WorthItems-Trace");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+        cancelTicker();                  // never run two tick counters
+        ticker = Bukkit.getScheduler().runTaskTimer(plugin, this::onTick, 1L, 1L);
+        return true;
+    }
+
+    /** Stops recording and waits for the writer to finish the file. Returns the file, or null if idle. */
+    public Path stop() {
+        Thread thread = halt();
+        if (thread == null) return null;
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+        return file;
+    }
+
+    @Override
+    public void close() {
+        stop();
+    }
+
+    /** Ends capture and wakes the writer to drain the ring and finish the file; returns it, or null if idle. */
+    private Thread halt() {
+        Thread thread = writer;
+        if (thread == null) return null;
+        recording = false;
+        cancelTicker();
+        LockSupport.unpark(thread);
+        return thread;
+    }
+
+    /** Thread-safe: BukkitTask#cancel may be called from any thread. */
+    private void cancelTicker() {
+        BukkitTask task = ticker;
+        ticker = null;
+        if (task != null) task.cancel();
+    }
+
+    private void onTick() {
+        long next = tick + 1;
+        tick = next;
+        if (maxTicks > 0 && next >= maxTicks) {
+            // FIX: don't join here — draining a large ring to a slow disk could
+            // hold the tick for seconds. The writer clears itself when done.
+            halt();
+            log.info("Trace recording reached its time limit: " + file);
+        }
+    }
+
+    public boolean isRecording() { return recording; }
+
+    public Path getFile() { return file; }
+
+    public long getTicks() { return tick; }
+
+    public long getRecorded() { return recorded.get(); }
+
+    public long getDropped() { return dropped.get(); }
+
+    // ── Capture (main thread) ────────────────────────────────────────────────
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPickup(EntityPickupItemEvent event) {
+        if (!recording || !(event.getEntity() instanceof Player player)) return;
+        ItemStack item = event.getItem().getItemStack();
+        record(TraceEventType.PICKUP, player, -1, item.getType(), item.getAmount());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onCraft(CraftItemEvent event) {
+        if (!recording || !(event.getWhoClicked() instanceof Player player)) return;
+        ItemStack result = event.getInventory().getResult();
+        if (result == null) record(TraceEventType.CRAFT, player, -1, Material.AIR, 0);
+        else record(TraceEventType.CRAFT, player, -1, result.getType(), result.getAmount());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onClick(InventoryClickEvent event) {
+        if (!recording || !(event.getWhoClicked() instanceof Player player)) return;
+
+        if (event.getClickedInventory() != null
+                && event.getClickedInventory().getType() != InventoryType.PLAYER) {
+            ItemStack item = event.getCurrentItem();
+            if (item != null && !item.getType().isAir()) {
+                record(TraceEventType.CONTAINER_CLICK, player, event.getSlot(), item.getType(), item.getAmount());
+            }
+        }
+
+        if (player.getGameMode() == GameMode.CREATIVE) {
+            switch (event.getAction()) {
+                case PLACE_ALL, PLACE_ONE, PLACE_SOME, SWAP_WITH_CURSOR, HOTBAR_SWAP, HOTBAR_MOVE_AND_READD -> {
+                    ItemStack cursor = event.getCursor();
+                    if (cursor == null) record(TraceEventType.CREATIVE_CLICK, player, event.getSlot(), Material.AIR, 0);
+                    else record(TraceEventType.CREATIVE_CLICK, player, event.getSlot(),
+                            cursor.getType(), cursor.getAmount());
+                }
+                default -> { }
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onHeld(PlayerItemHeldEvent event) {
+        if (!recording) return;
+        Player player = event.getPlayer();
+        ItemStack item = player.getInventory().getItem(event.getNewSlot());
+        if (item == null) record(TraceEventType.HELD, player, event.getNewSlot(), Material.AIR, 0);
+        else record(TraceEventType.HELD, player, event.getNewSlot(), item.getType(), item.getAmount());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockDrop(BlockDropItemEvent event) {
+        if (!recording) return;
+        List<Item> items = event.getItems();
+        if (items.isEmpty()) {
+            record(TraceEventType.BLOCK_DROP, event.getPlayer(), 0, Material.AIR, 0);
+            return;
+        }
+        // One record per stack, slot = its index; index 0 starts the next event.
+        for (int i = 0; i < items.size(); i++) {
+            ItemStack stack = items.get(i).getItemStack();
+            record(TraceEventType.BLOCK_DROP, event.getPlayer(), i, stack.getType(), stack.getAmount());
+        }
+    }
+
+    private void record(TraceEventType type, Player player, int slot, Material material, int amount) {
+        long h = head.get();
+        if (h - tail.get() > mask) {
+            dropped.incrementAndGet();
+            return;
+        }
+
+        UUID uuid = player.getUniqueId();
+        Integer index = playerIndex.get(uuid);
+        if (index == null) {
+            index = players.size();
+            players.add(uuid);          // published to the writer by the head write below
+            playerIndex.put(uuid, index);
+        }
+
+        int i = (int) (h & mask) << 1;
+        ring[i]     = tick << 32 | index;
+        ring[i + 1] = (long) type.code() << 56
+                | ((slot + 1) & 0xFFFFL) << 40
+                | (material.ordinal() & 0xFFFFFFL) << 16
+                | (Math.min(amount, 0xFFFF) & 0xFFFFL);
+        head.lazySet(h + 1);
+        recorded.incrementAndGet();
+    }
+
+    // ── Writer thread ────────────────────────────────────────────────────────
+
+    private void writeLoop(DataOutputStream out) {
+        boolean[] materialWritten = new boolean[MATERIALS.length];
+        int playersWritten = 0;
+        long lastTick = 0;
+
+        try (out) {
+            while (recording || tail.get() < head.get()) {
+                long t = tail.get();
+                long h = head.get();
+                if (t == h) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+                    continue;
+                }
+                for (; t < h; t++) {
+                    int i = (int) (t & mask) << 1;
+                    long a = ring[i];
+                    long b = ring[i + 1];
+                    tail.lazySet(t + 1);
+
+                    long eventTick = a >>> 32;
+                    int player     = (int) a;
+                    int type       = (int) (b >>> 56);
+                    int slot       = (int) ((b >>> 40) & 0xFFFF);
+                    int material   = (int) ((b >>> 16) & 0xFFFFFF);
+                    int amount     = (int) (b & 0xFFFF);
+
+                    for (; playersWritten <= player; playersWritten++) {
+                        UUID uuid = players.get(playersWritten);
+                        out.writeByte(TraceFormat.TAG_PLAYER);
+                        TraceFormat.writeVarInt(out, playersWritten);
+                        out.writeLong(uuid.getMostSignificantBits());
+                        out.writeLong(uuid.getLeastSignificantBits());
+                    }
+                    if (!materialWritten[material]) {
+                        materialWritten[material] = true;
+                        out.writeByte(TraceFormat.TAG_MATERIAL);
+                        TraceFormat.writeVarInt(out, material);
+                        out.writeUTF(MATERIALS[material].name());
+                    }
+
+                    out.writeByte(TraceFormat.TAG_EVENT);
+                    out.writeByte(type);
+                    TraceFormat.writeVarInt(out, eventTick - lastTick);
+                    TraceFormat.writeVarInt(out, player);
+                    TraceFormat.writeVarInt(out, slot);
+                    TraceFormat.writeVarInt(out, material);
+                    TraceFormat.writeVarInt(out, amount);
+                    lastTick = eventTick;
+                }
+                out.flush();            // keep the file readable while recording
+            }
+
+            out.writeByte(TraceFormat.TAG_END);
+            TraceFormat.writeVarInt(out, tick);
+            out.writeLong(dropped.get());
+        } catch (IOException | RuntimeException e) {
+            recording = false;
+            cancelTicker();              // halt() won't, once writer is cleared below
+            log.log(Level.WARNING, "TraceRecorder: failed to write " + file, e);
+        } finally {
+            // Lets a new recording start after an auto-stop nobody joined.
+            if (writer == Thread.currentThread()) writer = null;
+        }
+    }
+}
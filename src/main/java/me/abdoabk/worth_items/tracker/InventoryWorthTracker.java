@@ -0,0 +1,268 @@
+package me.abdoabk.worth_items.tracker;
+
+import me.abdoabk.worth_items.pricing.BulkValuator;
+import me.abdoabk.worth_items.pricing.PriceService;
+import me.abdoabk.worth_items.pricing.PriceSnapshot;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.CraftItemEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerItemBreakEvent;
+import org.bukkit.event.player.PlayerItemConsumeEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * InventoryWorthTracker — running worth totals per online player.
+ *
+ * Totals match the headline numbers of /worth inventory (inventory + ender
+ * chest, container contents included) and /worth blocks (block items in the
+ * inventory) and are read in O(1) from any thread.
+ *
+ * Updates:
+ *   - pickup, drop, consume and item break apply the delta of the stack involved;
+ *   - clicks, drags, crafts, closing an inventory and death mark the player
+ *     dirty, and dirty players are recounted once on the next tick — Bukkit
+ *     click semantics (cursor, shift-moves, crafting grid) make exact deltas
+ *     for those unreliable;
+ *   - a round-robin reconciliation recounts every online player once per
+ *     reconcile period, a few players per tick, to correct drift from
+ *     changes no event reports (/give, other plugins).
+ *
+ * Mutated on the main thread only.
+ */
+public final class InventoryWorthTracker implements Listener {
+
+    /** Per-player totals. Single writer (main thread), so volatile fields suffice. */
+    private static final class Totals {
+        volatile long total;
+        volatile long blocks;
+    }
+
+    private final JavaPlugin plugin;
+    private final PriceService priceService;
+    private final long reconcileTicks;
+    private final boolean[] isBlock;
+
+    private final Map<UUID, Totals> totals = new ConcurrentHashMap<>();
+    private final Set<UUID> dirty = ConcurrentHashMap.newKeySet();
+    private final ArrayDeque<UUID> reconcileQueue = new ArrayDeque<>();
+    private final LongAdder driftCorrections = new LongAdder();
+    private BukkitTask flushTask;
+    private BukkitTask reconcileTask;
+
+    public InventoryWorthTracker(JavaPlugin plugin, PriceService priceService, long reconcileTicks) {
+        this.plugin         = plugin;
+        this.priceService   = priceService;
+        this.reconcileTicks = Math.max(20, reconcileTicks);
+
+        Material[] materials = Material.values();
+        this.isBlock = new boolean[materials.length];
+        for (Material material : materials) {
+            if (!material.isLegacy()) isBlock[material.ordinal()] = material.isBlock();
+        }
+
+        priceService.changes().subscribe(diff -> markAllDirty());
+    }
+
+    // ── Lifecycle ────────────────────────────────────────────────────────────
+
+    /** Starts tracking everyone online and the reconciliation loop. */
+    public void start() {
+        for (Player player : Bukkit.getOnlinePlayers()) recount(player);
+        reconcileTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                reconcileSome();
+            }
+        }.runTaskTimer(plugin, 1L, 1L);
+    }
+
+    public void shutdown() {
+        if (reconcileTask != null) reconcileTask.cancel();
+        if (flushTask != null) flushTask.cancel();
+        totals.clear();
+    }
+
+    // ── Reads (any thread) ───────────────────────────────────────────────────
+
+    /** Inventory + ender chest worth, container contents included. 0 if not tracked. */
+    public long getTotal(UUID player) {
+        Totals t = totals.get(player);
+        return t == null ? 0 : t.total;
+    }
+
+    /** Worth of block items in the main inventory. 0 if not tracked. */
+    public long getBlocks(UUID player) {
+        Totals t = totals.get(player);
+        return t == null ? 0 : t.blocks;
+    }
+
+    /** Reconciliations that found (and fixed) a wrong total — a drift gauge. */
+    public long getDriftCorrections() { return driftCorrections.sum(); }
+
+    /** Forces a recount on the next tick, e.g. after items were removed by a sale. */
+    public void markDirty(Player player) {
+        if (dirty.add(player.getUniqueId())) scheduleFlush();
+    }
+
+    // ── Delta events ─────────────────────────────────────────────────────────
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        recount(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        totals.remove(event.getPlayer().getUniqueId());
+        dirty.remove(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPickup(EntityPickupItemEvent event) {
+        if (!(event.getEntity() instanceof Player player)) return;
+        ItemStack stack = event.getItem().getItemStack();
+        int taken = stack.getAmount() - event.getRemaining();
+        if (taken <= 0) return;
+        apply(player, stack, taken, +1);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDrop(PlayerDropItemEvent event) {
+        ItemStack stack = event.getItemDrop().getItemStack();
+        apply(event.getPlayer(), stack, stack.getAmount(), -1);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onConsume(PlayerItemConsumeEvent event) {
+        ItemStack item = event.getItem();
+        apply(event.getPlayer(), item, 1, -1);
+        Material remainder = item.getType().getCraftingRemainingItem();   // bucket, glass bottle, …
+        if (remainder != null) apply(event.getPlayer(), new ItemStack(remainder), 1, +1);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onItemBreak(PlayerItemBreakEvent event) {
+        apply(event.getPlayer(), event.getBrokenItem(), 1, -1);
+    }
+
+    // ── Recount events ───────────────────────────────────────────────────────
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onClick(InventoryClickEvent event) {
+        if (event.getWhoClicked() instanceof Player player) markDirty(player);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDrag(InventoryDragEvent event) {
+        if (event.getWhoClicked() instanceof Player player) markDirty(player);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onCraft(CraftItemEvent event) {
+        if (event.getWhoClicked() instanceof Player player) markDirty(player);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onClose(InventoryCloseEvent event) {
+        if (event.getPlayer() instanceof Player player) markDirty(player);   // cursor goes back
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDeath(PlayerDeathEvent event) {
+        markDirty(event.getEntity());
+    }
+
+    // ── Private helpers ──────────────────────────────────────────────────────
+
+    /** Adds (sign +1) or subtracts (sign -1) {@code amount} items of {@code stack}. */
+    private void apply(Player player, ItemStack stack, int amount, int sign) {
+        Totals t = totals.get(player.getUniqueId());
+        if (t == null || stack == null || stack.getAmount() <= 0) return;
+
+        PriceSnapshot prices = priceService.snapshot();
+        long value = BulkValuator.stackValue(stack, prices) * amount / stack.getAmount();
+        t.total += sign * value;
+        if (isBlock[stack.getType().ordinal()]) {
+            t.blocks += sign * (long) prices.getPrice(stack.getType()) * amount;
+        }
+    }
+
+    private void recount(Player player) {
+        PriceSnapshot prices = priceService.snapshot();
+        ItemStack[] contents = player.getInventory().getContents();
+
+        long blocks = 0;
+        for (ItemStack item : contents) {
+            if (item != null && isBlock[item.getType().ordinal()]) {
+                blocks += (long) prices.getPrice(item.getType()) * item.getAmount();
+            }
+        }
+        long total = BulkValuator.value(contents, prices)
+                + BulkValuator.value(player.getEnderChest().getContents(), prices);
+
+        Totals t = totals.computeIfAbsent(player.getUniqueId(), k -> new Totals());
+        t.total  = total;
+        t.blocks = blocks;
+    }
+
+    private void scheduleFlush() {
+        if (flushTask != null || !plugin.isEnabled()) return;
+        flushTask = Bukkit.getScheduler().runTask(plugin, () -> {
+            flushTask = null;
+            for (UUID uuid : dirty) {
+                dirty.remove(uuid);
+                Player player = Bukkit.getPlayer(uuid);
+                if (player != null) recount(player);
+            }
+        });
+    }
+
+    private void markAllDirty() {
+        dirty.addAll(totals.keySet());
+        scheduleFlush();
+    }
+
+    /** Recounts enough players this tick to cover everyone once per reconcile period. */
+    private void reconcileSome() {
+        if (reconcileQueue.isEmpty()) {
+            for (Player player : Bukkit.getOnlinePlayers()) reconcileQueue.add(player.getUniqueId());
+        }
+        long perTick = Math.max(1, (Bukkit.getOnlinePlayers().size() + reconcileTicks - 1) / reconcileTicks);
+
+        for (int i = 0; i < perTick && !reconcileQueue.isEmpty(); i++) {
+            Player player = Bukkit.getPlayer(reconcileQueue.poll());
+            if (player == null) continue;
+
+            Totals before = totals.get(player.getUniqueId());
+            long total  = before == null ? Long.MIN_VALUE : before.total;
+            long blocks = before == null ? Long.MIN_VALUE : before.blocks;
+            recount(player);
+            Totals after = totals.get(player.getUniqueId());
+            if (before != null && (after.total != total || after.blocks != blocks)) {
+                driftCorrections.increment();
+            }
+        }
+    }
+}
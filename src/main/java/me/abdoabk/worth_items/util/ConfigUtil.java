@@ -2,6 +2,8 @@ package me.abdoabk.worth_items.util;
 
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.nio.file.Path;
+
 /**
  * ConfigUtil
  *
@@ -28,6 +30,186 @@ public final class ConfigUtil {
         return plugin.getConfig().getString("display.currency-symbol", "$");
     }
 
+    /** Returns true if hot-path latency metrics should be recorded. */
+    public boolean isMetricsEnabled() {
+        return plugin.getConfig().getBoolean("metrics.enabled", false);
+    }
+
+    /** Returns true if the tick-budget watchdog may shed lore upkeep. */
+    public boolean isLoadSheddingEnabled() {
+        return plugin.getConfig().getBoolean("load-shedding.enabled", true);
+    }
+
+    /** WorthItems' time budget per tick, in nanoseconds. */
+    public long getLoadBudgetNanos() {
+        return (long) (Math.max(0.1, plugin.getConfig().getDouble("load-shedding.budget-ms", 5.0)) * 1_000_000);
+    }
+
+    /** Consecutive ticks over budget before shedding another stage. */
+    public int getLoadEscalateTicks() {
+        return Math.max(1, plugin.getConfig().getInt("load-shedding.escalate-after-ticks", 20));
+    }
+
+    /** Consecutive ticks under the recovery threshold before restoring a stage. */
+    public int getLoadRecoverTicks() {
+        return Math.max(1, plugin.getConfig().getInt("load-shedding.recover-after-ticks", 200));
+    }
+
+    /** Recovery threshold as a percentage of the budget. */
+    public int getLoadRecoverPercent() {
+        return plugin.getConfig().getInt("load-shedding.recover-below-percent", 50);
+    }
+
+    /** Returns true if the JMX MBeans should be registered. */
+    public boolean isJmxEnabled() {
+        return plugin.getConfig().getBoolean("metrics.jmx", true);
+    }
+
+    /** Interval at which every MBean attribute is logged, in ticks (0 = off). */
+    public long getJmxDumpTicks() {
+        return Math.max(0, plugin.getConfig().getLong("metrics.jmx-dump-seconds", 0)) * 20L;
+    }
+
+    /** Price storage backend id: yaml, sqlite or h2. Read at startup only. */
+    public String getStorageBackend() {
+        return plugin.getConfig().getString("storage.backend", "yaml");
+    }
+
+    /** Rows per JDBC batch for the SQL storage backends. */
+    public int getStorageBatchSize() {
+        return Math.max(1, plugin.getConfig().getInt("storage.batch-size", 500));
+    }
+
+    /** price-sync.role: off, publisher or follower. */
+    public String getSyncRole() {
+        return plugin.getConfig().getString("price-sync.role", "off");
+    }
+
+    /** This shard's id in sync messages; defaults to shard-&lt;port&gt;. */
+    public String getSyncNodeId() {
+        String id = plugin.getConfig().getString("price-sync.node-id", "");
+        return id == null || id.isBlank() ? "shard-" + plugin.getServer().getPort() : id;
+    }
+
+    /** price-sync.transport: plugin-messaging or directory. */
+    public String getSyncTransport() {
+        return plugin.getConfig().getString("price-sync.transport", "directory");
+    }
+
+    /** Shared sync folder, relative paths resolved against the plugin's data folder. */
+    public Path getSyncDirectory() {
+        String dir = plugin.getConfig().getString("price-sync.directory", "../../../price-sync");
+        return plugin.getDataFolder().toPath().resolve(dir).normalize();
+    }
+
+    public long getSyncPollTicks() {
+        return Math.max(1, plugin.getConfig().getLong("price-sync.poll-seconds", 5)) * 20L;
+    }
+
+    public int getSyncKeepFiles() {
+        return Math.max(2, plugin.getConfig().getInt("price-sync.keep-files", 32));
+    }
+
+    public long getSyncFullIntervalTicks() {
+        return Math.max(1, plugin.getConfig().getLong("price-sync.full-interval-seconds", 300)) * 20L;
+    }
+
+    /** Returns the worker thread count for /worth top scans (0 = one less than CPU cores). */
+    public int getScanThreads() {
+        int threads = plugin.getConfig().getInt("scan.threads", 0);
+        return threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    }
+
+    /** Returns the largest radius /worth area accepts. */
+    public int getAreaMaxRadius() {
+        return Math.max(1, plugin.getConfig().getInt("area.max-radius", 128));
+    }
+
+    /** Per-call timeout for async economy operations, in milliseconds. */
+    public long getEconomyTimeoutMillis() {
+        return Math.max(1, plugin.getConfig().getLong("economy.timeout-ms", 1000));
+    }
+
+    /** Maximum concurrent async economy calls per provider. */
+    public int getEconomyMaxInFlight() {
+        return Math.max(1, plugin.getConfig().getInt("economy.max-in-flight", 64));
+    }
+
+    /** Consecutive failures/timeouts that open the economy circuit breaker. */
+    public int getEconomyFailureThreshold() {
+        return Math.max(1, plugin.getConfig().getInt("economy.failure-threshold", 5));
+    }
+
+    /** How long the economy circuit stays open before a probe call, in milliseconds. */
+    public long getEconomyOpenMillis() {
+        return Math.max(0, plugin.getConfig().getLong("economy.open-seconds", 10)) * 1000L;
+    }
+
+    /** Whether VaultBridge balance reads may be served from the short-TTL cache. */
+    public boolean isBalanceCacheEnabled() {
+        return plugin.getConfig().getBoolean("economy.balance-cache.enabled", false);
+    }
+
+    /** How stale a cached balance may be before the provider is asked again, in milliseconds. */
+    public long getBalanceCacheTtlMillis() {
+        return Math.max(0, plugin.getConfig().getLong("economy.balance-cache.ttl-ms", 1000));
+    }
+
+    /** Materials resolved per tick by the first price compile after startup. */
+    public int getWarmUpCompilePerTick() {
+        return Math.max(1, plugin.getConfig().getInt("warm-up.compile-per-tick", 200));
+    }
+
+    /** Maximum Essentials worth updates pushed per tick during a price sync. */
+    public int getEssentialsSyncPerTick() {
+        return Math.max(1, plugin.getConfig().getInt("essentials.sync-per-tick", 200));
+    }
+
+    /** Longest a cached placeholder worth is trusted without an inventory event, in milliseconds. */
+    public long getPlaceholderMaxAgeMillis() {
+        return Math.max(1, plugin.getConfig().getLong("placeholders.max-age-seconds", 5)) * 1000L;
+    }
+
+    /** Period in which every online player's tracked worth is fully recounted, in ticks. */
+    public long getTrackerReconcileTicks() {
+        return Math.max(1, plugin.getConfig().getLong("tracker.reconcile-seconds", 30)) * 20L;
+    }
+
+    /** Whether sales are written to the append-only sell journal. */
+    public boolean isJournalEnabled() {
+        return plugin.getConfig().getBoolean("journal.enabled", true);
+    }
+
+    /** Size at which the sell journal rotates to a new segment file, in bytes. */
+    public long getJournalSegmentBytes() {
+        return Math.max(1, plugin.getConfig().getLong("journal.segment-size-mb", 16)) * 1024L * 1024L;
+    }
+
+    /** Number of journal segments kept before the oldest is deleted. */
+    public int getJournalMaxSegments() {
+        return Math.max(1, plugin.getConfig().getInt("journal.max-segments", 64));
+    }
+
+    /** Capacity of the event trace ring buffer, in events. */
+    public int getTraceBufferEvents() {
+        return Math.max(1024, plugin.getConfig().getInt("trace.buffer-events", 65536));
+    }
+
+    /** Recording length after which /worth trace stops by itself, in ticks (0 = no limit). */
+    public long getTraceMaxTicks() {
+        return Math.max(0, plugin.getConfig().getLong("trace.max-minutes", 60)) * 60L * 20L;
+    }
+
+    /** Returns true if config.yml should be reloaded automatically when saved. */
+    public boolean isHotReloadEnabled() {
+        return plugin.getConfig().getBoolean("hot-reload.enabled", false);
+    }
+
+    /** Quiet period after the last write to config.yml before it is read. */
+    public long getHotReloadDebounceMillis() {
+        return Math.max(50, plugin.getConfig().getLong("hot-reload.debounce-ms", 500));
+    }
+
     /**
      * Reloads config.yml from disk.
      * Callers (e.g. ReloadCommand) should prefer Worth_items#fullReload()
@@ -0,0 +1,102 @@
+package me.abdoabk.worth_items.util;
+
+import me.abdoabk.worth_items.pricing.Tier;
+import me.abdoabk.worth_items.pricing.storage.PriceBackends;
+import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * ConfigValidator — checks a parsed config.yml before it replaces the live one.
+ *
+ * Errors are values the plugin can't use (a tier whose min is above its max,
+ * a non-numeric price); any error rejects the whole file. Warnings are values
+ * that are ignored or only take effect later (unknown materials, a storage
+ * backend change, which needs a restart).
+ *
+ * Pure reads of the given configuration — safe off the main thread.
+ */
+public final class ConfigValidator {
+
+    public record Result(List<String> errors, List<String> warnings) {
+        public boolean ok() { return errors.isEmpty(); }
+    }
+
+    private ConfigValidator() {}
+
+    public static Result validate(FileConfiguration config) {
+        List<String> errors   = new ArrayList<>();
+        List<String> warnings = new ArrayList<>();
+
+        for (Tier tier : Tier.values()) {
+            String path = "tiers." + tier.name().toLowerCase(Locale.ROOT);
+            if (!config.isConfigurationSection(path)) continue;
+            boolean min = number(config, path + ".min", errors);
+            boolean max = number(config, path + ".max", errors);
+            if (min && max && config.getInt(path + ".min") > config.getInt(path + ".max")) {
+                errors.add(path + ": min is above max");
+            }
+        }
+
+        if (config.contains("price-seed") && !(config.isInt("price-seed") || config.isLong("price-seed"))) {
+            errors.add("price-seed: must be a whole number");
+        }
+
+        ConfigurationSection special = config.getConfigurationSection("special-items");
+        if (special != null) {
+            for (String key : special.getKeys(false)) {
+                if (!special.isInt(key) || special.getInt(key) < 0) {
+                    errors.add("special-items." + key + ": must be a whole number of at least 0");
+                }
+                if (Material.matchMaterial(key) == null) warnings.add("special-items." + key + ": unknown material");
+            }
+        }
+
+        ConfigurationSection sources = config.getConfigurationSection("price-sources");
+        if (sources != null) {
+            for (String key : sources.getKeys(false)) {
+                if (!sources.isInt(key)) errors.add("price-sources." + key + ": must be a whole number");
+            }
+        }
+
+        if (config.contains("blacklist")) {
+            if (!config.isList("blacklist")) {
+                errors.add("blacklist: must be a list of materials");
+            } else {
+                for (String name : config.getStringList("blacklist")) {
+                    if (Material.matchMaterial(name) == null) warnings.add("blacklist: unknown material " + name);
+                }
+            }
+        }
+
+        ConfigurationSection limits = config.getConfigurationSection("sell-limits.materials");
+        if (limits != null) {
+            for (String key : limits.getKeys(false)) {
+                if (Material.matchMaterial(key) == null) warnings.add("sell-limits.materials." + key + ": unknown material");
+            }
+        }
+
+        if (config.contains("load-shedding.budget-ms") && !config.isDouble("load-shedding.budget-ms")
+                && !config.isInt("load-shedding.budget-ms")) {
+            errors.add("load-shedding.budget-ms: must be a number");
+        }
+
+        String backend = config.getString("storage.backend", "yaml");
+        if (!PriceBackends.IDS.contains(backend)) {
+            warnings.add("storage.backend: unknown backend '" + backend + "' (valid: " + PriceBackends.IDS + ")");
+        }
+
+        return new Result(errors, warnings);
+    }
+
+    /** True if the path is absent (its default applies) or a whole number; otherwise records an error. */
+    private static boolean number(FileConfiguration config, String path, List<String> errors) {
+        if (!config.contains(path, true) || config.isInt(path)) return true;
+        errors.add(path + ": must be a whole number");
+        return false;
+    }
+}
@@ -0,0 +1,177 @@
+package me.abdoabk.worth_items.util;
+
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * ConfigWatcher — reloads config.yml when it changes on disk (hot-reload).
+ *
+ * A WatchService on the data folder wakes a background thread, which waits
+ * until the file has been quiet for {@code debounceMillis} (editors often
+ * write several times, or write a temp file and rename it), then reads,
+ * parses and validates it there. A file with invalid YAML or a
+ * {@link ConfigValidator} error is rejected and logged, and the current config
+ * stays live. A valid one is handed to {@code onChange} on the main thread,
+ * already parsed, with the jar's defaults attached — the main thread only
+ * swaps it in and recompiles prices.
+ *
+ * Unchanged content (a touch, or an edit that was undone) is ignored.
+ */
+public final class ConfigWatcher {
+
+    private static final String FILE_NAME = "config.yml";
+
+    private final JavaPlugin plugin;
+    private final Path folder;
+    private final long debounceNanos;
+    private final Consumer<FileConfiguration> onChange;
+
+    private WatchService watchService;
+    private Thread thread;
+    private volatile String lastText;    // content last applied or rejected
+
+    public ConfigWatcher(JavaPlugin plugin, long debounceMillis, Consumer<FileConfiguration> onChange) {
+        this.plugin        = plugin;
+        this.folder        = plugin.getDataFolder().toPath();
+        this.debounceNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(50, debounceMillis));
+        this.onChange      = onChange;
+    }
+
+    // ── Lifecycle ────────────────────────────────────────────────────────────
+
+    public void start() {
+        try {
+            lastText = Files.readString(folder.resolve(FILE_NAME));
+            watchService = FileSystems.getDefault().newWatchService();
+            folder.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Hot reload: cannot watch " + folder + " — disabled", e);
+            return;
+        }
+        thread = new Thread(this::run, "WorthItems-ConfigWatcher");
+        thread.setDaemon(true);
+        thread.start();
+        plugin.getLogger().info("Hot reload: watching " + FILE_NAME + " for changes.");
+    }
+
+    public void close() {
+        if (thread == null) return;
+        thread.interrupt();
+        try {
+            watchService.close();     // wakes take()
+        } catch (IOException ignored) {
+            // closing anyway
+        }
+        thread = null;
+    }
+
+    public boolean isRunning() {
+        return thread != null;
+    }
+
+    /**
+     * Records content applied some other way (e.g. /worth reload), so the
+     * watcher doesn't apply the same file a second time.
+     */
+    public void markCurrent() {
+        try {
+            lastText = Files.readString(folder.resolve(FILE_NAME));
+        } catch (IOException ignored) {
+            // next change is compared against the old content, at worst one redundant reload
+        }
+    }
+
+    // ── Watcher thread ───────────────────────────────────────────────────────
+
+    private void run() {
+        long due = 0;      // nanoTime to read the file at; 0 = no change pending
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = due == 0
+                        ? watchService.take()
+                        : watchService.poll(Math.max(0, due - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                                || FILE_NAME.equals(String.valueOf(event.context()))) {
+                            due = System.nanoTime() + debounceNanos;
+                        }
+                    }
+                    if (!key.reset()) {
+                        plugin.getLogger().warning("Hot reload: " + folder + " is no longer accessible — stopped.");
+                        return;
+                    }
+                }
+                if (due != 0 && System.nanoTime() - due >= 0) {
+                    due = 0;
+                    check();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // close()
+        }
+    }
+
+    private void check() {
+        String text;
+        try {
+            text = Files.readString(folder.resolve(FILE_NAME));
+        } catch (NoSuchFileException e) {
+            return;     // mid-rename; the create event that follows brings us back
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Hot reload: could not read " + FILE_NAME, e);
+            return;
+        }
+        if (text.equals(lastText)) return;
+        lastText = text;
+
+        YamlConfiguration parsed = new YamlConfiguration();
+        try {
+            parsed.loadFromString(text);
+        } catch (InvalidConfigurationException e) {
+            plugin.getLogger().warning("Hot reload: " + FILE_NAME + " is not valid YAML — keeping the current config.\n"
+                    + e.getMessage());
+            return;
+        }
+        parsed.setDefaults(defaults());
+
+        ConfigValidator.Result result = ConfigValidator.validate(parsed);
+        for (String warning : result.warnings()) plugin.getLogger().warning("Hot reload: " + warning);
+        if (!result.ok()) {
+            plugin.getLogger().warning("Hot reload: " + FILE_NAME + " rejected, keeping the current config — "
+                    + String.join("; ", result.errors()));
+            return;
+        }
+
+        if (plugin.isEnabled()) plugin.getServer().getScheduler().runTask(plugin, () -> onChange.accept(parsed));
+    }
+
+    /** The config.yml bundled in the jar, as reloadConfig() would attach. */
+    private YamlConfiguration defaults() {
+        try (InputStream in = plugin.getResource(FILE_NAME)) {
+            if (in == null) return new YamlConfiguration();
+            return YamlConfiguration.loadConfiguration(new InputStreamReader(in, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            return new YamlConfiguration();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package me.abdoabk.worth_items.util;
 
+import me.abdoabk.worth_items.metrics.HotPath;
+import me.abdoabk.worth_items.metrics.WorthMetrics;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
@@ -27,12 +29,14 @@ public final class ItemUtil {
 
     private static final String WORTH_PREFIX = "Worth: ";
     private static NamespacedKey WORTH_KEY;
+    private static WorthMetrics METRICS = new WorthMetrics();   // disabled until init()
 
     private ItemUtil() {}
 
     /** MUST be called once in onEnable(). */
-    public static void init(JavaPlugin plugin) {
+    public static void init(JavaPlugin plugin, WorthMetrics metrics) {
         WORTH_KEY = new NamespacedKey(plugin, "worth");
+        METRICS   = metrics;
     }
 
     /**
@@ -65,6 +69,15 @@ public final class ItemUtil {
      * Safe to call multiple times — will not duplicate.
      */
     public static void applyPriceLore(ItemStack item, int price, String currency) {
+        long start = METRICS.start();
+        try {
+            writePriceLore(item, price, currency);
+        } finally {
+            METRICS.stop(HotPath.APPLY_LORE, start);
+        }
+    }
+
+    private static void writePriceLore(ItemStack item, int price, String currency) {
         if (item == null || item.getType() == Material.AIR) return;
         if (price <= 0) return;
 